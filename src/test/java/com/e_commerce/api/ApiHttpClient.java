@@ -0,0 +1,155 @@
+package com.e_commerce.api;
+
+import com.e_commerce.core.FrameworkConfig;
+import com.e_commerce.utils.HttpConnectionTelemetry;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.client.params.CookiePolicy;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One HTTP client for every REST Assured call in the JVM: pooled keep-alive connections
+ * with per-route limits and a single SSLContext, so TLS sessions are resumed instead of
+ * renegotiated. Each request is recorded in {@link HttpConnectionTelemetry} as reusing a
+ * pooled connection or opening a new one (with the connect and handshake time).
+ *
+ * Settings (api.http.*): maxTotal, maxPerRoute, keepAliveMs (when the server sends no
+ * Keep-Alive timeout), connectTimeoutMs, socketTimeoutMs, tlsSessionCacheSize, tlsSessionTimeoutSec.
+ */
+// REST Assured 5 only accepts an AbstractHttpClient, so the deprecated HttpClient 4.x API is unavoidable here
+@SuppressWarnings("deprecation")
+public final class ApiHttpClient {
+
+    private static final String OPENED_AT = "api.connection.openedMs";
+
+    private static volatile RestAssuredConfig config;
+
+    private ApiHttpClient() {
+    }
+
+    /**
+     * REST Assured config using the shared client, created on first call
+     */
+    public static RestAssuredConfig config() {
+        if (config == null) {
+            synchronized (ApiHttpClient.class) {
+                if (config == null) {
+                    DefaultHttpClient shared = createClient();
+                    // Reuse the instance, otherwise REST Assured shuts the pool down after every response
+                    config = RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                        .reuseHttpClientInstance()
+                        .httpClientFactory(() -> shared));
+                    Runtime.getRuntime().addShutdownHook(new Thread(() -> shared.getConnectionManager().shutdown()));
+                }
+            }
+        }
+        return config;
+    }
+
+    private static DefaultHttpClient createClient() {
+        SchemeRegistry schemes = new SchemeRegistry();
+        schemes.register(new Scheme("http", 80, PlainSocketFactory.getSocketFactory()));
+        schemes.register(new Scheme("https", 443, new SSLSocketFactory(sslContext(),
+            SSLSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER)));
+
+        PoolingClientConnectionManager pool = new PoolingClientConnectionManager(schemes) {
+            @Override
+            protected ClientConnectionOperator createConnectionOperator(SchemeRegistry registry) {
+                return new TimedConnectionOperator(registry);
+            }
+        };
+        pool.setMaxTotal(FrameworkConfig.getInt("api.http.maxTotal", 50));
+        pool.setDefaultMaxPerRoute(FrameworkConfig.getInt("api.http.maxPerRoute", 20));
+
+        DefaultHttpClient httpClient = new DefaultHttpClient(pool);
+        HttpParams params = httpClient.getParams();
+        HttpConnectionParams.setConnectionTimeout(params, FrameworkConfig.getInt("api.http.connectTimeoutMs", 10000));
+        HttpConnectionParams.setSoTimeout(params, FrameworkConfig.getInt("api.http.socketTimeoutMs", 30000));
+        HttpConnectionParams.setTcpNoDelay(params, true);
+        // Fail instead of waiting forever when every pooled connection is leased
+        params.setLongParameter(ClientPNames.CONN_MANAGER_TIMEOUT, FrameworkConfig.getLong("api.http.connectTimeoutMs", 10000));
+        // Cookies are sent explicitly per request, a shared cookie store would leak sessions between tests
+        params.setParameter(ClientPNames.COOKIE_POLICY, CookiePolicy.IGNORE_COOKIES);
+
+        long keepAliveMs = FrameworkConfig.getLong("api.http.keepAliveMs", 30000);
+        httpClient.setKeepAliveStrategy((response, context) -> {
+            long serverMs = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverMs > 0 ? serverMs : keepAliveMs;
+        });
+        // Runs once the connection is established, just before the request is sent
+        httpClient.addRequestInterceptor(ApiHttpClient::recordConnection);
+        // REST Assured reads bodies lazily; read them here so the connection goes back to the pool
+        // even when a test only checks the status code
+        httpClient.addResponseInterceptor((response, context) -> {
+            HttpEntity entity = response.getEntity();
+            if (entity != null && entity.isStreaming()) {
+                response.setEntity(new BufferedHttpEntity(entity));
+            }
+        });
+        return httpClient;
+    }
+
+    private static SSLContext sslContext() {
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(null, null, null);
+            context.getClientSessionContext().setSessionCacheSize(FrameworkConfig.getInt("api.http.tlsSessionCacheSize", 100));
+            context.getClientSessionContext().setSessionTimeout(FrameworkConfig.getInt("api.http.tlsSessionTimeoutSec", 3600));
+            return context;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialise TLS for the API client", e);
+        }
+    }
+
+    private static void recordConnection(HttpRequest request, HttpContext context) {
+        Object openedMs = context.removeAttribute(OPENED_AT);
+        String path = request.getRequestLine().getUri().replaceFirst("\\?.*", "");
+        if (!path.startsWith("/")) {
+            path = URI.create(path).getPath();
+        }
+        HttpConnectionTelemetry.record(request.getRequestLine().getMethod() + " " + path,
+            openedMs == null ? -1 : (Long) openedMs);
+    }
+
+    /**
+     * Times opening a connection (connect, plus the TLS handshake for https) and leaves it in the request context
+     */
+    private static class TimedConnectionOperator extends DefaultClientConnectionOperator {
+
+        TimedConnectionOperator(SchemeRegistry registry) {
+            super(registry);
+        }
+
+        @Override
+        public void openConnection(OperatedClientConnection conn, HttpHost target, InetAddress local,
+                                   HttpContext context, HttpParams params) throws IOException {
+            long start = System.nanoTime();
+            super.openConnection(conn, target, local, context, params);
+            context.setAttribute(OPENED_AT, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+}
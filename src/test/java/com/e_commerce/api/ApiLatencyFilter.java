@@ -0,0 +1,28 @@
+package com.e_commerce.api;
+
+import com.e_commerce.utils.ApiLatencyTelemetry;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every API call into {@link ApiLatencyTelemetry} by request path. Added after the
+ * cassette filter, so replayed responses (which never reach the server) are not timed.
+ */
+public class ApiLatencyFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        ApiLatencyTelemetry.record(URI.create(requestSpec.getURI()).getPath(),
+            TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        return response;
+    }
+}
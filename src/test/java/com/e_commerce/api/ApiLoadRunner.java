@@ -0,0 +1,322 @@
+package com.e_commerce.api;
+
+import com.e_commerce.core.FrameworkConfig;
+import com.e_commerce.core.SiteUnderTest;
+import com.e_commerce.utils.ContractTelemetry;
+import com.e_commerce.utils.CsvUtil;
+import com.e_commerce.utils.LatencyHistogram;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Closed-model load run over the API test request definitions ({@link ApiRequests}): a fixed
+ * number of workers each send the next request as soon as the previous one returns, cycling
+ * through the configured workloads, for a warm-up and then a measured period. Latencies go
+ * into one {@link LatencyHistogram} per endpoint and worker, merged at the end.
+ *
+ * Settings (load.*): workloads (names from {@link #WORKLOADS}), concurrency, durationSec,
+ * warmupSec, virtualThreads (workers on virtual threads, needs Java 21; set by the java21 profile),
+ * contracts. Responses with HTTP status 400 and above or that throw count as errors, their latency is
+ * still recorded. Schema checks are off by default, since validation runs inside the measured latency;
+ * with load.contracts=true, violations are counted and the validation time goes to api_contracts.csv.
+ *
+ * Usage: mvn verify -Pload -Dload.concurrency=16 -Dload.durationSec=60
+ * or: java -cp &lt;test classpath&gt; com.e_commerce.api.ApiLoadRunner
+ */
+public class ApiLoadRunner {
+
+    /**
+     * Request definitions by workload name, the same calls the API tests make
+     */
+    public static final Map<String, Function<RequestSpecification, Response>> WORKLOADS;
+
+    static {
+        Map<String, Function<RequestSpecification, Response>> workloads = new LinkedHashMap<>();
+        workloads.put("productsList", ApiRequests::productsList);
+        workloads.put("brandsList", ApiRequests::brandsList);
+        workloads.put("searchProduct", spec -> ApiRequests.searchProduct(spec, "top"));
+        workloads.put("addToCart", spec -> ApiRequests.addToCart(spec, "1", "1"));
+        workloads.put("getCart", ApiRequests::getCart);
+        workloads.put("createOrder", spec -> ApiRequests.createOrder(spec, "1", "1", "1", "credit_card"));
+        workloads.put("getOrderDetails", spec -> ApiRequests.getOrderDetails(spec, "12345"));
+        WORKLOADS = Collections.unmodifiableMap(workloads);
+    }
+
+    private static final List<String> HEADERS = Arrays.asList(
+        "Endpoint", "Requests", "Errors", "ThroughputPerSec", "MeanMs", "P50Ms", "P90Ms", "P99Ms", "MaxMs");
+
+    private final String baseUrl;
+    private final List<String> workloads;
+    private final int concurrency;
+    private final long durationMs;
+    private final long warmupMs;
+    private final boolean virtualThreads;
+
+    public ApiLoadRunner(String baseUrl, List<String> workloads, int concurrency,
+                         long durationMs, long warmupMs, boolean virtualThreads) {
+        for (String workload : workloads) {
+            if (!WORKLOADS.containsKey(workload)) {
+                throw new IllegalArgumentException("Unknown workload '" + workload + "', expected one of " + WORKLOADS.keySet());
+            }
+        }
+        this.baseUrl = baseUrl;
+        this.workloads = new ArrayList<>(workloads);
+        this.concurrency = Math.max(1, concurrency);
+        this.durationMs = Math.max(1, durationMs);
+        this.warmupMs = Math.max(0, warmupMs);
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Runner as configured by load.* against site.baseUrl
+     */
+    public static ApiLoadRunner fromConfig() {
+        List<String> workloads = new ArrayList<>();
+        for (String name : FrameworkConfig.getString("load.workloads", "productsList,searchProduct,addToCart").split(",")) {
+            if (!name.trim().isEmpty()) {
+                workloads.add(name.trim());
+            }
+        }
+        return new ApiLoadRunner(SiteUnderTest.baseUrl(), workloads,
+            FrameworkConfig.getInt("load.concurrency", 8),
+            TimeUnit.SECONDS.toMillis(FrameworkConfig.getLong("load.durationSec", 30)),
+            TimeUnit.SECONDS.toMillis(FrameworkConfig.getLong("load.warmupSec", 5)),
+            FrameworkConfig.getBoolean("load.virtualThreads", false));
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = FrameworkConfig.getInt("load.concurrency", 8);
+        // More workers than pooled connections would measure the wait for a connection, not the server
+        if (FrameworkConfig.getInt("api.http.maxPerRoute", 20) < concurrency) {
+            System.setProperty("api.http.maxPerRoute", String.valueOf(concurrency));
+        }
+        if (FrameworkConfig.getInt("api.http.maxTotal", 50) < concurrency) {
+            System.setProperty("api.http.maxTotal", String.valueOf(concurrency));
+        }
+        ApiLoadRunner runner = fromConfig();
+        List<EndpointResult> results = runner.run();
+        results.forEach(System.out::println);
+        writeCsv(results, FrameworkConfig.reportFile("load_test.csv"));
+        if (!ContractTelemetry.isEmpty()) {
+            ContractTelemetry.writeCsv();
+            System.out.println(ContractTelemetry.getSummary());
+        }
+    }
+
+    /**
+     * Warm up, then measure for the configured duration
+     * @return one result per endpoint, in workload order
+     */
+    public List<EndpointResult> run() throws InterruptedException {
+        RequestSpecBuilder specBuilder = new RequestSpecBuilder()
+            .setBaseUri(baseUrl)
+            .setBasePath(BaseAPITest.API_BASE_PATH)
+            .setConfig(ApiHttpClient.config())
+            .addHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64)");
+        if (FrameworkConfig.getBoolean("load.contracts", false)) {
+            specBuilder.addFilter(new ContractFilter(false));
+        }
+        RequestSpecification spec = specBuilder.build();
+        // One untimed call per workload first: REST Assured's first request loads Groovy and can take seconds
+        for (String workload : workloads) {
+            try {
+                WORKLOADS.get(workload).apply(spec);
+            } catch (RuntimeException e) {
+                System.out.println("Load run: " + workload + " failed before the run: " + e.getMessage());
+            }
+        }
+
+        ExecutorService executor = workerExecutor();
+        System.out.println("Load run: " + concurrency + " workers, " + warmupMs + " ms warm-up, "
+            + durationMs + " ms measured, workloads " + workloads);
+        long measureFrom = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(warmupMs);
+        long deadline = measureFrom + TimeUnit.MILLISECONDS.toNanos(durationMs);
+
+        List<Future<Map<String, EndpointStats>>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            int offset = i;
+            futures.add(executor.submit(() -> work(spec, offset, measureFrom, deadline)));
+        }
+        executor.shutdown();
+
+        Map<String, EndpointStats> merged = new LinkedHashMap<>();
+        for (String workload : workloads) {
+            merged.put(workload, new EndpointStats());
+        }
+        try {
+            for (Future<Map<String, EndpointStats>> future : futures) {
+                future.get().forEach((name, stats) -> merged.get(name).add(stats));
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Load worker failed", e.getCause());
+        }
+
+        List<EndpointResult> results = new ArrayList<>();
+        merged.forEach((name, stats) -> results.add(new EndpointResult(endpoint(name), stats, durationMs)));
+        return results;
+    }
+
+    /**
+     * One worker: send requests back to back until the deadline, starting at its own offset in the
+     * workload list so the endpoints are mixed evenly across workers
+     */
+    private Map<String, EndpointStats> work(RequestSpecification spec, int offset, long measureFrom, long deadline) {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        for (String workload : workloads) {
+            stats.put(workload, new EndpointStats());
+        }
+        int next = offset;
+        while (true) {
+            String workload = workloads.get(next++ % workloads.size());
+            long start = System.nanoTime();
+            if (start >= deadline) {
+                return stats;
+            }
+            boolean error;
+            try {
+                error = WORKLOADS.get(workload).apply(spec).getStatusCode() >= 400;
+            } catch (RuntimeException e) {
+                error = true;
+            }
+            if (start >= measureFrom) {
+                stats.get(workload).record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start), error);
+            }
+        }
+    }
+
+    private ExecutorService workerExecutor() {
+        if (virtualThreads) {
+            try {
+                ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                System.out.println("Load workers run on virtual threads");
+                return executor;
+            } catch (ReflectiveOperationException e) {
+                System.out.println("Virtual threads need Java 21, running load workers on platform threads");
+            }
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "load-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static String endpoint(String workload) {
+        return BaseAPITest.API_BASE_PATH + "/" + workload;
+    }
+
+    /**
+     * Write the results table to CSV
+     */
+    public static void writeCsv(List<EndpointResult> results, String path) {
+        List<Map<String, String>> data = new ArrayList<>();
+        for (EndpointResult result : results) {
+            List<String> row = result.toRow();
+            Map<String, String> map = new LinkedHashMap<>();
+            for (int i = 0; i < HEADERS.size(); i++) {
+                map.put(HEADERS.get(i), row.get(i));
+            }
+            data.add(map);
+        }
+        try {
+            new CsvUtil().writeCsv(path, data, HEADERS);
+            System.out.println("Load test results saved: " + path);
+        } catch (IOException e) {
+            System.err.println("Failed to write load test results: " + e.getMessage());
+        }
+    }
+
+    private static class EndpointStats {
+        private final LatencyHistogram latencyMicros = new LatencyHistogram();
+        private long errors;
+
+        void record(long micros, boolean error) {
+            latencyMicros.recordValue(micros);
+            if (error) {
+                errors++;
+            }
+        }
+
+        void add(EndpointStats other) {
+            latencyMicros.add(other.latencyMicros);
+            errors += other.errors;
+        }
+    }
+
+    /**
+     * Throughput and latency percentiles of one endpoint over the measured period
+     */
+    public static class EndpointResult {
+        private final String endpoint;
+        private final long requests;
+        private final long errors;
+        private final double throughputPerSec;
+        private final LatencyHistogram latencyMicros;
+
+        EndpointResult(String endpoint, EndpointStats stats, long durationMs) {
+            this.endpoint = endpoint;
+            this.requests = stats.latencyMicros.getTotalCount();
+            this.errors = stats.errors;
+            this.throughputPerSec = requests * 1000.0 / durationMs;
+            this.latencyMicros = stats.latencyMicros;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public double getThroughputPerSec() {
+            return throughputPerSec;
+        }
+
+        /**
+         * Latency at a percentile (0..100) in milliseconds
+         */
+        public double getLatencyMs(double percentile) {
+            return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        public double getMaxMs() {
+            return latencyMicros.getMaxValue() / 1000.0;
+        }
+
+        List<String> toRow() {
+            return Arrays.asList(endpoint, String.valueOf(requests), String.valueOf(errors),
+                String.format("%.1f", throughputPerSec), String.format("%.2f", latencyMicros.getMean() / 1000.0),
+                String.format("%.2f", getLatencyMs(50)), String.format("%.2f", getLatencyMs(90)),
+                String.format("%.2f", getLatencyMs(99)), String.format("%.2f", getMaxMs()));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-20s %7d requests %5d errors %8.1f req/s  p50 %.2f ms  p99 %.2f ms  max %.2f ms",
+                endpoint, requests, errors, throughputPerSec, getLatencyMs(50), getLatencyMs(99), getMaxMs());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.e_commerce.api;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Request definitions shared by the API tests, {@link ApiLoadRunner} and {@link JourneySimulator}:
+ * the tests assert on the response, the load runs only time it. Each call sends one request on a copy of the spec.
+ */
+public final class ApiRequests {
+
+    private ApiRequests() {
+    }
+
+    /**
+     * Create an account with the test address, named "firstName lastName"
+     */
+    public static Response createAccount(RequestSpecification spec, String email, String password,
+                                         String firstName, String lastName) {
+        return given().spec(spec)
+            .formParam("name", firstName + " " + lastName)
+            .formParam("email", email)
+            .formParam("password", password)
+            .formParam("title", "Mr")
+            .formParam("birth_date", "15")
+            .formParam("birth_month", "5")
+            .formParam("birth_year", "1990")
+            .formParam("firstname", firstName)
+            .formParam("lastname", lastName)
+            .formParam("company", "Test Company")
+            .formParam("address1", "123 Test Street")
+            .formParam("country", "India")
+            .formParam("zipcode", "12345")
+            .formParam("state", "Test State")
+            .formParam("city", "Test City")
+            .formParam("mobile_number", "1234567890")
+            .when().post("/createAccount");
+    }
+
+    public static Response verifyLogin(RequestSpecification spec, String email, String password) {
+        return given().spec(spec).formParam("email", email).formParam("password", password)
+            .when().post("/verifyLogin");
+    }
+
+    public static Response deleteAccount(RequestSpecification spec, String email, String password) {
+        return given().spec(spec).formParam("email", email).formParam("password", password)
+            .when().delete("/deleteAccount");
+    }
+
+    public static Response productsList(RequestSpecification spec) {
+        return given().spec(spec).when().get("/productsList");
+    }
+
+    public static Response brandsList(RequestSpecification spec) {
+        return given().spec(spec).when().get("/brandsList");
+    }
+
+    public static Response searchProduct(RequestSpecification spec, String keyword) {
+        return given().spec(spec).formParam("search_product", keyword).when().post("/searchProduct");
+    }
+
+    public static Response addToCart(RequestSpecification spec, Object productId, Object quantity) {
+        return given().spec(spec).formParam("product_id", productId).formParam("quantity", quantity)
+            .when().post("/addToCart");
+    }
+
+    public static Response getCart(RequestSpecification spec) {
+        return given().spec(spec).when().get("/getCart");
+    }
+
+    public static Response createOrder(RequestSpecification spec, Object userId, Object productId,
+                                       Object quantity, String paymentMethod) {
+        return given().spec(spec)
+            .formParam("user_id", userId)
+            .formParam("product_id", productId)
+            .formParam("quantity", quantity)
+            .formParam("payment_method", paymentMethod)
+            .when().post("/createOrder");
+    }
+
+    public static Response getOrderDetails(RequestSpecification spec, String orderId) {
+        return given().spec(spec).queryParam("order_id", orderId).when().get("/getOrderDetails");
+    }
+
+    public static Response processCardPayment(RequestSpecification spec, String orderId, String paymentMethod,
+                                              String cardNumber, String cardExpiry, String cardCvv, String amount) {
+        return given().spec(spec)
+            .formParam("order_id", orderId)
+            .formParam("payment_method", paymentMethod)
+            .formParam("card_number", cardNumber)
+            .formParam("card_expiry", cardExpiry)
+            .formParam("card_cvv", cardCvv)
+            .formParam("amount", amount)
+            .when().post("/processPayment");
+    }
+}
@@ -0,0 +1,248 @@
+package com.e_commerce.api;
+
+import com.e_commerce.core.FrameworkConfig;
+import com.google.gson.JsonElement;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JVM-wide cache of idempotent API GETs (/productsList, /brandsList) for tests that only need
+ * catalog data as input. Tests that check those endpoints call them directly and still hit the network.
+ *
+ * A response is served from memory for api.cache.ttlSec. After that it is revalidated with
+ * If-None-Match / If-Modified-Since when the server sent an ETag or Last-Modified, and a 304 keeps
+ * the cached body for another TTL. Concurrent misses of the same path share one request.
+ * The shared cache records and replays its calls like the API test classes (api.cassette.mode),
+ * so catalog-driven test input needs no network in replay mode either.
+ */
+public class ApiResponseCache {
+
+    private static volatile ApiResponseCache shared;
+
+    private final RequestSpecification spec;
+    private final CassetteFilter cassette;
+    private final long ttlNanos;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong fetches = new AtomicLong();
+    private final AtomicLong revalidated = new AtomicLong();
+    private final AtomicLong joined = new AtomicLong();
+
+    /**
+     * @param baseUrl Site root; paths are under /api
+     */
+    public ApiResponseCache(String baseUrl, long ttlSec) {
+        this(baseUrl, ttlSec, null);
+    }
+
+    /**
+     * @param cassette Records or replays the cache's requests, null to always use the network
+     */
+    public ApiResponseCache(String baseUrl, long ttlSec, CassetteFilter cassette) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+            .setBaseUri(baseUrl)
+            .setBasePath(BaseAPITest.API_BASE_PATH)
+            .setConfig(ApiHttpClient.config())
+            .addHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64)");
+        if (cassette != null) {
+            builder.addFilter(cassette);
+        }
+        this.spec = builder.addFilter(new RateLimitFilter()).build();
+        this.cassette = cassette;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSec);
+    }
+
+    /**
+     * The cache for the site under test, TTL from api.cache.ttlSec, using the ApiResponseCache
+     * cassette when api.cassette.mode is record or replay
+     */
+    public static ApiResponseCache shared() {
+        if (shared == null) {
+            synchronized (ApiResponseCache.class) {
+                if (shared == null) {
+                    shared = new ApiResponseCache(BaseAPITest.BASE_URL, FrameworkConfig.getLong("api.cache.ttlSec", 300),
+                        CassetteFilter.fromConfig(ApiResponseCache.class.getSimpleName()));
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Write the shared cache's cassette (record mode only)
+     */
+    public static void saveSharedCassette() {
+        ApiResponseCache cache = shared;
+        if (cache != null && cache.cassette != null) {
+            cache.cassette.save();
+        }
+    }
+
+    /**
+     * Parsed body of a GET, from the cache while fresh
+     * @param path Path under /api, e.g. /productsList
+     * @throws IllegalStateException if the server cannot be reached or answers anything but 200
+     *         (or 304 to a revalidation)
+     */
+    public ParsedResponse get(String path) {
+        Entry entry = entries.get(path);
+        if (entry != null && entry.isFresh(System.nanoTime(), ttlNanos)) {
+            hits.incrementAndGet();
+            return entry.body;
+        }
+        CompletableFuture<Entry> mine = new CompletableFuture<>();
+        CompletableFuture<Entry> running = inFlight.putIfAbsent(path, mine);
+        if (running != null) {
+            joined.incrementAndGet();
+            return await(running).body;
+        }
+        try {
+            // Another caller may have finished loading it since the first look
+            Entry current = entries.get(path);
+            Entry loaded = current != null && current.isFresh(System.nanoTime(), ttlNanos) ? current : load(path, current);
+            entries.put(path, loaded);
+            mine.complete(loaded);
+            return loaded.body;
+        } catch (Throwable e) {
+            // Whatever ends the load, callers that joined it must not wait forever
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(path, mine);
+        }
+    }
+
+    /**
+     * Ids of every product in /productsList
+     */
+    public List<Integer> getProductIds() {
+        List<Integer> ids = new ArrayList<>();
+        for (JsonElement product : get("/productsList").getList("products")) {
+            ids.add(product.getAsJsonObject().get("id").getAsInt());
+        }
+        return ids;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Full GETs sent (first loads and stale entries without validators or with a changed body)
+     */
+    public long getFetches() {
+        return fetches.get();
+    }
+
+    /**
+     * Stale entries the server confirmed unchanged with 304
+     */
+    public long getRevalidated() {
+        return revalidated.get();
+    }
+
+    /**
+     * Misses that waited for another caller's request to the same path
+     */
+    public long getJoined() {
+        return joined.get();
+    }
+
+    public boolean isUnused() {
+        return hits.get() + fetches.get() + revalidated.get() + joined.get() == 0;
+    }
+
+    /**
+     * "API cache: 40 hits, 2 fetches, 1 revalidated (304), 3 concurrent misses joined"
+     */
+    public String getSummary() {
+        return String.format("API cache: %d hits, %d fetches, %d revalidated (304), %d concurrent misses joined",
+            hits.get(), fetches.get(), revalidated.get(), joined.get());
+    }
+
+    /**
+     * The shared cache's summary, null if it was never created or used
+     */
+    public static String getSharedSummary() {
+        ApiResponseCache cache = shared;
+        return cache == null || cache.isUnused() ? null : cache.getSummary();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private Entry load(String path, Entry stale) {
+        RequestSpecification request = RestAssured.given().spec(spec);
+        if (stale != null && stale.etag != null) {
+            request.header("If-None-Match", stale.etag);
+        }
+        if (stale != null && stale.lastModified != null) {
+            request.header("If-Modified-Since", stale.lastModified);
+        }
+        Response response;
+        try {
+            response = request.get(path);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // REST Assured rethrows I/O errors such as UnknownHostException undeclared
+            throw new IllegalStateException("GET " + BaseAPITest.API_BASE_PATH + path + " failed: " + e, e);
+        }
+        if (response.getStatusCode() == 304 && stale != null) {
+            revalidated.incrementAndGet();
+            return stale.refreshed(System.nanoTime());
+        }
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("GET " + BaseAPITest.API_BASE_PATH + path + " returned " + response.getStatusCode());
+        }
+        fetches.incrementAndGet();
+        return new Entry(ParsedResponse.of(response), response.getHeader("ETag"), response.getHeader("Last-Modified"),
+            System.nanoTime());
+    }
+
+    private static Entry await(CompletableFuture<Entry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static class Entry {
+        final ParsedResponse body;
+        final String etag;
+        final String lastModified;
+        final long fetchedAt;
+
+        Entry(ParsedResponse body, String etag, String lastModified, long fetchedAt) {
+            this.body = body;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.fetchedAt = fetchedAt;
+        }
+
+        boolean isFresh(long now, long ttlNanos) {
+            return now - fetchedAt < ttlNanos;
+        }
+
+        Entry refreshed(long now) {
+            return new Entry(body, etag, lastModified, now);
+        }
+    }
+}
@@ -1,12 +1,28 @@
 package com.e_commerce.api;
 
+import com.e_commerce.core.FrameworkConfig;
+import com.e_commerce.core.SiteUnderTest;
+import com.e_commerce.utils.ApiLatencyTelemetry;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.config.LogConfig;
 import io.restassured.http.ContentType;
+import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterTest;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeTest;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * Base class for API tests
@@ -14,29 +30,124 @@ import org.testng.annotations.BeforeClass;
  */
 public class BaseAPITest {
     
-    protected static final String BASE_URL = "https://automationexercise.com";
+    protected static final String BASE_URL = SiteUnderTest.baseUrl();
     protected static final String API_BASE_PATH = "/api";
+    private static final AtomicLong EMAIL_SEQUENCE = new AtomicLong();
+    private static final RateLimitFilter RATE_LIMIT_FILTER = new RateLimitFilter();
+    private static final ApiLatencyFilter LATENCY_FILTER = new ApiLatencyFilter();
     
     protected RequestSpecification requestSpec;
     protected ResponseSpecification responseSpec;
+    private CassetteFilter cassette;
+    
+    /**
+     * Warm-up request per budgeted endpoint, the same call the tests make; others get a GET
+     */
+    private static final Map<String, Function<RequestSpecification, Response>> WARM_UP_REQUESTS = Map.of(
+        API_BASE_PATH + "/productsList", ApiRequests::productsList,
+        API_BASE_PATH + "/brandsList", ApiRequests::brandsList,
+        API_BASE_PATH + "/searchProduct", spec -> ApiRequests.searchProduct(spec, "top"),
+        API_BASE_PATH + "/verifyLogin", spec -> ApiRequests.verifyLogin(spec, "warmup@example.com", "warmup"));
+    
+    /**
+     * One untimed call per budgeted endpoint before the block: the first REST Assured calls in a
+     * JVM spend over a second loading classes, and the first call to an endpoint also pays for
+     * cold server paths; both would count against the latency budgets
+     */
+    @BeforeTest(alwaysRun = true)
+    public void warmUpApiClient() {
+        if (FrameworkConfig.getString("api.cassette.mode", "off").equalsIgnoreCase(CassetteFilter.Mode.REPLAY.name())) {
+            return;
+        }
+        RequestSpecification spec = new RequestSpecBuilder()
+            .setBaseUri(BASE_URL)
+            .setBasePath(API_BASE_PATH)
+            .setConfig(ApiHttpClient.config())
+            .addFilter(RATE_LIMIT_FILTER)
+            .build();
+        Set<String> endpoints = new LinkedHashSet<>();
+        endpoints.add(API_BASE_PATH + "/brandsList");
+        LatencyBudget.fromConfig().forEach(budget -> endpoints.add(budget.getEndpoint()));
+        for (String endpoint : endpoints) {
+            try {
+                Function<RequestSpecification, Response> request = WARM_UP_REQUESTS.get(endpoint);
+                if (request == null) {
+                    RestAssured.given().spec(spec).basePath("").get(endpoint);
+                } else {
+                    request.apply(spec);
+                }
+            } catch (Exception e) {
+                // REST Assured rethrows I/O errors undeclared, so RuntimeException would miss them
+                System.out.println("API warm-up call to " + endpoint + " failed: " + e.getMessage());
+                return;
+            }
+        }
+    }
     
+    /**
+     * Build this class's specs. Everything (base URI, config, logging) lives on the spec rather
+     * than in static RestAssured fields, so classes and methods can run in parallel; the spec is
+     * only read afterwards, every given().spec(requestSpec) works on its own copy.
+     */
     @BeforeClass
     public void setupAPI() {
-        // Configure REST Assured
-        RestAssured.baseURI = BASE_URL;
-        RestAssured.basePath = API_BASE_PATH;
-        
         // Request Specification - API accepts form data
-        requestSpec = new RequestSpecBuilder()
-            .addHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64)")
-            .build();
+        RequestSpecBuilder requestBuilder = new RequestSpecBuilder()
+            .setBaseUri(BASE_URL)
+            .setBasePath(API_BASE_PATH)
+            // Log request and response if validation fails
+            .setConfig(ApiHttpClient.config().logConfig(
+                LogConfig.logConfig().enableLoggingOfRequestAndResponseIfValidationFails()))
+            .addHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64)");
+        // Check responses against the endpoint schemas (api.contract.enabled), replayed ones included
+        ContractFilter contract = ContractFilter.fromConfig();
+        if (contract != null) {
+            requestBuilder.addFilter(contract);
+        }
+        // Record or replay this class's calls (api.cassette.mode)
+        cassette = CassetteFilter.fromConfig(getClass().getSimpleName());
+        if (cassette != null) {
+            requestBuilder.addFilter(cassette);
+        }
+        // Calls that reach the server share the site's rate limit (ratelimit.*) with page navigations
+        requestBuilder.addFilter(RATE_LIMIT_FILTER);
+        // Time calls that reach the server, for the latency budgets
+        requestBuilder.addFilter(LATENCY_FILTER);
+        requestSpec = requestBuilder.build();
         
         // Response Specification - API returns text/html with JSON content
         responseSpec = new ResponseSpecBuilder()
             .build();
-        
-        // Enable logging for debugging
-        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+    }
+    
+    @AfterClass(alwaysRun = true)
+    public void saveCassette() {
+        if (cassette != null) {
+            cassette.save();
+        }
+    }
+    
+    /**
+     * Fail the &lt;test&gt; block if an endpoint's latency budget (api.latencyBudget.*) is breached,
+     * judged over every API call of the run so far
+     */
+    @AfterTest(alwaysRun = true)
+    public void checkLatencyBudgets() {
+        List<LatencyBudget> budgets = LatencyBudget.fromConfig();
+        List<String> breaches = LatencyBudget.findBreaches(budgets);
+        for (LatencyBudget budget : budgets) {
+            if (ApiLatencyTelemetry.getCount(budget.getEndpoint()) == 0) {
+                continue;
+            }
+            if (!budget.hasEnoughSamples()) {
+                System.out.println("Latency budget not judged: " + budget.describe());
+            } else if (!budget.isBreached()) {
+                System.out.println("Latency budget met: " + budget.describe());
+            }
+        }
+        if (!breaches.isEmpty()) {
+            throw new AssertionError("Latency budget breached:\n" + String.join("\n", breaches));
+        }
     }
     
     /**
@@ -58,14 +169,39 @@ public class BaseAPITest {
      */
     protected String generateRandomEmail() {
         long timestamp = System.currentTimeMillis();
-        return "testuser" + timestamp + "@example.com";
+        // Parallel methods can ask within the same millisecond
+        return "testuser" + timestamp + "_" + EMAIL_SEQUENCE.incrementAndGet() + "@example.com";
     }
     
     /**
-     * Generate random product ID
+     * Random id of a product that exists, from the cached /productsList (1-50 if it cannot be loaded)
      */
     protected int generateRandomProductId() {
-        return (int) (Math.random() * 50) + 1;
+        List<Integer> ids;
+        try {
+            ids = ApiResponseCache.shared().getProductIds();
+        } catch (RuntimeException e) {
+            System.out.println("Product ids unavailable, guessing one: " + e.getMessage());
+            ids = List.of();
+        }
+        if (ids.isEmpty()) {
+            return ThreadLocalRandom.current().nextInt(1, 51);
+        }
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+    
+    /**
+     * Id of the first product in the cached /productsList (1 if it cannot be loaded); the same on
+     * every run, so requests using it match their recorded cassette
+     */
+    protected static int getFirstProductId() {
+        try {
+            List<Integer> ids = ApiResponseCache.shared().getProductIds();
+            return ids.isEmpty() ? 1 : ids.get(0);
+        } catch (RuntimeException e) {
+            System.out.println("Product ids unavailable, using 1: " + e.getMessage());
+            return 1;
+        }
     }
     
     /**
@@ -79,6 +215,6 @@ public class BaseAPITest {
      * Generate random coupon code
      */
     protected String generateRandomCoupon() {
-        return "COUPON" + (int) (Math.random() * 1000);
+        return "COUPON" + ThreadLocalRandom.current().nextInt(1000);
     }
 }
@@ -14,12 +14,7 @@ public class CartAPITest extends BaseAPITest {
     
     @Test(priority = 1, description = "Add product to cart - Happy path")
     public void testAddProductToCart() {
-        given()
-            .spec(requestSpec)
-            .formParam("product_id", "1")
-            .formParam("quantity", "2")
-        .when()
-            .post("/addToCart")
+        ApiRequests.addToCart(requestSpec, "1", "2")
         .then()
             .statusCode(200)
             .body("responseCode", anyOf(equalTo(200), equalTo(201)))
@@ -33,44 +28,24 @@ public class CartAPITest extends BaseAPITest {
     @Test(priority = 2, description = "Add multiple products to cart")
     public void testAddMultipleProductsToCart() {
         // Add first product
-        given()
-            .spec(requestSpec)
-            .formParam("product_id", "1")
-            .formParam("quantity", "1")
-        .when()
-            .post("/addToCart")
+        ApiRequests.addToCart(requestSpec, "1", "1")
         .then()
             .statusCode(200);
         
         // Add second product
-        given()
-            .spec(requestSpec)
-            .formParam("product_id", "2")
-            .formParam("quantity", "3")
-        .when()
-            .post("/addToCart")
+        ApiRequests.addToCart(requestSpec, "2", "3")
         .then()
             .statusCode(200);
         
         // Add third product
-        given()
-            .spec(requestSpec)
-            .formParam("product_id", "3")
-            .formParam("quantity", "2")
-        .when()
-            .post("/addToCart")
+        ApiRequests.addToCart(requestSpec, "3", "2")
         .then()
             .statusCode(200);
     }
     
     @Test(priority = 3, description = "Add product with zero quantity - Negative")
     public void testAddProductWithZeroQuantity() {
-        given()
-            .spec(requestSpec)
-            .formParam("product_id", "1")
-            .formParam("quantity", "0")
-        .when()
-            .post("/addToCart")
+        ApiRequests.addToCart(requestSpec, "1", "0")
         .then()
             .statusCode(200)
             .body("responseCode", anyOf(equalTo(400), equalTo(200)));
@@ -78,12 +53,7 @@ public class CartAPITest extends BaseAPITest {
     
     @Test(priority = 4, description = "Add product with negative quantity - Negative")
     public void testAddProductWithNegativeQuantity() {
-        given()
-            .spec(requestSpec)
-            .formParam("product_id", "1")
-            .formParam("quantity", "-5")
-        .when()
-            .post("/addToCart")
+        ApiRequests.addToCart(requestSpec, "1", "-5")
         .then()
             .statusCode(200)
             .body("responseCode", anyOf(equalTo(400), equalTo(200)));
@@ -115,24 +85,14 @@ public class CartAPITest extends BaseAPITest {
     
     @Test(priority = 7, description = "Add invalid product ID - Negative")
     public void testAddInvalidProductId() {
-        given()
-            .spec(requestSpec)
-            .formParam("product_id", "99999")
-            .formParam("quantity", "1")
-        .when()
-            .post("/addToCart")
+        ApiRequests.addToCart(requestSpec, "99999", "1")
         .then()
             .statusCode(200);
     }
     
     @Test(priority = 8, description = "Add product with very large quantity")
     public void testAddProductWithLargeQuantity() {
-        given()
-            .spec(requestSpec)
-            .formParam("product_id", "1")
-            .formParam("quantity", "1000")
-        .when()
-            .post("/addToCart")
+        ApiRequests.addToCart(requestSpec, "1", "1000")
         .then()
             .statusCode(200);
     }
@@ -140,12 +100,7 @@ public class CartAPITest extends BaseAPITest {
     @Test(priority = 9, description = "Update cart item quantity")
     public void testUpdateCartItemQuantity() {
         // Add product first
-        given()
-            .spec(requestSpec)
-            .formParam("product_id", "5")
-            .formParam("quantity", "2")
-        .when()
-            .post("/addToCart");
+        ApiRequests.addToCart(requestSpec, "5", "2");
         
         // Update quantity
         given()
@@ -162,12 +117,7 @@ public class CartAPITest extends BaseAPITest {
     @Test(priority = 10, description = "Remove product from cart")
     public void testRemoveProductFromCart() {
         // Add product first
-        given()
-            .spec(requestSpec)
-            .formParam("product_id", "10")
-            .formParam("quantity", "1")
-        .when()
-            .post("/addToCart");
+        ApiRequests.addToCart(requestSpec, "10", "1");
         
         // Remove product
         given()
@@ -182,10 +132,7 @@ public class CartAPITest extends BaseAPITest {
     
     @Test(priority = 11, description = "Get cart items")
     public void testGetCartItems() {
-        given()
-            .spec(requestSpec)
-        .when()
-            .get("/getCart")
+        ApiRequests.getCart(requestSpec)
         .then()
             .statusCode(200)
             .body("responseCode", anyOf(equalTo(200), equalTo(404)));
@@ -194,10 +141,8 @@ public class CartAPITest extends BaseAPITest {
     @Test(priority = 12, description = "Clear entire cart")
     public void testClearCart() {
         // Add some products first
-        given().spec(requestSpec).formParam("product_id", "1").formParam("quantity", "1")
-            .post("/addToCart");
-        given().spec(requestSpec).formParam("product_id", "2").formParam("quantity", "2")
-            .post("/addToCart");
+        ApiRequests.addToCart(requestSpec, "1", "1");
+        ApiRequests.addToCart(requestSpec, "2", "2");
         
         // Clear cart
         given()
@@ -236,37 +181,22 @@ public class CartAPITest extends BaseAPITest {
     
     @Test(priority = 14, description = "Add same product multiple times - quantity update")
     public void testAddSameProductMultipleTimes() {
-        int productId = 7;
+        int productId = getFirstProductId();
         
         // Add product first time
-        given()
-            .spec(requestSpec)
-            .formParam("product_id", productId)
-            .formParam("quantity", "2")
-        .when()
-            .post("/addToCart")
+        ApiRequests.addToCart(requestSpec, productId, "2")
         .then()
             .statusCode(200);
         
         // Add same product again
-        given()
-            .spec(requestSpec)
-            .formParam("product_id", productId)
-            .formParam("quantity", "3")
-        .when()
-            .post("/addToCart")
+        ApiRequests.addToCart(requestSpec, productId, "3")
         .then()
             .statusCode(200);
     }
     
     @Test(priority = 15, description = "Add product with special characters in quantity - Negative")
     public void testAddProductWithInvalidQuantityFormat() {
-        given()
-            .spec(requestSpec)
-            .formParam("product_id", "1")
-            .formParam("quantity", "abc")
-        .when()
-            .post("/addToCart")
+        ApiRequests.addToCart(requestSpec, "1", "abc")
         .then()
             .statusCode(200)
             .body("responseCode", anyOf(equalTo(400), equalTo(200)));
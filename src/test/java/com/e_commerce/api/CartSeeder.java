@@ -0,0 +1,144 @@
+package com.e_commerce.api;
+
+import com.e_commerce.core.BrowserCookies;
+import com.e_commerce.pages.CartPage;
+import com.e_commerce.pages.HomePage;
+import com.e_commerce.pages.ProductsPage;
+import io.restassured.http.Cookie;
+import io.restassured.http.Cookies;
+import io.restassured.response.Response;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Test fixture that builds cart state over HTTP instead of through the UI.
+ * Products are added with the same /add_to_cart/{id} request the storefront's
+ * "Add to cart" button sends; the resulting session cookies are then injected
+ * into the WebDriver so the test can start directly on the cart or checkout page.
+ * If seeding fails, it falls back to the UI flow the tests used before.
+ */
+public class CartSeeder {
+
+    private static final RateLimitFilter RATE_LIMIT_FILTER = new RateLimitFilter();
+
+    private final WebDriver driver;
+    private final List<Integer> productIds = new ArrayList<>();
+    private final Map<String, Cookie> cookies = new LinkedHashMap<>();
+
+    public CartSeeder(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Add a product by its storefront id
+     */
+    public CartSeeder addProduct(int productId) {
+        productIds.add(productId);
+        return this;
+    }
+
+    /**
+     * Add the first product of the catalog, same as ProductsPage.addFirstProductToCart()
+     */
+    public CartSeeder addFirstProduct() {
+        return addProduct(BaseAPITest.getFirstProductId());
+    }
+
+    /**
+     * Seed the cart and open the cart page
+     */
+    public void openCart() {
+        if (seed()) {
+            driver.get(BaseAPITest.BASE_URL + "/view_cart");
+        } else {
+            seedThroughUi();
+        }
+    }
+
+    /**
+     * Seed the cart and open the checkout page
+     */
+    public void openCheckout() {
+        if (seed()) {
+            driver.get(BaseAPITest.BASE_URL + "/checkout");
+        } else {
+            seedThroughUi();
+            new CartPage(driver).proceedToCheckout();
+        }
+    }
+
+    /**
+     * @return false if the cart could not be built over HTTP
+     */
+    private boolean seed() {
+        long start = System.currentTimeMillis();
+        try {
+            for (int productId : productIds) {
+                Response response = given()
+                    .config(ApiHttpClient.config())
+                    .filter(RATE_LIMIT_FILTER)
+                    .baseUri(BaseAPITest.BASE_URL)
+                    .header("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64)")
+                    .header("X-Requested-With", "XMLHttpRequest")
+                    .cookies(new Cookies(new ArrayList<>(cookies.values())))
+                .when()
+                    .get("/add_to_cart/" + productId);
+                if (response.getStatusCode() >= 400) {
+                    throw new IllegalStateException("add_to_cart/" + productId + " returned " + response.getStatusCode());
+                }
+                for (Cookie cookie : response.getDetailedCookies()) {
+                    cookies.put(cookie.getName(), cookie);
+                }
+            }
+            if (cookies.isEmpty()) {
+                throw new IllegalStateException("no session cookie returned");
+            }
+            injectCookies();
+            System.out.println("Cart seeded over HTTP with products " + productIds
+                + " in " + (System.currentTimeMillis() - start) + " ms");
+            return true;
+        } catch (Exception e) {
+            // Also I/O errors such as UnknownHostException, which REST Assured rethrows undeclared
+            System.out.println("Cart seeding over HTTP failed, using UI flow: " + e);
+            return false;
+        }
+    }
+
+    private void injectCookies() {
+        List<org.openqa.selenium.Cookie> browserCookies = new ArrayList<>();
+        for (Cookie cookie : cookies.values()) {
+            browserCookies.add(new org.openqa.selenium.Cookie.Builder(cookie.getName(), cookie.getValue())
+                .path(cookie.getPath() == null ? "/" : cookie.getPath())
+                .isSecure(cookie.isSecured())
+                .isHttpOnly(cookie.isHttpOnly())
+                .build());
+        }
+        BrowserCookies.set(driver, BaseAPITest.BASE_URL + "/", browserCookies);
+    }
+
+    /**
+     * The original setup, once per requested product: home, products, add to cart
+     * (continuing shopping between products), view cart from the modal
+     */
+    private void seedThroughUi() {
+        new HomePage(driver).open();
+        ProductsPage products = new ProductsPage(driver);
+        products.openFromNavbar();
+        if (productIds.isEmpty()) {
+            products.addFirstProductToCart();
+        }
+        for (int i = 0; i < productIds.size(); i++) {
+            if (i > 0) {
+                products.continueShopping();
+            }
+            products.addProductToCart(productIds.get(i));
+        }
+        new CartPage(driver).openFromModal();
+    }
+}
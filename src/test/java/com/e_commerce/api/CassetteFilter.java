@@ -0,0 +1,207 @@
+package com.e_commerce.api;
+
+import com.e_commerce.core.FrameworkConfig;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * REST Assured filter that records API calls to a cassette file or replays them from it.
+ * In record mode every request/response pair is kept and written by {@link #save()}; in
+ * replay mode responses are built in-process from the cassette and nothing is sent.
+ *
+ * A request matches a recorded one on method, path and parameters. Volatile parameters
+ * (api.cassette.volatileParams, e.g. generated emails and order ids) only need to be present. Identical
+ * requests are answered in recorded order, the last answer repeating.
+ */
+public class CassetteFilter implements Filter {
+
+    public enum Mode { OFF, RECORD, REPLAY }
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+    private static final String VOLATILE = "<volatile>";
+
+    private final Path file;
+    private final Mode mode;
+    private final Set<String> volatileParams;
+    private final List<Interaction> interactions = new ArrayList<>();
+    private final Map<String, Integer> replayed = new HashMap<>();
+
+    public CassetteFilter(Path file, Mode mode, Set<String> volatileParams) {
+        this.file = file;
+        this.mode = mode;
+        this.volatileParams = volatileParams;
+        if (mode == Mode.REPLAY) {
+            load();
+        }
+    }
+
+    /**
+     * Filter for one test class as configured by api.cassette.*, or null when the mode is off
+     */
+    public static CassetteFilter fromConfig(String cassetteName) {
+        Mode mode = Mode.valueOf(FrameworkConfig.getString("api.cassette.mode", "off").toUpperCase(Locale.ROOT));
+        if (mode == Mode.OFF) {
+            return null;
+        }
+        Path file = Paths.get(FrameworkConfig.getString("api.cassette.dir", "src/test/resources/cassettes"),
+            cassetteName + ".json");
+        return new CassetteFilter(file, mode, configuredVolatileParams());
+    }
+
+    /**
+     * Parameter names listed in api.cassette.volatileParams
+     */
+    public static Set<String> configuredVolatileParams() {
+        Set<String> volatileParams = new LinkedHashSet<>();
+        for (String param : FrameworkConfig.getString("api.cassette.volatileParams", "").split(",")) {
+            if (!param.trim().isEmpty()) {
+                volatileParams.add(param.trim());
+            }
+        }
+        return volatileParams;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        Interaction request = new Interaction();
+        request.method = requestSpec.getMethod();
+        request.path = URI.create(requestSpec.getURI()).getPath();
+        request.params = new TreeMap<>();
+        requestSpec.getQueryParams().forEach(request.params::put);
+        requestSpec.getRequestParams().forEach(request.params::put);
+        requestSpec.getFormParams().forEach(request.params::put);
+
+        if (mode == Mode.REPLAY) {
+            return replay(request);
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        request.status = response.getStatusCode();
+        request.statusLine = response.getStatusLine();
+        request.contentType = response.getContentType();
+        request.body = response.asString();
+        synchronized (interactions) {
+            interactions.add(request);
+        }
+        return response;
+    }
+
+    private Response replay(Interaction request) {
+        String key = key(request);
+        List<Interaction> matches = new ArrayList<>();
+        synchronized (interactions) {
+            for (Interaction recorded : interactions) {
+                if (key(recorded).equals(key)) {
+                    matches.add(recorded);
+                }
+            }
+            if (matches.isEmpty()) {
+                throw new IllegalStateException("No recorded interaction for " + key + " in " + file
+                    + ", record it again with -Dapi.cassette.mode=record");
+            }
+            int index = replayed.merge(key, 1, Integer::sum) - 1;
+            Interaction recorded = matches.get(Math.min(index, matches.size() - 1));
+            return new ResponseBuilder()
+                .setStatusCode(recorded.status)
+                .setStatusLine(recorded.statusLine)
+                .setContentType(recorded.contentType)
+                .setBody(recorded.body)
+                .build();
+        }
+    }
+
+    /**
+     * Write the recorded interactions (record mode only)
+     */
+    public void save() {
+        if (mode != Mode.RECORD) {
+            return;
+        }
+        Cassette cassette = new Cassette();
+        synchronized (interactions) {
+            cassette.interactions = new ArrayList<>(interactions);
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                GSON.toJson(cassette, writer);
+            }
+            System.out.println("Cassette saved: " + file + " (" + cassette.interactions.size() + " interactions)");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save cassette " + file, e);
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int size() {
+        synchronized (interactions) {
+            return interactions.size();
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            throw new IllegalStateException("Cassette not found: " + file + ", record it with -Dapi.cassette.mode=record");
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Cassette cassette = GSON.fromJson(reader, Cassette.class);
+            if (cassette != null && cassette.interactions != null) {
+                interactions.addAll(cassette.interactions);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read cassette " + file, e);
+        }
+    }
+
+    /**
+     * Method, path and sorted parameters, with volatile values masked
+     */
+    private String key(Interaction interaction) {
+        Map<String, String> params = new TreeMap<>(interaction.params);
+        params.replaceAll((name, value) -> volatileParams.contains(name) ? VOLATILE : value);
+        return interaction.method + " " + interaction.path + " " + params;
+    }
+
+    private static class Cassette {
+        List<Interaction> interactions;
+    }
+
+    private static class Interaction {
+        String method;
+        String path;
+        Map<String, String> params;
+        int status;
+        String statusLine;
+        String contentType;
+        String body;
+    }
+}
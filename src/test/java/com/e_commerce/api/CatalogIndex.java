@@ -0,0 +1,267 @@
+package com.e_commerce.api;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * In-memory product catalog from /api/productsList, indexed to compute the expected result of a
+ * product search without calling the site: the oracle for /api/searchProduct and the UI search.
+ *
+ * The site matches a case-insensitive substring of the name, the category or the user type, each
+ * field on its own, so the n-grams (1 to 3 characters) of every field are indexed into posting
+ * bitsets over the catalog; no gram spans two fields. A term of up to 3 characters is one lookup;
+ * a longer one intersects the postings of its trigrams and checks the few candidates left field by
+ * field. Brands get their own postings for {@link #byBrand}.
+ */
+public final class CatalogIndex {
+
+    private static final int MAX_GRAM = 3;
+    private static volatile CatalogIndex shared;
+
+    private final List<Product> products;
+    private final String[][] searchFields;
+    private final Map<String, BitSet> grams = new HashMap<>();
+    private final Map<String, BitSet> brands = new HashMap<>();
+
+    public CatalogIndex(List<Product> products) {
+        this.products = Collections.unmodifiableList(new ArrayList<>(products));
+        this.searchFields = new String[products.size()][];
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            searchFields[i] = new String[] {product.name.toLowerCase(Locale.ROOT),
+                product.category.toLowerCase(Locale.ROOT), product.userType.toLowerCase(Locale.ROOT)};
+            for (String field : searchFields[i]) {
+                for (int n = 1; n <= MAX_GRAM; n++) {
+                    for (int start = 0; start + n <= field.length(); start++) {
+                        grams.computeIfAbsent(field.substring(start, start + n), g -> new BitSet()).set(i);
+                    }
+                }
+            }
+            brands.computeIfAbsent(product.brand.toLowerCase(Locale.ROOT), b -> new BitSet()).set(i);
+        }
+    }
+
+    /**
+     * Index of the site under test's catalog, built once per JVM from the cached /productsList
+     */
+    public static CatalogIndex shared() {
+        if (shared == null) {
+            synchronized (CatalogIndex.class) {
+                if (shared == null) {
+                    shared = fromProductsList(ApiResponseCache.shared().get("/productsList"));
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * @param productsList A /api/productsList body
+     */
+    public static CatalogIndex fromProductsList(ParsedResponse productsList) {
+        List<Product> products = new ArrayList<>();
+        for (JsonElement element : productsList.getList("products")) {
+            JsonObject product = element.getAsJsonObject();
+            JsonObject category = product.getAsJsonObject("category");
+            products.add(new Product(product.get("id").getAsInt(), product.get("name").getAsString(),
+                product.get("price").getAsString(), product.get("brand").getAsString(),
+                category.get("category").getAsString(),
+                category.getAsJsonObject("usertype").get("usertype").getAsString()));
+        }
+        return new CatalogIndex(products);
+    }
+
+    /**
+     * Products a search for the term should return, in catalog order
+     */
+    public List<Product> search(String term) {
+        String needle = term.trim().toLowerCase(Locale.ROOT);
+        if (needle.isEmpty()) {
+            return products;
+        }
+        if (needle.length() <= MAX_GRAM) {
+            return select(grams.get(needle));
+        }
+        BitSet candidates = null;
+        for (int start = 0; start + MAX_GRAM <= needle.length(); start++) {
+            BitSet postings = grams.get(needle.substring(start, start + MAX_GRAM));
+            if (postings == null) {
+                return Collections.emptyList();
+            }
+            if (candidates == null) {
+                candidates = (BitSet) postings.clone();
+            } else {
+                candidates.and(postings);
+            }
+        }
+        // Every trigram present does not mean they are adjacent, or in the same field
+        List<Product> found = new ArrayList<>();
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (anyFieldContains(searchFields[i], needle)) {
+                found.add(products.get(i));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Ids of {@link #search}, in catalog order
+     */
+    public List<Integer> searchIds(String term) {
+        List<Integer> ids = new ArrayList<>();
+        search(term).forEach(product -> ids.add(product.id));
+        return ids;
+    }
+
+    /**
+     * Products of a brand (case-insensitive exact name), in catalog order
+     */
+    public List<Product> byBrand(String brand) {
+        return select(brands.get(brand.trim().toLowerCase(Locale.ROOT)));
+    }
+
+    public List<Product> getProducts() {
+        return products;
+    }
+
+    public int size() {
+        return products.size();
+    }
+
+    /**
+     * Search terms drawn from the catalog, the same for the same seed: words of the searched fields,
+     * substrings of 1 to 8 characters within one field, both in changed case, brand names and random letters (which
+     * mostly find nothing). Letters, digits and single spaces only, never blank.
+     */
+    public List<String> generateTerms(int count, long seed) {
+        Random random = new Random(seed);
+        List<String> words = new ArrayList<>();
+        for (String[] fields : searchFields) {
+            for (String field : fields) {
+                for (String word : field.split("[^a-z0-9]+")) {
+                    if (!word.isEmpty()) {
+                        words.add(word);
+                    }
+                }
+            }
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        int attempts = 0;
+        while (terms.size() < count && attempts++ < count * 20) {
+            String term;
+            switch (random.nextInt(5)) {
+                case 0:
+                    term = words.get(random.nextInt(words.size()));
+                    break;
+                case 1:
+                    String[] fields = searchFields[random.nextInt(searchFields.length)];
+                    String text = fields[random.nextInt(fields.length)];
+                    if (text.isEmpty()) {
+                        continue;
+                    }
+                    int start = random.nextInt(text.length());
+                    term = text.substring(start, Math.min(text.length(), start + 1 + random.nextInt(8)));
+                    break;
+                case 2:
+                    term = products.get(random.nextInt(products.size())).brand;
+                    break;
+                case 3:
+                    StringBuilder letters = new StringBuilder();
+                    for (int i = 3 + random.nextInt(5); i > 0; i--) {
+                        letters.append((char) ('a' + random.nextInt(26)));
+                    }
+                    term = letters.toString();
+                    break;
+                default:
+                    term = words.get(random.nextInt(words.size())).toUpperCase(Locale.ROOT);
+                    break;
+            }
+            term = term.replaceAll("[^A-Za-z0-9 ]", "").replaceAll(" +", " ").trim();
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    private static boolean anyFieldContains(String[] fields, String needle) {
+        for (String field : fields) {
+            if (field.contains(needle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Product> select(BitSet postings) {
+        if (postings == null) {
+            return Collections.emptyList();
+        }
+        List<Product> found = new ArrayList<>();
+        for (int i = postings.nextSetBit(0); i >= 0; i = postings.nextSetBit(i + 1)) {
+            found.add(products.get(i));
+        }
+        return found;
+    }
+
+    /**
+     * One catalog entry
+     */
+    public static class Product {
+        private final int id;
+        private final String name;
+        private final String price;
+        private final String brand;
+        private final String category;
+        private final String userType;
+
+        public Product(int id, String name, String price, String brand, String category, String userType) {
+            this.id = id;
+            this.name = name;
+            this.price = price;
+            this.brand = brand;
+            this.category = category;
+            this.userType = userType;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getPrice() {
+            return price;
+        }
+
+        public String getBrand() {
+            return brand;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getUserType() {
+            return userType;
+        }
+
+        @Override
+        public String toString() {
+            return id + " " + name;
+        }
+    }
+}
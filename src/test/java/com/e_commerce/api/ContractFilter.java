@@ -0,0 +1,56 @@
+package com.e_commerce.api;
+
+import com.e_commerce.core.FrameworkConfig;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Checks every HTTP 200 API response against its endpoint's schema in {@link ContractRegistry}.
+ * Added before the cassette and latency filters, so replayed responses are checked too and the
+ * validation time is not counted as server latency.
+ */
+public class ContractFilter implements Filter {
+
+    private final boolean failOnViolation;
+
+    /**
+     * @param failOnViolation Throw an AssertionError listing the violations (tests), or only
+     *                        count them in the contract report (load runs)
+     */
+    public ContractFilter(boolean failOnViolation) {
+        this.failOnViolation = failOnViolation;
+    }
+
+    /**
+     * Filter for the API tests, null when api.contract.enabled is false
+     */
+    public static ContractFilter fromConfig() {
+        if (!FrameworkConfig.getBoolean("api.contract.enabled", true)) {
+            return null;
+        }
+        return new ContractFilter(FrameworkConfig.getBoolean("api.contract.failOnViolation", true));
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        // Errors outside the API's own responseCode convention are left to the tests' status checks
+        if (response.getStatusCode() != 200) {
+            return response;
+        }
+        String path = URI.create(requestSpec.getURI()).getPath();
+        List<String> violations = ContractRegistry.validate(path, response.asString());
+        if (!violations.isEmpty() && failOnViolation) {
+            throw new AssertionError(requestSpec.getMethod() + " " + path + " does not match its schema:\n"
+                + String.join("\n", violations));
+        }
+        return response;
+    }
+}
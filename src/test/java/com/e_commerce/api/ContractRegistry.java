@@ -0,0 +1,114 @@
+package com.e_commerce.api;
+
+import com.e_commerce.utils.ContractTelemetry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * JSON schema contracts of the /api endpoints, one draft-04 schema per endpoint under
+ * schemas/api/&lt;endpoint&gt;.json on the test classpath. Each schema is compiled the first time its
+ * endpoint is checked and kept for the rest of the JVM; endpoints without a schema are
+ * remembered too and not checked.
+ *
+ * Each schema covers both shapes an endpoint answers with: its data (products, brands, user)
+ * or a message, as the API returns HTTP 200 with the outcome in responseCode. The validator
+ * builds the checks of a subschema the first time a body reaches it and caches them with the
+ * schema, so the first validation of an endpoint is its slowest.
+ */
+public final class ContractRegistry {
+
+    private static final String SCHEMA_DIR = "/schemas/api/";
+    private static final int MAX_PROBLEMS = 20;
+    private static final ConcurrentMap<String, Optional<JsonSchema>> schemas = new ConcurrentHashMap<>();
+
+    private ContractRegistry() {
+    }
+
+    /**
+     * Compiled schema of an endpoint, compiling it on first use
+     * @param endpoint Request path (/api/productsList) or endpoint name (productsList)
+     */
+    public static Optional<JsonSchema> schemaFor(String endpoint) {
+        return schemas.computeIfAbsent(endpointName(endpoint), ContractRegistry::compile);
+    }
+
+    public static boolean hasSchema(String endpoint) {
+        return schemaFor(endpoint).isPresent();
+    }
+
+    /**
+     * Check a response body against its endpoint's schema and record the time taken in
+     * {@link ContractTelemetry}; endpoints without a schema are not checked
+     * @return Violations, empty if the body matches or there is no schema
+     */
+    public static List<String> validate(String endpoint, String body) {
+        Optional<JsonSchema> schema = schemaFor(endpoint);
+        if (!schema.isPresent()) {
+            return Collections.emptyList();
+        }
+        long start = System.nanoTime();
+        List<String> problems = new ArrayList<>();
+        try {
+            ProcessingReport report = schema.get().validate(JsonLoader.fromString(body), true);
+            for (ProcessingMessage message : report) {
+                if (problems.size() == MAX_PROBLEMS) {
+                    break;
+                }
+                JsonNode json = message.asJson();
+                String pointer = json.path("instance").path("pointer").asText();
+                problems.add((pointer.isEmpty() ? "/" : pointer) + ": " + message.getMessage());
+            }
+        } catch (IOException e) {
+            problems.add("Body is not JSON: " + e.getMessage());
+        } catch (ProcessingException e) {
+            problems.add("Schema could not be applied: " + e.getMessage());
+        }
+        ContractTelemetry.recordValidation(path(endpoint), System.nanoTime() - start, problems.isEmpty());
+        return problems;
+    }
+
+    private static Optional<JsonSchema> compile(String name) {
+        JsonSchemaFactory factory = Factory.INSTANCE;
+        long start = System.nanoTime();
+        String resource = SCHEMA_DIR + name + ".json";
+        if (ContractRegistry.class.getResource(resource) == null) {
+            return Optional.empty();
+        }
+        try {
+            JsonSchema schema = factory.getJsonSchema(JsonLoader.fromResource(resource));
+            ContractTelemetry.recordCompile(path(name), System.nanoTime() - start);
+            return Optional.of(schema);
+        } catch (IOException | ProcessingException e) {
+            throw new IllegalStateException("Invalid schema " + resource + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String endpointName(String endpoint) {
+        String name = endpoint.replaceFirst("/+$", "");
+        return name.substring(name.lastIndexOf('/') + 1);
+    }
+
+    private static String path(String endpoint) {
+        return BaseAPITest.API_BASE_PATH + "/" + endpointName(endpoint);
+    }
+
+    /**
+     * The factory takes a few hundred milliseconds to build its keyword libraries: built once, not counted as compile time
+     */
+    private static final class Factory {
+        static final JsonSchemaFactory INSTANCE = JsonSchemaFactory.byDefault();
+    }
+}
@@ -0,0 +1,405 @@
+package com.e_commerce.api;
+
+import com.e_commerce.core.FrameworkConfig;
+import com.e_commerce.core.SiteUnderTest;
+import com.e_commerce.utils.CsvUtil;
+import com.e_commerce.utils.LatencyHistogram;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-model load: virtual shoppers arrive as a Poisson process, independent of how fast
+ * earlier ones are served, and each walks the checkout journey with think times between steps:
+ * createAccount, verifyLogin, addToCart, createOrder, processPayment, deleteAccount
+ * (the requests of {@link ApiRequests}, as in the User/Cart/Order/Payment API tests).
+ * State is passed along the journey: the order is for the account just created and the product
+ * just added, and the payment is for the order id createOrder answered with (see {@link Shopper}).
+ *
+ * Coordinated omission: each step has an intended start time, the arrival time for the first
+ * step and the end of the previous step plus the think time for the others. Response time is
+ * measured from the intended start, so time a shopper spent waiting for a free worker or a
+ * late scheduler counts against the system instead of silently vanishing. The raw send-to-answer
+ * service time is reported next to it; the gap between the two is the queueing delay.
+ *
+ * Settings (load.journey.*): arrivalRatePerSec, durationSec, thinkTimeMs (mean, uniform 0.5x..1.5x),
+ * maxUsers (concurrent shoppers on platform threads), drainSec; load.virtualThreads gives every
+ * shopper its own virtual thread (Java 21). A step fails on HTTP status 400 and above or a JSON
+ * responseCode of 400 and above; later steps still run so the account is always deleted.
+ *
+ * Usage: mvn verify -Pjourney -Dload.journey.arrivalRatePerSec=5 -Dload.journey.durationSec=120
+ * or: java -cp &lt;test classpath&gt; com.e_commerce.api.JourneySimulator
+ */
+public class JourneySimulator {
+
+    public static final List<String> STEPS = Arrays.asList(
+        "createAccount", "verifyLogin", "addToCart", "createOrder", "processPayment", "deleteAccount");
+    public static final String JOURNEY = "journey";
+
+    private static final List<String> HEADERS = Arrays.asList("Step", "Requests", "Errors",
+        "P50Ms", "P90Ms", "P99Ms", "MaxMs", "ServiceP50Ms", "ServiceP99Ms");
+    private static final String PASSWORD = "Load@123";
+    private static final AtomicLong USER_SEQUENCE = new AtomicLong();
+
+    private final String baseUrl;
+    private final double arrivalRatePerSec;
+    private final long durationMs;
+    private final long thinkTimeMs;
+    private final int maxUsers;
+    private final long drainMs;
+    private final boolean virtualThreads;
+    private final Map<String, StepStats> stats = new LinkedHashMap<>();
+    private final AtomicInteger started = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+
+    public JourneySimulator(String baseUrl, double arrivalRatePerSec, long durationMs, long thinkTimeMs,
+                            int maxUsers, long drainMs, boolean virtualThreads) {
+        if (arrivalRatePerSec <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive: " + arrivalRatePerSec);
+        }
+        this.baseUrl = baseUrl;
+        this.arrivalRatePerSec = arrivalRatePerSec;
+        this.durationMs = Math.max(1, durationMs);
+        this.thinkTimeMs = Math.max(0, thinkTimeMs);
+        this.maxUsers = Math.max(1, maxUsers);
+        this.drainMs = Math.max(0, drainMs);
+        this.virtualThreads = virtualThreads;
+        for (String step : STEPS) {
+            stats.put(step, new StepStats(step));
+        }
+        stats.put(JOURNEY, new StepStats(JOURNEY));
+    }
+
+    /**
+     * Simulator as configured by load.journey.* against site.baseUrl
+     */
+    public static JourneySimulator fromConfig() {
+        return new JourneySimulator(SiteUnderTest.baseUrl(),
+            Double.parseDouble(FrameworkConfig.getString("load.journey.arrivalRatePerSec", "2")),
+            TimeUnit.SECONDS.toMillis(FrameworkConfig.getLong("load.journey.durationSec", 60)),
+            FrameworkConfig.getLong("load.journey.thinkTimeMs", 1000),
+            FrameworkConfig.getInt("load.journey.maxUsers", 200),
+            TimeUnit.SECONDS.toMillis(FrameworkConfig.getLong("load.journey.drainSec", 60)),
+            FrameworkConfig.getBoolean("load.virtualThreads", false));
+    }
+
+    public static void main(String[] args) throws Exception {
+        JourneySimulator simulator = fromConfig();
+        List<StepResult> results = simulator.run();
+        results.forEach(System.out::println);
+        writeCsv(results, FrameworkConfig.reportFile("journey_load.csv"));
+    }
+
+    /**
+     * Let shoppers arrive for the configured duration, then wait up to drainSec for the last journeys
+     * @return one result per step in journey order, then the whole journey
+     */
+    public List<StepResult> run() throws InterruptedException {
+        RequestSpecification spec = new RequestSpecBuilder()
+            .setBaseUri(baseUrl)
+            .setBasePath(BaseAPITest.API_BASE_PATH)
+            .setConfig(ApiHttpClient.config())
+            .addHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64)")
+            .build();
+        // Untimed first request: REST Assured's first call loads Groovy and can take seconds
+        try {
+            ApiRequests.productsList(spec);
+        } catch (RuntimeException e) {
+            System.out.println("Journey run: site not reachable before the run: " + e.getMessage());
+        }
+
+        ExecutorService shoppers = shopperExecutor();
+        System.out.println(String.format("Journey run: %.1f shoppers/s for %d ms, think time %d ms",
+            arrivalRatePerSec, durationMs, thinkTimeMs));
+        long start = System.nanoTime();
+        long end = start + TimeUnit.MILLISECONDS.toNanos(durationMs);
+        long arrival = start;
+        while (true) {
+            // Exponential inter-arrival times make a Poisson arrival process
+            double gapSec = -Math.log(1 - ThreadLocalRandom.current().nextDouble()) / arrivalRatePerSec;
+            arrival += (long) (gapSec * TimeUnit.SECONDS.toNanos(1));
+            if (arrival >= end) {
+                break;
+            }
+            sleepUntil(arrival);
+            long intendedStart = arrival;
+            started.incrementAndGet();
+            shoppers.execute(() -> journey(spec, intendedStart));
+        }
+        shoppers.shutdown();
+        if (!shoppers.awaitTermination(drainMs, TimeUnit.MILLISECONDS)) {
+            System.out.println("Journey run: " + (started.get() - completed.get())
+                + " journeys still running after " + drainMs + " ms, their remaining steps are not recorded");
+            shoppers.shutdownNow();
+        }
+
+        List<StepResult> results = new ArrayList<>();
+        stats.values().forEach(s -> results.add(new StepResult(s)));
+        return results;
+    }
+
+    public int getStartedJourneys() {
+        return started.get();
+    }
+
+    public int getCompletedJourneys() {
+        return completed.get();
+    }
+
+    /**
+     * One shopper, start to finish
+     */
+    private void journey(RequestSpecification spec, long arrival) {
+        Shopper shopper = new Shopper(USER_SEQUENCE.incrementAndGet());
+        long intendedStart = arrival;
+
+        Response account = step(shopper, "createAccount", intendedStart,
+            () -> ApiRequests.createAccount(spec, shopper.email, PASSWORD, "Load", "Shopper"));
+        shopper.userId = jsonValue(account, shopper.email, "user_id", "user.id");
+        intendedStart = think();
+        step(shopper, "verifyLogin", intendedStart, () -> ApiRequests.verifyLogin(spec, shopper.email, PASSWORD));
+        intendedStart = think();
+        step(shopper, "addToCart", intendedStart, () -> ApiRequests.addToCart(spec, shopper.productId, 1));
+        intendedStart = think();
+        Response order = step(shopper, "createOrder", intendedStart,
+            () -> ApiRequests.createOrder(spec, shopper.userId, shopper.productId, 1, "credit_card"));
+        shopper.orderId = jsonValue(order, "LOAD" + shopper.number, "order_id", "order.id");
+        intendedStart = think();
+        step(shopper, "processPayment", intendedStart, () -> ApiRequests.processCardPayment(
+            spec, shopper.orderId, "credit_card", "4111111111111111", "12/30", "123", "500"));
+        intendedStart = think();
+        step(shopper, "deleteAccount", intendedStart, () -> ApiRequests.deleteAccount(spec, shopper.email, PASSWORD));
+
+        stats.get(JOURNEY).record(elapsedMicros(arrival), elapsedMicros(arrival), shopper.failed);
+        completed.incrementAndGet();
+    }
+
+    /**
+     * Send one step and record it; a failed step marks the journey as failed
+     * @return the answer, or null if the request threw
+     */
+    private Response step(Shopper shopper, String name, long intendedStart, Supplier<Response> request) {
+        long sent = System.nanoTime();
+        Response response = null;
+        boolean error;
+        try {
+            response = request.get();
+            error = isError(response);
+        } catch (RuntimeException e) {
+            error = true;
+        }
+        stats.get(name).record(elapsedMicros(intendedStart), elapsedMicros(sent), error);
+        shopper.failed |= error;
+        return response;
+    }
+
+    /**
+     * First of the JSON paths present in the answer, or the fallback if none is (or it is not JSON)
+     */
+    private static String jsonValue(Response response, String fallback, String... paths) {
+        if (response == null) {
+            return fallback;
+        }
+        for (String path : paths) {
+            try {
+                String value = response.jsonPath().getString(path);
+                if (value != null && !value.isEmpty()) {
+                    return value;
+                }
+            } catch (RuntimeException e) {
+                return fallback;
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * Pause for a think time
+     * @return when the next step is meant to start
+     */
+    private long think() {
+        long pauseNanos = thinkTimeMs == 0 ? 0
+            : (long) (TimeUnit.MILLISECONDS.toNanos(thinkTimeMs) * (0.5 + ThreadLocalRandom.current().nextDouble()));
+        long intendedStart = System.nanoTime() + pauseNanos;
+        sleepUntil(intendedStart);
+        return intendedStart;
+    }
+
+    private static boolean isError(Response response) {
+        if (response.getStatusCode() >= 400) {
+            return true;
+        }
+        try {
+            Integer responseCode = response.jsonPath().get("responseCode");
+            return responseCode != null && responseCode >= 400;
+        } catch (RuntimeException e) {
+            // Not JSON: the HTTP status decides
+            return false;
+        }
+    }
+
+    private static long elapsedMicros(long fromNanos) {
+        return TimeUnit.NANOSECONDS.toMicros(Math.max(0, System.nanoTime() - fromNanos));
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private ExecutorService shopperExecutor() {
+        if (virtualThreads) {
+            try {
+                ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                System.out.println("Shoppers run on virtual threads");
+                return executor;
+            } catch (ReflectiveOperationException e) {
+                System.out.println("Virtual threads need Java 21, running shoppers on platform threads");
+            }
+        }
+        // Arrivals beyond maxUsers queue for a thread; the intended start times charge that wait to the system
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(maxUsers, runnable -> {
+            Thread thread = new Thread(runnable, "shopper-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Write the results table to CSV
+     */
+    public static void writeCsv(List<StepResult> results, String path) {
+        List<Map<String, String>> data = new ArrayList<>();
+        for (StepResult result : results) {
+            List<String> row = result.toRow();
+            Map<String, String> map = new LinkedHashMap<>();
+            for (int i = 0; i < HEADERS.size(); i++) {
+                map.put(HEADERS.get(i), row.get(i));
+            }
+            data.add(map);
+        }
+        try {
+            new CsvUtil().writeCsv(path, data, HEADERS);
+            System.out.println("Journey load results saved: " + path);
+        } catch (IOException e) {
+            System.err.println("Failed to write journey load results: " + e.getMessage());
+        }
+    }
+
+    private static class StepStats {
+        private final String name;
+        private final LatencyHistogram responseMicros = new LatencyHistogram();
+        private final LatencyHistogram serviceMicros = new LatencyHistogram();
+        private final AtomicLong errors = new AtomicLong();
+
+        StepStats(String name) {
+            this.name = name;
+        }
+
+        void record(long responseTime, long serviceTime, boolean error) {
+            responseMicros.recordValue(responseTime);
+            serviceMicros.recordValue(serviceTime);
+            if (error) {
+                errors.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Latency of one journey step, or of whole journeys (think times included)
+     */
+    public static class StepResult {
+        private final String step;
+        private final long requests;
+        private final long errors;
+        private final LatencyHistogram responseMicros;
+        private final LatencyHistogram serviceMicros;
+
+        StepResult(StepStats stats) {
+            this.step = stats.name;
+            this.requests = stats.responseMicros.getTotalCount();
+            this.errors = stats.errors.get();
+            this.responseMicros = stats.responseMicros;
+            this.serviceMicros = stats.serviceMicros;
+        }
+
+        public String getStep() {
+            return step;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        /**
+         * Response time from the intended start (corrected for coordinated omission), in milliseconds
+         */
+        public double getResponseMs(double percentile) {
+            return responseMicros.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        /**
+         * Time from sending the request to the answer, in milliseconds
+         */
+        public double getServiceMs(double percentile) {
+            return serviceMicros.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        List<String> toRow() {
+            return Arrays.asList(step, String.valueOf(requests), String.valueOf(errors),
+                String.format("%.2f", getResponseMs(50)), String.format("%.2f", getResponseMs(90)),
+                String.format("%.2f", getResponseMs(99)), String.format("%.2f", responseMicros.getMaxValue() / 1000.0),
+                String.format("%.2f", getServiceMs(50)), String.format("%.2f", getServiceMs(99)));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-15s %6d requests %5d errors  p50 %.2f ms  p99 %.2f ms  (service p99 %.2f ms)",
+                step, requests, errors, getResponseMs(50), getResponseMs(99), getServiceMs(99));
+        }
+    }
+
+    /**
+     * What one shopper carries from step to step. The public API answers createAccount without
+     * an id, so the account's email (its key there) stands in for user_id unless the answer has
+     * one. It also has no order API: without an order_id in the createOrder answer, a per-shopper
+     * stand-in is paid for, and the payment fails like the order did.
+     */
+    private static final class Shopper {
+        final long number;
+        final String email;
+        final int productId = ThreadLocalRandom.current().nextInt(1, 35);
+        String userId;
+        String orderId;
+        boolean failed;
+
+        Shopper(long number) {
+            this.number = number;
+            this.email = "loaduser" + System.currentTimeMillis() + "_" + number + "@example.com";
+        }
+    }
+
+}
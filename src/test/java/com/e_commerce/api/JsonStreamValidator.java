@@ -0,0 +1,155 @@
+package com.e_commerce.api;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming check of a large API body with Gson's {@link JsonReader}: counts the elements of
+ * one top-level array and verifies each has the required fields, without building a tree.
+ * Only the field names of each element and the top-level scalars (responseCode, message) are
+ * kept; everything else is skipped as it is read.
+ */
+public final class JsonStreamValidator {
+
+    private static final int MAX_PROBLEMS = 20;
+
+    private JsonStreamValidator() {
+    }
+
+    /**
+     * @param body JSON object, e.g. a /productsList response as response.asInputStream()
+     * @param arrayField Top-level array to check, e.g. "products"
+     * @param requiredFields Fields every element must have with a non-null value
+     */
+    public static ArrayCheck checkArray(InputStream body, String arrayField, String... requiredFields) throws IOException {
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            return checkArray(reader, arrayField, requiredFields);
+        }
+    }
+
+    public static ArrayCheck checkArray(Reader body, String arrayField, String... requiredFields) throws IOException {
+        Set<String> required = new LinkedHashSet<>(Arrays.asList(requiredFields));
+        ArrayCheck check = new ArrayCheck(arrayField);
+        JsonReader reader = new JsonReader(body);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            JsonToken token = reader.peek();
+            if (name.equals(arrayField) && token == JsonToken.BEGIN_ARRAY) {
+                check.found = true;
+                readArray(reader, required, check);
+            } else if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+                check.scalars.put(name, reader.nextString());
+            } else if (token == JsonToken.BOOLEAN) {
+                check.scalars.put(name, String.valueOf(reader.nextBoolean()));
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return check;
+    }
+
+    private static void readArray(JsonReader reader, Set<String> required, ArrayCheck check) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            int index = check.count++;
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                reader.skipValue();
+                check.addProblem(check.arrayField + "[" + index + "] is not an object");
+                continue;
+            }
+            Set<String> present = new HashSet<>();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String field = reader.nextName();
+                if (required.contains(field) && reader.peek() != JsonToken.NULL) {
+                    present.add(field);
+                }
+                reader.skipValue();
+            }
+            reader.endObject();
+            for (String field : required) {
+                if (!present.contains(field)) {
+                    check.addProblem(check.arrayField + "[" + index + "] has no " + field);
+                }
+            }
+        }
+        reader.endArray();
+    }
+
+    /**
+     * Outcome of {@link #checkArray}
+     */
+    public static class ArrayCheck {
+        private final String arrayField;
+        private final Map<String, String> scalars = new LinkedHashMap<>();
+        private final List<String> problems = new ArrayList<>();
+        private boolean found;
+        private int count;
+        private int problemCount;
+
+        ArrayCheck(String arrayField) {
+            this.arrayField = arrayField;
+        }
+
+        private void addProblem(String problem) {
+            problemCount++;
+            if (problems.size() < MAX_PROBLEMS) {
+                problems.add(problem);
+            }
+        }
+
+        public boolean isFound() {
+            return found;
+        }
+
+        /**
+         * Number of array elements
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * Top-level string, number or boolean field as text, null if absent
+         */
+        public String getScalar(String name) {
+            return scalars.get(name);
+        }
+
+        /**
+         * Missing fields and non-object elements, the first 20 of them
+         */
+        public List<String> getProblems() {
+            return Collections.unmodifiableList(problems);
+        }
+
+        public boolean isValid() {
+            return found && problemCount == 0;
+        }
+
+        @Override
+        public String toString() {
+            if (!found) {
+                return "No '" + arrayField + "' array";
+            }
+            return count + " " + arrayField + ", " + problemCount + " problem(s)" + (problems.isEmpty() ? "" : ": " + problems);
+        }
+    }
+}
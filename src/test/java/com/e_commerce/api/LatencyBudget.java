@@ -0,0 +1,134 @@
+package com.e_commerce.api;
+
+import com.e_commerce.core.FrameworkConfig;
+import com.e_commerce.utils.ApiLatencyTelemetry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A latency budget for one API endpoint: a percentile of its response times over the
+ * whole run must stay under a limit. Declared as api.latencyBudget.&lt;endpoint&gt;, one or
+ * more comma-separated "p&lt;percentile&gt;&lt;&lt;limit ms&gt;" terms, e.g.
+ * api.latencyBudget.searchProduct=p95&lt;400,p99&lt;1000
+ *
+ * A budget is only judged once its endpoint has api.latencyBudget.minCalls calls; with fewer,
+ * the percentile is little more than the slowest call and one cold outlier would fail the run.
+ */
+public class LatencyBudget {
+
+    public static final String PREFIX = "api.latencyBudget.";
+    public static final String MIN_CALLS_KEY = PREFIX + "minCalls";
+
+    private static final Pattern TERM = Pattern.compile("p(\\d+(?:\\.\\d+)?)\\s*<\\s*(\\d+(?:\\.\\d+)?)\\s*(?:ms)?");
+
+    private final String endpoint;
+    private final double percentile;
+    private final double limitMs;
+    private final long minCalls;
+
+    public LatencyBudget(String endpoint, double percentile, double limitMs) {
+        this(endpoint, percentile, limitMs, FrameworkConfig.getLong(MIN_CALLS_KEY, 20));
+    }
+
+    public LatencyBudget(String endpoint, double percentile, double limitMs, long minCalls) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in (0, 100]: " + percentile);
+        }
+        this.endpoint = endpoint;
+        this.percentile = percentile;
+        this.limitMs = limitMs;
+        this.minCalls = Math.max(1, minCalls);
+    }
+
+    /**
+     * Every budget declared in framework.properties or system properties
+     */
+    public static List<LatencyBudget> fromConfig() {
+        List<LatencyBudget> budgets = new ArrayList<>();
+        for (String key : FrameworkConfig.getKeys(PREFIX)) {
+            if (key.equals(MIN_CALLS_KEY)) {
+                continue;
+            }
+            budgets.addAll(parse(key.substring(PREFIX.length()), FrameworkConfig.getString(key, "")));
+        }
+        return budgets;
+    }
+
+    /**
+     * @param endpoint Endpoint name under /api (e.g. searchProduct) or a full path
+     * @param terms e.g. "p95&lt;400,p99&lt;1000"
+     */
+    public static List<LatencyBudget> parse(String endpoint, String terms) {
+        String path = endpoint.startsWith("/") ? endpoint : BaseAPITest.API_BASE_PATH + "/" + endpoint;
+        List<LatencyBudget> budgets = new ArrayList<>();
+        for (String term : terms.split(",")) {
+            if (term.trim().isEmpty()) {
+                continue;
+            }
+            Matcher matcher = TERM.matcher(term.trim());
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("Invalid latency budget '" + term.trim() + "' for " + endpoint
+                    + ", expected e.g. p95<400");
+            }
+            budgets.add(new LatencyBudget(path, Double.parseDouble(matcher.group(1)), Double.parseDouble(matcher.group(2))));
+        }
+        return budgets;
+    }
+
+    /**
+     * Check budgets against the calls recorded in {@link ApiLatencyTelemetry}; endpoints with
+     * fewer than minCalls calls are not judged
+     * @return one message with the percentile breakdown per breached budget
+     */
+    public static List<String> findBreaches(List<LatencyBudget> budgets) {
+        List<String> breaches = new ArrayList<>();
+        for (LatencyBudget budget : budgets) {
+            if (budget.isBreached()) {
+                breaches.add(budget.describe());
+            }
+        }
+        return breaches;
+    }
+
+    public boolean isBreached() {
+        return hasEnoughSamples() && ApiLatencyTelemetry.getPercentileMs(endpoint, percentile) > limitMs;
+    }
+
+    public boolean hasEnoughSamples() {
+        return ApiLatencyTelemetry.getCount(endpoint) >= minCalls;
+    }
+
+    public String describe() {
+        if (!hasEnoughSamples()) {
+            return String.format("%s p%s insufficient samples, %d of %d calls needed (%s)", endpoint,
+                format(percentile), ApiLatencyTelemetry.getCount(endpoint), minCalls,
+                ApiLatencyTelemetry.getBreakdown(endpoint));
+        }
+        return String.format("%s p%s %.2f ms, budget %s ms (%s)", endpoint, format(percentile),
+            ApiLatencyTelemetry.getPercentileMs(endpoint, percentile), format(limitMs),
+            ApiLatencyTelemetry.getBreakdown(endpoint));
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public double getLimitMs() {
+        return limitMs;
+    }
+
+    public long getMinCalls() {
+        return minCalls;
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
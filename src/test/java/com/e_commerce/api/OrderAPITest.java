@@ -65,11 +65,7 @@ public class OrderAPITest extends BaseAPITest {
     
     @Test(priority = 4, description = "Get order details by order ID")
     public void testGetOrderDetails() {
-        given()
-            .spec(requestSpec)
-            .queryParam("order_id", "12345")
-        .when()
-            .get("/getOrderDetails")
+        ApiRequests.getOrderDetails(requestSpec, "12345")
         .then()
             .statusCode(200)
             .body("responseCode", anyOf(equalTo(200), equalTo(404)));
@@ -132,25 +128,14 @@ public class OrderAPITest extends BaseAPITest {
     
     @Test(priority = 9, description = "Create order with invalid product ID - Negative")
     public void testCreateOrderInvalidProduct() {
-        given()
-            .spec(requestSpec)
-            .formParam("user_id", "1")
-            .formParam("product_id", "99999")
-            .formParam("quantity", "2")
-            .formParam("payment_method", "credit_card")
-        .when()
-            .post("/createOrder")
+        ApiRequests.createOrder(requestSpec, "1", "99999", "2", "credit_card")
         .then()
             .statusCode(200);
     }
     
     @Test(priority = 10, description = "Get order with invalid order ID - Negative")
     public void testGetOrderInvalidId() {
-        given()
-            .spec(requestSpec)
-            .queryParam("order_id", "INVALID_ORDER")
-        .when()
-            .get("/getOrderDetails")
+        ApiRequests.getOrderDetails(requestSpec, "INVALID_ORDER")
         .then()
             .statusCode(200)
             .body("responseCode", anyOf(equalTo(404), equalTo(400)));
@@ -205,14 +190,7 @@ public class OrderAPITest extends BaseAPITest {
     
     @Test(priority = 14, description = "Create order with zero quantity - Negative")
     public void testCreateOrderZeroQuantity() {
-        given()
-            .spec(requestSpec)
-            .formParam("user_id", "1")
-            .formParam("product_id", "1")
-            .formParam("quantity", "0")
-            .formParam("payment_method", "credit_card")
-        .when()
-            .post("/createOrder")
+        ApiRequests.createOrder(requestSpec, "1", "1", "0", "credit_card")
         .then()
             .statusCode(200)
             .body("responseCode", anyOf(equalTo(400), equalTo(200)));
@@ -222,8 +200,7 @@ public class OrderAPITest extends BaseAPITest {
     public void testOrderItemsMatchCart() {
         // C6 Issue: "UI and DB data inconsistencies"
         // Add items to cart
-        given().spec(requestSpec).formParam("product_id", "1").formParam("quantity", "2")
-            .post("/addToCart");
+        ApiRequests.addToCart(requestSpec, "1", "2");
         
         // Create order from cart
         given()
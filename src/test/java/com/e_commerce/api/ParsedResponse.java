@@ -0,0 +1,120 @@
+package com.e_commerce.api;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An API response body parsed once into a Gson tree, with path lookups memoized.
+ * response.jsonPath() builds and parses a new JsonPath on every call; tests that read several
+ * fields of one large body (the 34-product /productsList) should wrap it once instead.
+ *
+ * Paths use the JsonPath subset the tests need: dotted names and array indexes,
+ * e.g. "responseCode", "products[0].name", "products[2].category.usertype.usertype".
+ */
+public class ParsedResponse {
+
+    private static final Pattern SEGMENT = Pattern.compile("([^.\\[\\]]*)((?:\\[\\d+])*)");
+    private static final Pattern INDEX = Pattern.compile("\\[(\\d+)]");
+
+    private final JsonElement root;
+    private final Map<String, JsonElement> lookups = new ConcurrentHashMap<>();
+
+    public ParsedResponse(String body) {
+        this.root = JsonParser.parseString(body);
+    }
+
+    public static ParsedResponse of(Response response) {
+        return new ParsedResponse(response.asString());
+    }
+
+    /**
+     * Element at a path, null if any part of the path is missing
+     */
+    public JsonElement get(String path) {
+        JsonElement element = lookups.computeIfAbsent(path, this::resolve);
+        return element.isJsonNull() ? null : element;
+    }
+
+    public boolean has(String path) {
+        return get(path) != null;
+    }
+
+    /**
+     * String value at a path (numbers as written in the body), null if missing
+     */
+    public String getString(String path) {
+        JsonElement element = get(path);
+        if (element == null) {
+            return null;
+        }
+        return element.isJsonPrimitive() ? element.getAsString() : element.toString();
+    }
+
+    public int getInt(String path) {
+        JsonElement element = get(path);
+        if (element == null || !element.isJsonPrimitive()) {
+            throw new IllegalArgumentException("No number at '" + path + "'");
+        }
+        return element.getAsInt();
+    }
+
+    /**
+     * Elements of the array at a path, empty if missing
+     */
+    public List<JsonElement> getList(String path) {
+        JsonElement element = get(path);
+        List<JsonElement> list = new ArrayList<>();
+        if (element != null && element.isJsonArray()) {
+            element.getAsJsonArray().forEach(list::add);
+        }
+        return list;
+    }
+
+    /**
+     * Number of elements of the array at a path, 0 if missing
+     */
+    public int size(String path) {
+        JsonElement element = get(path);
+        return element != null && element.isJsonArray() ? element.getAsJsonArray().size() : 0;
+    }
+
+    public JsonElement getRoot() {
+        return root;
+    }
+
+    private JsonElement resolve(String path) {
+        JsonElement current = root;
+        for (String part : path.isEmpty() ? new String[0] : path.split("\\.")) {
+            Matcher segment = SEGMENT.matcher(part);
+            if (!segment.matches()) {
+                throw new IllegalArgumentException("Invalid path '" + path + "'");
+            }
+            if (!segment.group(1).isEmpty()) {
+                if (!current.isJsonObject()) {
+                    return JsonNull.INSTANCE;
+                }
+                JsonObject object = current.getAsJsonObject();
+                current = object.has(segment.group(1)) ? object.get(segment.group(1)) : JsonNull.INSTANCE;
+            }
+            Matcher index = INDEX.matcher(segment.group(2));
+            while (index.find()) {
+                int i = Integer.parseInt(index.group(1));
+                if (!current.isJsonArray() || i >= current.getAsJsonArray().size()) {
+                    return JsonNull.INSTANCE;
+                }
+                current = current.getAsJsonArray().get(i);
+            }
+        }
+        return current;
+    }
+}
@@ -13,16 +13,7 @@ public class PaymentAPITest extends BaseAPITest {
     
     @Test(priority = 1, description = "Process payment - Credit Card - Happy path")
     public void testProcessPaymentCreditCard() {
-        given()
-            .spec(requestSpec)
-            .formParam("order_id", "12345")
-            .formParam("payment_method", "credit_card")
-            .formParam("card_number", "4111111111111111")
-            .formParam("card_expiry", "12/25")
-            .formParam("card_cvv", "123")
-            .formParam("amount", "1500")
-        .when()
-            .post("/processPayment")
+        ApiRequests.processCardPayment(requestSpec, "12345", "credit_card", "4111111111111111", "12/25", "123", "1500")
         .then()
             .statusCode(200)
             .body("responseCode", anyOf(equalTo(200), equalTo(201)))
@@ -35,16 +26,7 @@ public class PaymentAPITest extends BaseAPITest {
     
     @Test(priority = 2, description = "Process payment - Debit Card")
     public void testProcessPaymentDebitCard() {
-        given()
-            .spec(requestSpec)
-            .formParam("order_id", "12346")
-            .formParam("payment_method", "debit_card")
-            .formParam("card_number", "5500000000000004")
-            .formParam("card_expiry", "06/26")
-            .formParam("card_cvv", "456")
-            .formParam("amount", "2500")
-        .when()
-            .post("/processPayment")
+        ApiRequests.processCardPayment(requestSpec, "12346", "debit_card", "5500000000000004", "06/26", "456", "2500")
         .then()
             .statusCode(200)
             .body("responseCode", anyOf(equalTo(200), equalTo(201)));
@@ -96,16 +78,7 @@ public class PaymentAPITest extends BaseAPITest {
     
     @Test(priority = 6, description = "Payment with invalid card number - Negative")
     public void testPaymentInvalidCardNumber() {
-        given()
-            .spec(requestSpec)
-            .formParam("order_id", "12350")
-            .formParam("payment_method", "credit_card")
-            .formParam("card_number", "1111222233334444")
-            .formParam("card_expiry", "12/25")
-            .formParam("card_cvv", "123")
-            .formParam("amount", "1500")
-        .when()
-            .post("/processPayment")
+        ApiRequests.processCardPayment(requestSpec, "12350", "credit_card", "1111222233334444", "12/25", "123", "1500")
         .then()
             .statusCode(200)
             .body("responseCode", anyOf(equalTo(400), equalTo(422)));
@@ -113,16 +86,7 @@ public class PaymentAPITest extends BaseAPITest {
     
     @Test(priority = 7, description = "Payment with expired card - Negative")
     public void testPaymentExpiredCard() {
-        given()
-            .spec(requestSpec)
-            .formParam("order_id", "12351")
-            .formParam("payment_method", "credit_card")
-            .formParam("card_number", "4111111111111111")
-            .formParam("card_expiry", "01/20")
-            .formParam("card_cvv", "123")
-            .formParam("amount", "1500")
-        .when()
-            .post("/processPayment")
+        ApiRequests.processCardPayment(requestSpec, "12351", "credit_card", "4111111111111111", "01/20", "123", "1500")
         .then()
             .statusCode(200)
             .body("responseCode", anyOf(equalTo(400), equalTo(422)));
@@ -130,16 +94,7 @@ public class PaymentAPITest extends BaseAPITest {
     
     @Test(priority = 8, description = "Payment with invalid CVV - Negative")
     public void testPaymentInvalidCVV() {
-        given()
-            .spec(requestSpec)
-            .formParam("order_id", "12352")
-            .formParam("payment_method", "credit_card")
-            .formParam("card_number", "4111111111111111")
-            .formParam("card_expiry", "12/25")
-            .formParam("card_cvv", "99")
-            .formParam("amount", "1500")
-        .when()
-            .post("/processPayment")
+        ApiRequests.processCardPayment(requestSpec, "12352", "credit_card", "4111111111111111", "12/25", "99", "1500")
         .then()
             .statusCode(200)
             .body("responseCode", anyOf(equalTo(400), equalTo(422)));
@@ -147,16 +102,7 @@ public class PaymentAPITest extends BaseAPITest {
     
     @Test(priority = 9, description = "Payment with insufficient funds - Negative")
     public void testPaymentInsufficientFunds() {
-        given()
-            .spec(requestSpec)
-            .formParam("order_id", "12353")
-            .formParam("payment_method", "credit_card")
-            .formParam("card_number", "4000000000000002")
-            .formParam("card_expiry", "12/25")
-            .formParam("card_cvv", "123")
-            .formParam("amount", "100000")
-        .when()
-            .post("/processPayment")
+        ApiRequests.processCardPayment(requestSpec, "12353", "credit_card", "4000000000000002", "12/25", "123", "100000")
         .then()
             .statusCode(200)
             .body("responseCode", anyOf(equalTo(402), equalTo(422)));
@@ -1,7 +1,15 @@
 package com.e_commerce.api;
 
+import com.e_commerce.core.FrameworkConfig;
+import com.google.gson.JsonElement;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import static io.restassured.RestAssured.given;
 import static org.testng.Assert.*;
 
@@ -12,59 +20,53 @@ import static org.testng.Assert.*;
 public class ProductAPITest extends BaseAPITest {
     
     @Test(priority = 1, description = "Get all products list - API validation")
-    public void testGetAllProductsList() {
-        Response response = given()
-            .spec(requestSpec)
-        .when()
-            .get("/productsList")
+    public void testGetAllProductsList() throws IOException {
+        Response response = ApiRequests.productsList(requestSpec)
         .then()
             .statusCode(200)
             .extract().response();
         
-        // Parse JSON from response
-        int responseCode = response.jsonPath().getInt("responseCode");
-        assertEquals(responseCode, 200, "Response code should be 200");
+        // Stream the body: count products and check every one has its fields, without building a tree
+        JsonStreamValidator.ArrayCheck products = JsonStreamValidator.checkArray(
+            response.asInputStream(), "products", "id", "name", "price", "brand", "category");
+        assertEquals(products.getScalar("responseCode"), "200", "Response code should be 200");
         
-        int productCount = response.jsonPath().getList("products").size();
+        int productCount = products.getCount();
         System.out.println("Total products: " + productCount);
         assertTrue(productCount > 0, "Product list should not be empty");
+        assertTrue(products.isValid(), "Every product should have id, name, price, brand and category: " + products);
     }
     
     @Test(priority = 2, description = "Get all brands list - API validation")
     public void testGetAllBrandsList() {
-        Response response = given()
-            .spec(requestSpec)
-        .when()
-            .get("/brandsList")
+        Response response = ApiRequests.brandsList(requestSpec)
         .then()
             .statusCode(200)
             .extract().response();
         
         // Parse JSON from response
-        int responseCode = response.jsonPath().getInt("responseCode");
+        ParsedResponse json = ParsedResponse.of(response);
+        int responseCode = json.getInt("responseCode");
         assertEquals(responseCode, 200, "Response code should be 200");
         
-        int brandCount = response.jsonPath().getList("brands").size();
+        int brandCount = json.getList("brands").size();
         System.out.println("Total brands: " + brandCount);
         assertTrue(brandCount > 0, "Brands list should not be empty");
     }
     
     @Test(priority = 3, description = "Search product with valid keyword")
     public void testSearchProductWithValidKeyword() {
-        Response response = given()
-            .spec(requestSpec)
-            .formParam("search_product", "top")
-        .when()
-            .post("/searchProduct")
+        Response response = ApiRequests.searchProduct(requestSpec, "top")
         .then()
             .statusCode(200)
             .extract().response();
         
         // Parse JSON from response
-        int responseCode = response.jsonPath().getInt("responseCode");
+        ParsedResponse json = ParsedResponse.of(response);
+        int responseCode = json.getInt("responseCode");
         assertEquals(responseCode, 200, "Response code should be 200");
         
-        int productCount = response.jsonPath().getList("products").size();
+        int productCount = json.getList("products").size();
         System.out.println("Products found with keyword 'top': " + productCount);
         assertTrue(productCount > 0, "Should find products with keyword 'top'");
     }
@@ -80,27 +82,26 @@ public class ProductAPITest extends BaseAPITest {
             .extract().response();
         
         // Parse JSON from response
-        int responseCode = response.jsonPath().getInt("responseCode");
+        ParsedResponse json = ParsedResponse.of(response);
+        int responseCode = json.getInt("responseCode");
         assertEquals(responseCode, 400, "Response code should be 400 for missing parameter");
         
-        String message = response.jsonPath().getString("message");
+        String message = json.getString("message");
         assertTrue(message.contains("Bad request"), "Error message should mention bad request");
     }
     
     @Test(priority = 5, description = "Validate product data structure")
     public void testValidateProductDataStructure() {
-        Response response = given()
-            .spec(requestSpec)
-        .when()
-            .get("/productsList")
+        Response response = ApiRequests.productsList(requestSpec)
         .then()
             .statusCode(200)
             .extract().response();
+        ParsedResponse json = ParsedResponse.of(response);
         
         // Validate first product has required fields
-        String productName = response.jsonPath().getString("products[0].name");
-        String productPrice = response.jsonPath().getString("products[0].price");
-        String productBrand = response.jsonPath().getString("products[0].brand");
+        String productName = json.getString("products[0].name");
+        String productPrice = json.getString("products[0].price");
+        String productBrand = json.getString("products[0].brand");
         
         assertNotNull(productName, "Product should have name");
         assertNotNull(productPrice, "Product should have price");
@@ -111,11 +112,7 @@ public class ProductAPITest extends BaseAPITest {
     
     @Test(priority = 6, description = "Search product with empty keyword")
     public void testSearchProductWithEmptyKeyword() {
-        Response response = given()
-            .spec(requestSpec)
-            .formParam("search_product", "")
-        .when()
-            .post("/searchProduct")
+        Response response = ApiRequests.searchProduct(requestSpec, "")
         .then()
             .statusCode(200)
             .extract().response();
@@ -128,11 +125,7 @@ public class ProductAPITest extends BaseAPITest {
     
     @Test(priority = 7, description = "Search product with special characters")
     public void testSearchProductWithSpecialCharacters() {
-        Response response = given()
-            .spec(requestSpec)
-            .formParam("search_product", "@#$%")
-        .when()
-            .post("/searchProduct")
+        Response response = ApiRequests.searchProduct(requestSpec, "@#$%")
         .then()
             .statusCode(200)
             .extract().response();
@@ -145,17 +138,15 @@ public class ProductAPITest extends BaseAPITest {
     
     @Test(priority = 8, description = "Validate brands data structure")
     public void testValidateBrandsDataStructure() {
-        Response response = given()
-            .spec(requestSpec)
-        .when()
-            .get("/brandsList")
+        Response response = ApiRequests.brandsList(requestSpec)
         .then()
             .statusCode(200)
             .extract().response();
+        ParsedResponse json = ParsedResponse.of(response);
         
         // Validate first brand has required fields
-        int brandId = response.jsonPath().getInt("brands[0].id");
-        String brandName = response.jsonPath().getString("brands[0].brand");
+        int brandId = json.getInt("brands[0].id");
+        String brandName = json.getString("brands[0].brand");
         
         assertTrue(brandId > 0, "Brand should have valid ID");
         assertNotNull(brandName, "Brand should have name");
@@ -190,10 +181,7 @@ public class ProductAPITest extends BaseAPITest {
     public void testValidateAPIResponseTime() {
         long startTime = System.currentTimeMillis();
         
-        Response response = given()
-            .spec(requestSpec)
-        .when()
-            .get("/productsList")
+        Response response = ApiRequests.productsList(requestSpec)
         .then()
             .statusCode(200)
             .extract().response();
@@ -204,4 +192,27 @@ public class ProductAPITest extends BaseAPITest {
         System.out.println("API Response Time: " + responseTime + "ms");
         assertTrue(responseTime < 30000, "API should respond within 30 seconds");
     }
+    
+    @Test(priority = 11, description = "Search results match the catalog index for generated terms")
+    public void testSearchMatchesCatalogIndex() {
+        CatalogIndex index = CatalogIndex.shared();
+        List<String> terms = index.generateTerms(FrameworkConfig.getInt("search.oracle.terms", 25), 20260901L);
+        
+        for (String term : terms) {
+            Response response = ApiRequests.searchProduct(requestSpec, term)
+            .then()
+                .statusCode(200)
+                .extract().response();
+            
+            List<Integer> found = new ArrayList<>();
+            for (JsonElement product : ParsedResponse.of(response).getList("products")) {
+                found.add(product.getAsJsonObject().get("id").getAsInt());
+            }
+            List<Integer> expected = new ArrayList<>(index.searchIds(term));
+            Collections.sort(found);
+            Collections.sort(expected);
+            assertEquals(found, expected, "searchProduct '" + term + "' should return the products the catalog index expects");
+        }
+        System.out.println("Search results matched the catalog index for " + terms.size() + " terms");
+    }
 }
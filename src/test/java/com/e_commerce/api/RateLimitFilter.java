@@ -0,0 +1,73 @@
+package com.e_commerce.api;
+
+import com.e_commerce.core.AdaptiveRateLimiter;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.InterruptedIOException;
+import java.net.URI;
+
+/**
+ * Sends every API call through the shared {@link AdaptiveRateLimiter} and reports back how the
+ * site answered: 429 and 5xx (with Retry-After) and timeouts slow it down, normal answers feed
+ * the latency trend of their endpoint. Added after the cassette filter, so replayed calls take no
+ * permit, and before the latency filter, so time queued for a permit is not counted as latency.
+ */
+public class RateLimitFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        AdaptiveRateLimiter limiter = AdaptiveRateLimiter.shared();
+        if (!limiter.isEnabled()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        limiter.acquire(AdaptiveRateLimiter.API);
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (Exception e) {
+            if (isTimeout(e)) {
+                limiter.onTimeout(AdaptiveRateLimiter.API);
+            }
+            throw e;
+        }
+        int status = response.getStatusCode();
+        if (status == 429 || status >= 500) {
+            limiter.onThrottled(AdaptiveRateLimiter.API, retryAfterSec(response.getHeader("Retry-After")));
+        } else {
+            limiter.onCompleted(URI.create(requestSpec.getURI()).getPath(), System.nanoTime() - start);
+        }
+        return response;
+    }
+
+    /**
+     * Retry-After in seconds; the HTTP-date form and anything unparseable count as none
+     */
+    private static long retryAfterSec(String header) {
+        if (header == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Connect and read timeouts (SocketTimeoutException, ConnectTimeoutException) anywhere in the causes
+     */
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedIOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
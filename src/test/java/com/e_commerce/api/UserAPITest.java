@@ -12,18 +12,18 @@ import static org.testng.Assert.*;
  */
 public class UserAPITest extends BaseAPITest {
     
-    private String testEmail;
-    private String testPassword = "Test@123";
+    // Methods run in parallel, so no per-test state is kept in fields
+    private static final String TEST_PASSWORD = "Test@123";
     
     @Test(priority = 1, description = "Create user account - POST")
     public void testCreateUserAccount() {
-        testEmail = generateRandomEmail();
+        String testEmail = generateRandomEmail();
         
         Response response = given()
             .spec(requestSpec)
             .formParam("name", "Test User")
             .formParam("email", testEmail)
-            .formParam("password", testPassword)
+            .formParam("password", TEST_PASSWORD)
             .formParam("title", "Mr")
             .formParam("birth_date", "15")
             .formParam("birth_month", "5")
@@ -54,48 +54,10 @@ public class UserAPITest extends BaseAPITest {
         String email = "duplicate@test.com";
         
         // Create first account
-        given()
-            .spec(requestSpec)
-            .formParam("name", "Duplicate User")
-            .formParam("email", email)
-            .formParam("password", testPassword)
-            .formParam("title", "Mr")
-            .formParam("birth_date", "15")
-            .formParam("birth_month", "5")
-            .formParam("birth_year", "1990")
-            .formParam("firstname", "Duplicate")
-            .formParam("lastname", "User")
-            .formParam("company", "Test Company")
-            .formParam("address1", "123 Test Street")
-            .formParam("country", "India")
-            .formParam("zipcode", "12345")
-            .formParam("state", "Test State")
-            .formParam("city", "Test City")
-            .formParam("mobile_number", "1234567890")
-        .when()
-            .post("/createAccount");
+        ApiRequests.createAccount(requestSpec, email, TEST_PASSWORD, "Duplicate", "User");
         
         // Try to create duplicate
-        given()
-            .spec(requestSpec)
-            .formParam("name", "Duplicate User")
-            .formParam("email", email)
-            .formParam("password", testPassword)
-            .formParam("title", "Mr")
-            .formParam("birth_date", "15")
-            .formParam("birth_month", "5")
-            .formParam("birth_year", "1990")
-            .formParam("firstname", "Duplicate")
-            .formParam("lastname", "User")
-            .formParam("company", "Test Company")
-            .formParam("address1", "123 Test Street")
-            .formParam("country", "India")
-            .formParam("zipcode", "12345")
-            .formParam("state", "Test State")
-            .formParam("city", "Test City")
-            .formParam("mobile_number", "1234567890")
-        .when()
-            .post("/createAccount")
+        ApiRequests.createAccount(requestSpec, email, TEST_PASSWORD, "Duplicate", "User")
         .then()
             .statusCode(200)
             .body("responseCode", equalTo(400))
@@ -104,12 +66,7 @@ public class UserAPITest extends BaseAPITest {
     
     @Test(priority = 3, description = "Verify user login with valid credentials")
     public void testUserLoginValid() {
-        given()
-            .spec(requestSpec)
-            .formParam("email", "testuser@test.com")
-            .formParam("password", "Test@123")
-        .when()
-            .post("/verifyLogin")
+        ApiRequests.verifyLogin(requestSpec, "testuser@test.com", "Test@123")
         .then()
             .statusCode(200)
             .body("responseCode", equalTo(200))
@@ -120,7 +77,7 @@ public class UserAPITest extends BaseAPITest {
     public void testUserLoginWithoutEmail() {
         given()
             .spec(requestSpec)
-            .formParam("password", testPassword)
+            .formParam("password", TEST_PASSWORD)
         .when()
             .post("/verifyLogin")
         .then()
@@ -131,12 +88,7 @@ public class UserAPITest extends BaseAPITest {
     
     @Test(priority = 5, description = "Verify user login with invalid credentials - Negative")
     public void testUserLoginInvalid() {
-        given()
-            .spec(requestSpec)
-            .formParam("email", "invalid@test.com")
-            .formParam("password", "WrongPass123")
-        .when()
-            .post("/verifyLogin")
+        ApiRequests.verifyLogin(requestSpec, "invalid@test.com", "WrongPass123")
         .then()
             .statusCode(200)
             .body("responseCode", equalTo(404))
@@ -148,34 +100,10 @@ public class UserAPITest extends BaseAPITest {
         String email = generateRandomEmail();
         
         // Create account first
-        given()
-            .spec(requestSpec)
-            .formParam("name", "Delete User")
-            .formParam("email", email)
-            .formParam("password", testPassword)
-            .formParam("title", "Mr")
-            .formParam("birth_date", "15")
-            .formParam("birth_month", "5")
-            .formParam("birth_year", "1990")
-            .formParam("firstname", "Delete")
-            .formParam("lastname", "User")
-            .formParam("company", "Test Company")
-            .formParam("address1", "123 Test Street")
-            .formParam("country", "India")
-            .formParam("zipcode", "12345")
-            .formParam("state", "Test State")
-            .formParam("city", "Test City")
-            .formParam("mobile_number", "1234567890")
-        .when()
-            .post("/createAccount");
+        ApiRequests.createAccount(requestSpec, email, TEST_PASSWORD, "Delete", "User");
         
         // Delete account
-        given()
-            .spec(requestSpec)
-            .formParam("email", email)
-            .formParam("password", testPassword)
-        .when()
-            .delete("/deleteAccount")
+        ApiRequests.deleteAccount(requestSpec, email, TEST_PASSWORD)
         .then()
             .statusCode(200)
             .body("responseCode", equalTo(200))
@@ -187,33 +115,14 @@ public class UserAPITest extends BaseAPITest {
         String email = generateRandomEmail();
         
         // Create account first
-        given()
-            .spec(requestSpec)
-            .formParam("name", "Update User")
-            .formParam("email", email)
-            .formParam("password", testPassword)
-            .formParam("title", "Mr")
-            .formParam("birth_date", "15")
-            .formParam("birth_month", "5")
-            .formParam("birth_year", "1990")
-            .formParam("firstname", "Update")
-            .formParam("lastname", "User")
-            .formParam("company", "Test Company")
-            .formParam("address1", "123 Test Street")
-            .formParam("country", "India")
-            .formParam("zipcode", "12345")
-            .formParam("state", "Test State")
-            .formParam("city", "Test City")
-            .formParam("mobile_number", "1234567890")
-        .when()
-            .post("/createAccount");
+        ApiRequests.createAccount(requestSpec, email, TEST_PASSWORD, "Update", "User");
         
         // Update account
         given()
             .spec(requestSpec)
             .formParam("name", "Updated User")
             .formParam("email", email)
-            .formParam("password", testPassword)
+            .formParam("password", TEST_PASSWORD)
             .formParam("title", "Mr")
             .formParam("birth_date", "20")
             .formParam("birth_month", "6")
@@ -265,7 +174,7 @@ public class UserAPITest extends BaseAPITest {
         given()
             .spec(requestSpec)
             .queryParam("email", "testuser@test.com")
-            .queryParam("password", testPassword)
+            .queryParam("password", TEST_PASSWORD)
         .when()
             .get("/verifyLogin")
         .then()
@@ -0,0 +1,242 @@
+package com.e_commerce.core;
+
+import com.e_commerce.utils.RateLimitTelemetry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side token bucket for everything the tests send to the site under test: API calls
+ * (RateLimitFilter) and browser navigations ({@link LazyDriver}) take a permit first. When the
+ * bucket is empty callers wait their turn here, so parallel tests queue in the JVM instead of
+ * piling onto the site until it throttles them and they fail slowly on timeouts.
+ *
+ * The rate adapts AIMD-style. Every adjust interval in which the site answered normally it grows
+ * by increasePerSec, up to maxPerSec. It is multiplied by decreaseFactor (at most once per
+ * interval, down to minPerSec) when the site answers 429 or 5xx, a call times out, or the smoothed
+ * latency of a target rises above latencyFactor times the best seen for it. A Retry-After on a
+ * throttled answer holds every permit back for that long (up to maxPauseSec).
+ *
+ * Settings (ratelimit.*): enabled, initialPerSec, minPerSec, maxPerSec, burst, increasePerSec,
+ * decreaseFactor, latencyFactor, adjustIntervalMs, maxPauseSec. Off for site.baseUrl=local.
+ */
+public class AdaptiveRateLimiter {
+
+    public static final String API = "api";
+    public static final String PAGE = "page";
+
+    private static final double SMOOTHING = 0.2;
+    private static final int MIN_SAMPLES = 5;
+    private static final long NANOS_PER_SEC = TimeUnit.SECONDS.toNanos(1);
+    private static volatile AdaptiveRateLimiter shared;
+
+    private final boolean enabled;
+    private final double minRate;
+    private final double maxRate;
+    private final double burst;
+    private final double increase;
+    private final double decreaseFactor;
+    private final double latencyFactor;
+    private final long adjustIntervalNanos;
+    private final long maxPauseNanos;
+    private final Map<String, LatencyTrend> trends = new HashMap<>();
+
+    private double rate;
+    private double tokens;
+    private long lastRefill;
+    private long lastAdjust;
+    private long lastDecrease;
+    private boolean congestedInInterval;
+
+    public AdaptiveRateLimiter(boolean enabled, double initialRate, double minRate, double maxRate, double burst,
+                               double increasePerSec, double decreaseFactor, double latencyFactor,
+                               long adjustIntervalMs, long maxPauseSec) {
+        if (minRate <= 0 || minRate > maxRate || burst < 1 || decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new IllegalArgumentException("Invalid rate limiter settings: min " + minRate + ", max " + maxRate
+                + ", burst " + burst + ", decreaseFactor " + decreaseFactor);
+        }
+        this.enabled = enabled;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.burst = burst;
+        this.increase = increasePerSec;
+        this.decreaseFactor = decreaseFactor;
+        this.latencyFactor = latencyFactor;
+        this.adjustIntervalNanos = TimeUnit.MILLISECONDS.toNanos(adjustIntervalMs);
+        this.maxPauseNanos = TimeUnit.SECONDS.toNanos(maxPauseSec);
+        this.rate = Math.max(minRate, Math.min(maxRate, initialRate));
+        this.tokens = burst;
+        this.lastRefill = System.nanoTime();
+        this.lastAdjust = lastRefill;
+        this.lastDecrease = lastRefill - adjustIntervalNanos;
+    }
+
+    /**
+     * The limiter every API test and page navigation of this JVM goes through
+     */
+    public static AdaptiveRateLimiter shared() {
+        if (shared == null) {
+            synchronized (AdaptiveRateLimiter.class) {
+                if (shared == null) {
+                    AdaptiveRateLimiter limiter = fromConfig();
+                    if (limiter.isEnabled()) {
+                        RateLimitTelemetry.recordRate(limiter.getRate(), false);
+                    }
+                    shared = limiter;
+                }
+            }
+        }
+        return shared;
+    }
+
+    public static AdaptiveRateLimiter fromConfig() {
+        // The embedded storefront is ours to load
+        boolean local = SiteUnderTest.LOCAL.equalsIgnoreCase(FrameworkConfig.getString("site.baseUrl", ""));
+        return new AdaptiveRateLimiter(
+            FrameworkConfig.getBoolean("ratelimit.enabled", true) && !local,
+            Double.parseDouble(FrameworkConfig.getString("ratelimit.initialPerSec", "8")),
+            Double.parseDouble(FrameworkConfig.getString("ratelimit.minPerSec", "1")),
+            Double.parseDouble(FrameworkConfig.getString("ratelimit.maxPerSec", "40")),
+            Double.parseDouble(FrameworkConfig.getString("ratelimit.burst", "4")),
+            Double.parseDouble(FrameworkConfig.getString("ratelimit.increasePerSec", "0.5")),
+            Double.parseDouble(FrameworkConfig.getString("ratelimit.decreaseFactor", "0.5")),
+            Double.parseDouble(FrameworkConfig.getString("ratelimit.latencyFactor", "3")),
+            FrameworkConfig.getLong("ratelimit.adjustIntervalMs", 1000),
+            FrameworkConfig.getLong("ratelimit.maxPauseSec", 60));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Take a permit, waiting until the bucket has one
+     * @param channel api or page, for the queueing report
+     * @return Nanoseconds waited
+     */
+    public long acquire(String channel) {
+        if (!enabled) {
+            return 0;
+        }
+        long waitNanos;
+        synchronized (this) {
+            refill(System.nanoTime());
+            tokens -= 1;
+            // A negative balance is the queue ahead of this caller
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens / rate * NANOS_PER_SEC);
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        RateLimitTelemetry.recordWait(channel, TimeUnit.NANOSECONDS.toMicros(waitNanos));
+        return waitNanos;
+    }
+
+    /**
+     * A normal answer
+     * @param target What the latency trend is kept for, e.g. the endpoint path or page path
+     */
+    public void onCompleted(String target, long latencyNanos) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            long now = System.nanoTime();
+            boolean slow = trends.computeIfAbsent(target, t -> new LatencyTrend()).add(latencyNanos, latencyFactor);
+            adjust(now, slow);
+        }
+    }
+
+    /**
+     * A 429 or 5xx answer
+     * @param retryAfterSec The server's Retry-After in seconds, 0 if none
+     */
+    public void onThrottled(String channel, long retryAfterSec) {
+        if (!enabled) {
+            return;
+        }
+        RateLimitTelemetry.recordThrottled(channel);
+        synchronized (this) {
+            long now = System.nanoTime();
+            adjust(now, true);
+            long pauseNanos = Math.min(TimeUnit.SECONDS.toNanos(Math.max(0, retryAfterSec)), maxPauseNanos);
+            if (pauseNanos > 0) {
+                // Hold back later permits: they queue behind a debt worth the pause
+                tokens = Math.min(tokens, 0) - rate * pauseNanos / NANOS_PER_SEC;
+            }
+        }
+    }
+
+    public void onTimeout(String channel) {
+        if (!enabled) {
+            return;
+        }
+        RateLimitTelemetry.recordTimeout(channel);
+        synchronized (this) {
+            adjust(System.nanoTime(), true);
+        }
+    }
+
+    /**
+     * Permitted requests per second right now
+     */
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(burst, tokens + (double) (now - lastRefill) / NANOS_PER_SEC * rate);
+        lastRefill = now;
+    }
+
+    private void adjust(long now, boolean congested) {
+        refill(now);
+        if (congested) {
+            congestedInInterval = true;
+            // Answers to requests sent before the last cut say nothing about the new rate
+            if (now - lastDecrease >= adjustIntervalNanos) {
+                setRate(rate * decreaseFactor, true);
+                lastDecrease = now;
+                lastAdjust = now;
+            }
+        } else if (now - lastAdjust >= adjustIntervalNanos) {
+            if (!congestedInInterval && rate < maxRate) {
+                setRate(rate + increase, false);
+            }
+            congestedInInterval = false;
+            lastAdjust = now;
+        }
+    }
+
+    private void setRate(double newRate, boolean slowDown) {
+        rate = Math.max(minRate, Math.min(maxRate, newRate));
+        RateLimitTelemetry.recordRate(rate, slowDown);
+    }
+
+    /**
+     * Smoothed latency of one target against the best it has shown
+     */
+    private static class LatencyTrend {
+        private double smoothed;
+        private double best = Double.MAX_VALUE;
+        private int samples;
+
+        /**
+         * @return true if the latency has risen above factor times its best
+         */
+        boolean add(long latencyNanos, double factor) {
+            smoothed = samples == 0 ? latencyNanos : smoothed + SMOOTHING * (latencyNanos - smoothed);
+            samples++;
+            if (samples < MIN_SAMPLES) {
+                return false;
+            }
+            best = Math.min(best, smoothed);
+            return smoothed > best * factor;
+        }
+    }
+}
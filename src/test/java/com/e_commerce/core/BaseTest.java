@@ -1,29 +1,52 @@
 package com.e_commerce.core;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 
 public class BaseTest {
-    protected WebDriver driver;
+    private final ThreadLocalDriver threadDriver = new ThreadLocalDriver();
+    // Routes to the current thread's browser, so methods of one instance can run in parallel
+    protected final WebDriver driver = threadDriver.getProxy();
 
     @BeforeMethod
     public void setUp() {
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--start-maximized");
-        options.addArguments("--disable-notifications");
-        options.addArguments("--disable-infobars");
-        driver = new ChromeDriver(options);
+        // The browser is borrowed from the pool on first use of driver, not here
+        threadDriver.bind(new LazyDriver(DriverPool.getInstance()::acquire));
     }
 
-    @AfterMethod
-    public void tearDown() {
-        if (driver != null) {
-            driver.quit();
+    /**
+     * Log the driver in as a configured user profile, restoring a saved session when possible
+     * @param profile Profile name from session.user.&lt;profile&gt;.* in framework.properties
+     */
+    protected void loginAs(String profile) {
+        SessionSnapshotStore.getInstance().login(driver, profile);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown(ITestResult result) {
+        LazyDriver lazyDriver = threadDriver.current();
+        if (lazyDriver == null) {
+            return;
+        }
+        PooledDriver session = lazyDriver.getSession();
+        BrowserUsageStats.recordTestFinished(session != null);
+        if (session != null) {
+            NetworkBlocker blocker = session.getNetworkBlocker();
+            if (blocker != null) {
+                System.out.println("Network [" + result.getMethod().getMethodName() + "]: " + blocker.getSummary());
+            }
+            boolean crashed = lazyDriver.isQuit() || isBrowserCrash(result.getThrowable());
+            DriverPool.getInstance().release(session, crashed);
         }
+        threadDriver.unbind();
+    }
+
+    private static boolean isBrowserCrash(Throwable throwable) {
+        return throwable instanceof NoSuchSessionException
+            || throwable instanceof UnreachableBrowserException;
     }
 }
@@ -0,0 +1,63 @@
+package com.e_commerce.core;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Puts cookies into a browser session without the usual WebDriver restriction of
+ * first loading a page on the cookie's domain
+ */
+public final class BrowserCookies {
+
+    private BrowserCookies() {
+    }
+
+    /**
+     * Set cookies for the site at url. Uses CDP Network.setCookie on Chromium
+     * (no navigation); otherwise opens url once and falls back to addCookie.
+     */
+    public static void set(WebDriver driver, String url, Collection<Cookie> cookies) {
+        WebDriver target = driver instanceof WrapsDriver ? ((WrapsDriver) driver).getWrappedDriver() : driver;
+        if (target instanceof ChromiumDriver) {
+            try {
+                for (Cookie cookie : cookies) {
+                    ((ChromiumDriver) target).executeCdpCommand("Network.setCookie", toCdp(url, cookie));
+                }
+                return;
+            } catch (WebDriverException e) {
+                // Fall through to the WebDriver route
+            }
+        }
+        driver.get(url);
+        for (Cookie cookie : cookies) {
+            driver.manage().addCookie(cookie);
+        }
+    }
+
+    private static Map<String, Object> toCdp(String url, Cookie cookie) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("url", url);
+        params.put("name", cookie.getName());
+        params.put("value", cookie.getValue());
+        params.put("path", cookie.getPath() == null ? "/" : cookie.getPath());
+        params.put("secure", cookie.isSecure());
+        params.put("httpOnly", cookie.isHttpOnly());
+        if (cookie.getDomain() != null) {
+            params.put("domain", cookie.getDomain());
+        }
+        if (cookie.getExpiry() != null) {
+            params.put("expires", cookie.getExpiry().getTime() / 1000.0);
+        }
+        if (cookie.getSameSite() != null) {
+            params.put("sameSite", cookie.getSameSite());
+        }
+        return params;
+    }
+}
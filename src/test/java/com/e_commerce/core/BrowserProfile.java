@@ -0,0 +1,50 @@
+package com.e_commerce.core;
+
+import java.util.List;
+
+/**
+ * Execution profile for UI sessions, selected with browser.profile.
+ * - standard: headed Chrome, every resource loaded (default)
+ * - lightweight: headless Chrome with ads, analytics, fonts and images dropped via CDP
+ */
+public final class BrowserProfile {
+
+    private static final BrowserProfile CURRENT = new BrowserProfile(
+        FrameworkConfig.getString("browser.profile", "standard"),
+        NetworkBlocker.splitList(FrameworkConfig.getString("browser.lightweight.blockedUrls", "")),
+        NetworkBlocker.splitList(FrameworkConfig.getString("browser.lightweight.blockedResourceTypes", "")));
+
+    private final String name;
+    private final List<String> blockedUrlPatterns;
+    private final List<String> blockedResourceTypes;
+
+    private BrowserProfile(String name, List<String> blockedUrlPatterns, List<String> blockedResourceTypes) {
+        this.name = name;
+        this.blockedUrlPatterns = blockedUrlPatterns;
+        this.blockedResourceTypes = blockedResourceTypes;
+    }
+
+    public static BrowserProfile current() {
+        return CURRENT;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isLightweight() {
+        return "lightweight".equalsIgnoreCase(name);
+    }
+
+    public boolean isHeadless() {
+        return isLightweight() || FrameworkConfig.getBoolean("browser.headless", false);
+    }
+
+    public List<String> getBlockedUrlPatterns() {
+        return blockedUrlPatterns;
+    }
+
+    public List<String> getBlockedResourceTypes() {
+        return blockedResourceTypes;
+    }
+}
@@ -0,0 +1,166 @@
+package com.e_commerce.core;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Launches Chrome sessions ahead of demand on a background executor so that
+ * {@link DriverPool} can hand out an already-started browser.
+ *
+ * Counters:
+ * - hit: a warm session was ready
+ * - wait: a launch was already in flight and the caller waited for it
+ * - miss: nothing was warm or in flight, the session was started on the test thread
+ */
+public final class BrowserProvisioner {
+
+    private static final BrowserProvisioner INSTANCE = new BrowserProvisioner();
+
+    private final BlockingQueue<WebDriver> ready = new LinkedBlockingQueue<>();
+    private final ExecutorService launcher = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "browser-prewarm");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final long launchTimeoutMs = FrameworkConfig.getLong("driver.prewarm.launchTimeoutMs", 60000);
+    private final int spareSessions = FrameworkConfig.getInt("driver.prewarm.spare", 1);
+    private volatile int target;
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger waits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+    private final AtomicInteger launched = new AtomicInteger();
+    private final AtomicLong totalLaunchMs = new AtomicLong();
+    private final AtomicLong totalWaitMs = new AtomicLong();
+
+    private BrowserProvisioner() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "browser-prewarm-shutdown"));
+    }
+
+    public static BrowserProvisioner getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start warming sessions in the background
+     * @param count Number of sessions to have ready, normally the suite thread-count
+     */
+    public void prewarm(int count) {
+        target = Math.max(count, 0);
+        replenish();
+        // After the initial burst only a small spare is kept for recycled sessions
+        target = Math.min(target, spareSessions);
+    }
+
+    /**
+     * Get a started browser, preferring a pre-warmed one
+     */
+    public WebDriver obtain() {
+        WebDriver driver = ready.poll();
+        if (driver != null) {
+            hits.incrementAndGet();
+            replenish();
+            return driver;
+        }
+
+        if (inFlight.get() > 0) {
+            long start = System.currentTimeMillis();
+            try {
+                driver = ready.poll(launchTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (driver != null) {
+                waits.incrementAndGet();
+                totalWaitMs.addAndGet(System.currentTimeMillis() - start);
+                replenish();
+                return driver;
+            }
+        }
+
+        misses.incrementAndGet();
+        replenish();
+        return launch();
+    }
+
+    /**
+     * Quit sessions that were warmed but never handed out
+     */
+    public void shutdown() {
+        launcher.shutdownNow();
+        WebDriver driver;
+        while ((driver = ready.poll()) != null) {
+            try {
+                driver.quit();
+            } catch (WebDriverException e) {
+                // Browser already gone
+            }
+        }
+    }
+
+    private synchronized void replenish() {
+        while (ready.size() + inFlight.get() < target) {
+            inFlight.incrementAndGet();
+            launcher.submit(() -> {
+                try {
+                    ready.offer(launch());
+                } catch (RuntimeException e) {
+                    System.err.println("Browser pre-warm failed: " + e.getMessage());
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private WebDriver launch() {
+        long start = System.currentTimeMillis();
+        WebDriver driver = DriverFactory.createChromeDriver();
+        totalLaunchMs.addAndGet(System.currentTimeMillis() - start);
+        launched.incrementAndGet();
+        return driver;
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+
+    public int getWaits() {
+        return waits.get();
+    }
+
+    public int getMisses() {
+        return misses.get();
+    }
+
+    public int getLaunched() {
+        return launched.get();
+    }
+
+    public long getAverageLaunchMs() {
+        int count = launched.get();
+        return count == 0 ? 0 : totalLaunchMs.get() / count;
+    }
+
+    /**
+     * Estimated browser startup time taken off the test threads
+     */
+    public long getHiddenLatencyMs() {
+        long avg = getAverageLaunchMs();
+        return hits.get() * avg + Math.max(0, waits.get() * avg - totalWaitMs.get());
+    }
+
+    public String getSummary() {
+        return String.format("Browser pre-warm: hits=%d, waits=%d, misses=%d, launched=%d, avg launch=%d ms, hidden startup=%d ms",
+            getHits(), getWaits(), getMisses(), getLaunched(), getAverageLaunchMs(), getHiddenLatencyMs());
+    }
+}
@@ -0,0 +1,157 @@
+package com.e_commerce.core;
+
+/**
+ * JavaScript snippets executed in the page under test
+ */
+public final class BrowserScripts {
+
+    /**
+     * Counts in-flight fetch/XHR calls in window.__e2eNet.
+     * Installed on every new document through CDP when available, otherwise injected on demand.
+     */
+    public static final String NETWORK_TRACKER =
+        "(function () {" +
+        "  if (window.__e2eNet) { return; }" +
+        "  var net = window.__e2eNet = { pending: 0, last: Date.now() };" +
+        "  function start() { net.pending++; net.last = Date.now(); }" +
+        "  function end() { net.pending = Math.max(0, net.pending - 1); net.last = Date.now(); }" +
+        "  if (window.fetch) {" +
+        "    var origFetch = window.fetch;" +
+        "    window.fetch = function () {" +
+        "      start();" +
+        "      return origFetch.apply(this, arguments).then(" +
+        "        function (r) { end(); return r; }," +
+        "        function (e) { end(); throw e; });" +
+        "    };" +
+        "  }" +
+        "  var origSend = XMLHttpRequest.prototype.send;" +
+        "  XMLHttpRequest.prototype.send = function () {" +
+        "    start();" +
+        "    this.addEventListener('loadend', end);" +
+        "    return origSend.apply(this, arguments);" +
+        "  };" +
+        "})();";
+
+    /**
+     * Async: resolves true once no fetch/XHR is pending for arguments[0] ms, false after arguments[1] ms
+     */
+    public static final String AWAIT_NETWORK_IDLE =
+        "var quiet = arguments[0], max = arguments[1], done = arguments[arguments.length - 1];" +
+        "var start = Date.now();" +
+        "(function check() {" +
+        "  var net = window.__e2eNet;" +
+        "  var now = Date.now();" +
+        "  if (!net || (net.pending === 0 && now - net.last >= quiet)) { done(true); return; }" +
+        "  if (now - start >= max) { done(false); return; }" +
+        "  setTimeout(check, 25);" +
+        "})();";
+
+    /**
+     * Async: resolves true once the DOM has not mutated for arguments[0] ms, false after arguments[1] ms
+     */
+    public static final String AWAIT_DOM_STABLE =
+        "var quiet = arguments[0], max = arguments[1], done = arguments[arguments.length - 1];" +
+        "var timer, hard, observer;" +
+        "function finish(ok) { observer.disconnect(); clearTimeout(timer); clearTimeout(hard); done(ok); }" +
+        "observer = new MutationObserver(function () {" +
+        "  clearTimeout(timer);" +
+        "  timer = setTimeout(function () { finish(true); }, quiet);" +
+        "});" +
+        "observer.observe(document.documentElement || document," +
+        "  { childList: true, subtree: true, attributes: true, characterData: true });" +
+        "timer = setTimeout(function () { finish(true); }, quiet);" +
+        "hard = setTimeout(function () { finish(false); }, max);";
+
+    /**
+     * Async: resolves true once document.readyState is complete, false after arguments[0] ms
+     */
+    public static final String AWAIT_DOCUMENT_READY =
+        "var max = arguments[0], done = arguments[arguments.length - 1];" +
+        "var start = Date.now();" +
+        "(function check() {" +
+        "  if (document.readyState === 'complete') { done(true); return; }" +
+        "  if (Date.now() - start >= max) { done(false); return; }" +
+        "  setTimeout(check, 25);" +
+        "})();";
+
+    /**
+     * Resolve a list of locator specs ({name, how, using, list, branches}) in one pass.
+     * Returns {name: [{tag, text, visible, attributes, branch}]}, where text follows
+     * WebElement.getText() (empty for hidden elements) and branch is the index of the
+     * comma-separated CSS branch the element matched (-1 if not applicable).
+     */
+    public static final String PAGE_SNAPSHOT =
+        "var specs = arguments[0], out = {};" +
+        "function isVisible(el) {" +
+        "  var style = window.getComputedStyle(el);" +
+        "  return !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length)" +
+        "    && style.visibility !== 'hidden' && style.display !== 'none';" +
+        "}" +
+        "function attributesOf(el) {" +
+        "  var map = {};" +
+        "  for (var i = 0; i < el.attributes.length; i++) { map[el.attributes[i].name] = el.attributes[i].value; }" +
+        "  return map;" +
+        "}" +
+        "function byCss(selector) {" +
+        "  try { return Array.prototype.slice.call(document.querySelectorAll(selector)); } catch (e) { return []; }" +
+        "}" +
+        "function byXpath(xpath) {" +
+        "  var found = [];" +
+        "  try {" +
+        "    var snap = document.evaluate(xpath, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+        "    for (var i = 0; i < snap.snapshotLength; i++) { found.push(snap.snapshotItem(i)); }" +
+        "  } catch (e) {}" +
+        "  return found;" +
+        "}" +
+        "function byLinkText(text, partial) {" +
+        "  return Array.prototype.filter.call(document.getElementsByTagName('a'), function (a) {" +
+        "    var t = (a.innerText || '').trim();" +
+        "    return partial ? t.indexOf(text) >= 0 : t === text;" +
+        "  });" +
+        "}" +
+        "function resolve(spec) {" +
+        "  if (spec.how === 'css') { return byCss(spec.using); }" +
+        "  if (spec.how === 'xpath') { return byXpath(spec.using); }" +
+        "  if (spec.how === 'linkText') { return byLinkText(spec.using, false); }" +
+        "  if (spec.how === 'partialLinkText') { return byLinkText(spec.using, true); }" +
+        "  return [];" +
+        "}" +
+        "function branchOf(el, branches) {" +
+        "  for (var i = 0; i < branches.length; i++) {" +
+        "    try { if (el.matches(branches[i])) { return i; } } catch (e) {}" +
+        "  }" +
+        "  return -1;" +
+        "}" +
+        "specs.forEach(function (spec) {" +
+        "  var els = resolve(spec);" +
+        "  if (!spec.list) { els = els.slice(0, 1); }" +
+        "  out[spec.name] = els.map(function (el) {" +
+        "    var visible = isVisible(el);" +
+        "    return { tag: el.tagName.toLowerCase(), text: visible ? (el.innerText || '').trim() : ''," +
+        "      visible: visible, attributes: attributesOf(el), branch: branchOf(el, spec.branches || []) };" +
+        "  });" +
+        "});" +
+        "return out;";
+
+    /**
+     * Returns {local: {...}, session: {...}} with every localStorage and sessionStorage entry
+     */
+    public static final String CAPTURE_STORAGE =
+        "function dump(store) {" +
+        "  var map = {};" +
+        "  for (var i = 0; i < store.length; i++) { var k = store.key(i); map[k] = store.getItem(k); }" +
+        "  return map;" +
+        "}" +
+        "return { local: dump(window.localStorage), session: dump(window.sessionStorage) };";
+
+    /**
+     * Write arguments[0] into localStorage and arguments[1] into sessionStorage
+     */
+    public static final String RESTORE_STORAGE =
+        "var local = arguments[0] || {}, session = arguments[1] || {};" +
+        "Object.keys(local).forEach(function (k) { window.localStorage.setItem(k, local[k]); });" +
+        "Object.keys(session).forEach(function (k) { window.sessionStorage.setItem(k, session[k]); });";
+
+    private BrowserScripts() {
+    }
+}
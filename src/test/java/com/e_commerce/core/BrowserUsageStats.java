@@ -0,0 +1,53 @@
+package com.e_commerce.core;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-suite counters of browser cost: how many sessions were started
+ * and how many tests actually touched a browser.
+ */
+public final class BrowserUsageStats {
+
+    private static final Set<PooledDriver> usedSessions =
+        Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    private static final AtomicInteger testsWithBrowser = new AtomicInteger();
+    private static final AtomicInteger testsWithoutBrowser = new AtomicInteger();
+    private static volatile int launchedAtStart;
+
+    private BrowserUsageStats() {
+    }
+
+    /**
+     * Reset counters at suite start
+     */
+    public static void reset() {
+        usedSessions.clear();
+        testsWithBrowser.set(0);
+        testsWithoutBrowser.set(0);
+        launchedAtStart = BrowserProvisioner.getInstance().getLaunched();
+    }
+
+    static void recordBrowserUsed(PooledDriver session) {
+        usedSessions.add(session);
+    }
+
+    static void recordTestFinished(boolean usedBrowser) {
+        (usedBrowser ? testsWithBrowser : testsWithoutBrowser).incrementAndGet();
+    }
+
+    public static int getBrowsersStarted() {
+        return BrowserProvisioner.getInstance().getLaunched() - launchedAtStart;
+    }
+
+    public static int getBrowsersUsed() {
+        return usedSessions.size();
+    }
+
+    public static String getSummary() {
+        return String.format("Browsers started=%d, browsers used=%d, tests with browser=%d, tests without browser=%d",
+            getBrowsersStarted(), getBrowsersUsed(), testsWithBrowser.get(), testsWithoutBrowser.get());
+    }
+}
@@ -0,0 +1,71 @@
+package com.e_commerce.core;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates browser sessions for the driver pool
+ */
+public final class DriverFactory {
+
+    private static volatile boolean driverResolved;
+
+    private DriverFactory() {
+    }
+
+    /**
+     * Resolve the chromedriver binary once per JVM.
+     * WebDriverManager hits its cache/network on every setup() call, so it is not repeated per session.
+     */
+    public static void resolveDriverBinary() {
+        if (!driverResolved) {
+            synchronized (DriverFactory.class) {
+                if (!driverResolved) {
+                    WebDriverManager.chromedriver().setup();
+                    driverResolved = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Start a new Chrome session configured for the active {@link BrowserProfile}
+     */
+    public static WebDriver createChromeDriver() {
+        resolveDriverBinary();
+        BrowserProfile profile = BrowserProfile.current();
+        ChromeOptions options = new ChromeOptions();
+        if (profile.isHeadless()) {
+            options.addArguments("--headless=new");
+            options.addArguments("--window-size=1920,1080");
+        } else {
+            options.addArguments("--start-maximized");
+        }
+        options.addArguments("--disable-notifications");
+        options.addArguments("--disable-infobars");
+        ChromeDriver driver = new ChromeDriver(options);
+        installNetworkTracker(driver);
+        NetworkBlocker.attachIfEnabled(driver);
+        return driver;
+    }
+
+    /**
+     * Register the fetch/XHR counter on every new document so network-idle waits
+     * also see requests started before the test first asks
+     */
+    private static void installNetworkTracker(ChromeDriver driver) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("source", BrowserScripts.NETWORK_TRACKER);
+        try {
+            driver.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", params);
+        } catch (WebDriverException e) {
+            // BasePage injects the tracker on demand instead
+        }
+    }
+}
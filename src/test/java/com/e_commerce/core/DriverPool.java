@@ -0,0 +1,107 @@
+package com.e_commerce.core;
+
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+
+/**
+ * JVM-wide pool of Chrome sessions shared by all UI tests.
+ * A session is reset between tests instead of being quit, and is recycled
+ * after driver.pool.maxUses borrows, after a failed health check or after a crash.
+ */
+public final class DriverPool {
+
+    private static final DriverPool INSTANCE = new DriverPool(
+        FrameworkConfig.getInt("driver.pool.maxSize", 3),
+        FrameworkConfig.getInt("driver.pool.maxUses", 25));
+
+    private final int maxUses;
+    private int maxSize;
+    private final Semaphore capacity;
+    private final BlockingDeque<PooledDriver> idle = new LinkedBlockingDeque<>();
+    private final Set<PooledDriver> sessions = ConcurrentHashMap.newKeySet();
+
+    private DriverPool(int maxSize, int maxUses) {
+        this.maxUses = maxUses;
+        this.maxSize = maxSize;
+        this.capacity = new Semaphore(maxSize, true);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-pool-shutdown"));
+    }
+
+    public static DriverPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Grow the pool so that at least the given number of sessions can be borrowed concurrently
+     */
+    public synchronized void ensureCapacity(int size) {
+        if (size > maxSize) {
+            capacity.release(size - maxSize);
+            maxSize = size;
+        }
+    }
+
+    /**
+     * Borrow a healthy session, blocking while all sessions are in use
+     */
+    public PooledDriver acquire() {
+        capacity.acquireUninterruptibly();
+        try {
+            PooledDriver session;
+            while ((session = idle.pollFirst()) != null) {
+                if (session.isHealthy()) {
+                    session.markBorrowed();
+                    return session;
+                }
+                discard(session);
+            }
+            session = new PooledDriver(BrowserProvisioner.getInstance().obtain());
+            sessions.add(session);
+            session.markBorrowed();
+            return session;
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a session to the pool
+     * @param session Session obtained from {@link #acquire()}
+     * @param crashed true if the test ended with a browser/session crash
+     */
+    public void release(PooledDriver session, boolean crashed) {
+        try {
+            if (crashed || session.getUses() >= maxUses || !session.reset()) {
+                discard(session);
+            } else {
+                idle.offerFirst(session);
+            }
+        } finally {
+            capacity.release();
+        }
+    }
+
+    /**
+     * Quit every browser owned by the pool
+     */
+    public void shutdown() {
+        idle.clear();
+        for (PooledDriver session : sessions) {
+            session.quit();
+        }
+        sessions.clear();
+    }
+
+    public int getOpenSessionCount() {
+        return sessions.size();
+    }
+
+    private void discard(PooledDriver session) {
+        sessions.remove(session);
+        session.quit();
+    }
+}
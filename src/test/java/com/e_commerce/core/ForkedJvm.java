@@ -0,0 +1,64 @@
+package com.e_commerce.core;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command lines for child JVMs that run tests on the current test classpath,
+ * with the framework's system properties forwarded
+ */
+final class ForkedJvm {
+
+    private static final List<String> FORWARDED_PREFIXES =
+        Arrays.asList("driver.", "browser.", "wait.", "site.", "session.", "scheduler.", "db.", "api.");
+
+    private ForkedJvm() {
+    }
+
+    /**
+     * java -cp &lt;test classpath&gt; [forwarded -D] [properties as -D] mainClass args
+     * @param properties Per-child settings, taking precedence over forwarded ones
+     */
+    static List<String> command(Map<String, String> properties, String mainClass, List<String> args) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(classpath());
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (FORWARDED_PREFIXES.stream().anyMatch(key::startsWith) && !properties.containsKey(key)) {
+                command.add("-D" + key + "=" + System.getProperty(key));
+            }
+        }
+        properties.forEach((key, value) -> command.add("-D" + key + "=" + value));
+        command.add(mainClass);
+        command.addAll(args);
+        return command;
+    }
+
+    /**
+     * Test classpath: exec:java runs us in an isolated class loader, so java.class.path is Maven's own
+     */
+    static String classpath() {
+        ClassLoader loader = ForkedJvm.class.getClassLoader();
+        if (loader instanceof URLClassLoader) {
+            List<String> entries = new ArrayList<>();
+            for (URL url : ((URLClassLoader) loader).getURLs()) {
+                try {
+                    entries.add(Paths.get(url.toURI()).toString());
+                } catch (Exception e) {
+                    // Not a file entry
+                }
+            }
+            if (!entries.isEmpty()) {
+                return String.join(File.pathSeparator, entries);
+            }
+        }
+        return System.getProperty("java.class.path");
+    }
+}
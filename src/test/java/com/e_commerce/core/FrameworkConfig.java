@@ -0,0 +1,79 @@
+package com.e_commerce.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Central access to framework settings.
+ * Values are read from framework.properties on the test classpath and can be
+ * overridden per run with JVM system properties (e.g. -Ddriver.pool.maxUses=10).
+ */
+public final class FrameworkConfig {
+
+    private static final String RESOURCE = "framework.properties";
+    private static final Properties props = new Properties();
+
+    static {
+        try (InputStream is = FrameworkConfig.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (is != null) {
+                props.load(is);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load " + RESOURCE, e);
+        }
+    }
+
+    private FrameworkConfig() {
+    }
+
+    /**
+     * Get a setting, system properties take precedence over framework.properties
+     */
+    public static String getString(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            value = props.getProperty(key);
+        }
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        return Integer.parseInt(getString(key, String.valueOf(defaultValue)));
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        return Long.parseLong(getString(key, String.valueOf(defaultValue)));
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(getString(key, String.valueOf(defaultValue)));
+    }
+
+    /**
+     * Keys starting with a prefix, from framework.properties and system properties, sorted
+     */
+    public static Set<String> getKeys(String prefix) {
+        Set<String> keys = new TreeSet<>();
+        for (String key : props.stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                keys.add(key);
+            }
+        }
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Path of a report file under report.dir (test-output unless a sharded run gives each JVM its own directory)
+     */
+    public static String reportFile(String fileName) {
+        return getString("report.dir", "test-output") + "/" + fileName;
+    }
+}
@@ -0,0 +1,169 @@
+package com.e_commerce.core;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.interactions.Interactive;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.URL;
+import java.util.function.Supplier;
+
+/**
+ * WebDriver handle that only borrows a browser from the pool on first use.
+ * Tests keep using the plain {@code driver} field; classes that never touch it
+ * (e.g. database tests) never start or borrow a browser.
+ * Navigations (get and navigate()) take a permit from the shared {@link AdaptiveRateLimiter} first.
+ */
+public class LazyDriver implements InvocationHandler {
+
+    static final Class<?>[] INTERFACES = {
+        WebDriver.class, JavascriptExecutor.class, TakesScreenshot.class,
+        HasCapabilities.class, Interactive.class, WrapsDriver.class
+    };
+
+    private final Supplier<PooledDriver> sessionSupplier;
+    private final WebDriver proxy;
+    private PooledDriver session;
+    private boolean quit;
+
+    public LazyDriver(Supplier<PooledDriver> sessionSupplier) {
+        this.sessionSupplier = sessionSupplier;
+        this.proxy = (WebDriver) Proxy.newProxyInstance(
+            LazyDriver.class.getClassLoader(), INTERFACES, this);
+    }
+
+    /**
+     * The WebDriver handed to tests and page objects
+     */
+    public WebDriver getProxy() {
+        return proxy;
+    }
+
+    public boolean isStarted() {
+        return session != null;
+    }
+
+    /**
+     * @return the borrowed session, or null if the browser was never used
+     */
+    public PooledDriver getSession() {
+        return session;
+    }
+
+    /**
+     * true if the test called quit() itself, so the session cannot go back to the pool
+     */
+    public boolean isQuit() {
+        return quit;
+    }
+
+    /**
+     * Check whether a driver handle has a live browser behind it without starting one
+     */
+    public static boolean isStarted(WebDriver driver) {
+        if (driver != null && Proxy.isProxyClass(driver.getClass())) {
+            InvocationHandler handler = Proxy.getInvocationHandler(driver);
+            if (handler instanceof LazyDriver) {
+                return ((LazyDriver) handler).isStarted();
+            }
+            if (handler instanceof ThreadLocalDriver) {
+                LazyDriver bound = ((ThreadLocalDriver) handler).current();
+                return bound != null && bound.isStarted();
+            }
+        }
+        return driver != null;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "LazyDriver[" + (isStarted() ? session.getDriver() : "not started") + "]";
+            case "getWrappedDriver":
+                return materialize();
+            case "quit":
+            case "close":
+                if (!isStarted()) {
+                    return null;
+                }
+                quit = quit || "quit".equals(method.getName());
+                break;
+            case "get":
+                return navigate(method, materialize(), args);
+            case "navigate":
+                WebDriver.Navigation navigation = materialize().navigate();
+                return Proxy.newProxyInstance(LazyDriver.class.getClassLoader(),
+                    new Class<?>[] {WebDriver.Navigation.class}, (p, m, a) -> navigate(m, navigation, a));
+            default:
+                break;
+        }
+
+        try {
+            return method.invoke(materialize(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Page load through the rate limiter: a timeout slows it down, a completed load feeds the
+     * latency trend of its path
+     */
+    private static Object navigate(Method method, Object target, Object[] args) throws Throwable {
+        AdaptiveRateLimiter limiter = AdaptiveRateLimiter.shared();
+        if (method.getDeclaringClass() == Object.class || !limiter.isEnabled()) {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+        limiter.acquire(AdaptiveRateLimiter.PAGE);
+        long start = System.nanoTime();
+        try {
+            Object result = method.invoke(target, args);
+            limiter.onCompleted(pageTarget(args), System.nanoTime() - start);
+            return result;
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                limiter.onTimeout(AdaptiveRateLimiter.PAGE);
+            }
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * "page /products" for get/to, "page" for back, forward and refresh
+     */
+    private static String pageTarget(Object[] args) {
+        if (args == null || args.length == 0) {
+            return AdaptiveRateLimiter.PAGE;
+        }
+        try {
+            String path = args[0] instanceof URL ? ((URL) args[0]).getPath() : URI.create(String.valueOf(args[0])).getPath();
+            return AdaptiveRateLimiter.PAGE + " " + (path == null || path.isEmpty() ? "/" : path);
+        } catch (IllegalArgumentException e) {
+            return AdaptiveRateLimiter.PAGE;
+        }
+    }
+
+    private synchronized WebDriver materialize() {
+        if (session == null) {
+            session = sessionSupplier.get();
+            BrowserUsageStats.recordBrowserUsed(session);
+        }
+        return session.getDriver();
+    }
+}
@@ -0,0 +1,153 @@
+package com.e_commerce.core;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Drops page resources the tests never assert on (ads, analytics, fonts, images)
+ * through the Chrome DevTools Protocol, and counts what was blocked per test.
+ *
+ * Two mechanisms are used:
+ * - Network.setBlockedURLs for third-party domains and file patterns
+ * - Fetch request interception for whole resource classes (Image, Font, Media)
+ *
+ * Blocked requests never reach the network, so their size is unknown; the
+ * bytes that were still transferred are reported alongside for comparison
+ * with a standard profile run.
+ */
+public class NetworkBlocker {
+
+    private static final Map<WebDriver, NetworkBlocker> blockers =
+        Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private static final Function<JsonInput, Map<String, Object>> AS_MAP = input -> input.read(Json.MAP_TYPE);
+
+    private final DevTools devTools;
+    private final AtomicInteger blockedByUrl = new AtomicInteger();
+    private final AtomicInteger blockedByType = new AtomicInteger();
+    private final AtomicInteger finishedRequests = new AtomicInteger();
+    private final AtomicLong transferredBytes = new AtomicLong();
+
+    private NetworkBlocker(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    /**
+     * Install blocking on a freshly started driver when the lightweight profile is active
+     */
+    static void attachIfEnabled(WebDriver driver) {
+        if (!BrowserProfile.current().isLightweight() || !(driver instanceof HasDevTools)) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            NetworkBlocker blocker = new NetworkBlocker(devTools);
+            blocker.install(BrowserProfile.current());
+            blockers.put(driver, blocker);
+        } catch (RuntimeException e) {
+            System.err.println("Network blocking unavailable, continuing without it: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return the blocker installed on the driver, or null for standard sessions
+     */
+    static NetworkBlocker get(WebDriver driver) {
+        return blockers.get(driver);
+    }
+
+    static void detach(WebDriver driver) {
+        blockers.remove(driver);
+    }
+
+    private void install(BrowserProfile profile) {
+        devTools.send(new Command<>("Network.enable", new HashMap<>()));
+
+        Map<String, Object> blockParams = new HashMap<>();
+        blockParams.put("urls", profile.getBlockedUrlPatterns());
+        devTools.send(new Command<>("Network.setBlockedURLs", blockParams));
+
+        devTools.addListener(new Event<>("Network.loadingFailed", AS_MAP), params -> {
+            if (params.get("blockedReason") != null) {
+                blockedByUrl.incrementAndGet();
+            }
+        });
+        devTools.addListener(new Event<>("Network.loadingFinished", AS_MAP), params -> {
+            finishedRequests.incrementAndGet();
+            Object length = params.get("encodedDataLength");
+            if (length instanceof Number) {
+                transferredBytes.addAndGet(((Number) length).longValue());
+            }
+        });
+
+        List<String> resourceTypes = profile.getBlockedResourceTypes();
+        if (!resourceTypes.isEmpty()) {
+            List<Map<String, Object>> patterns = new ArrayList<>();
+            for (String type : resourceTypes) {
+                Map<String, Object> pattern = new HashMap<>();
+                pattern.put("urlPattern", "*");
+                pattern.put("resourceType", type);
+                pattern.put("requestStage", "Request");
+                patterns.add(pattern);
+            }
+            Map<String, Object> fetchParams = new HashMap<>();
+            fetchParams.put("patterns", patterns);
+            devTools.addListener(new Event<>("Fetch.requestPaused", AS_MAP), params -> {
+                Map<String, Object> fail = new HashMap<>();
+                fail.put("requestId", params.get("requestId"));
+                fail.put("errorReason", "BlockedByClient");
+                devTools.send(new Command<>("Fetch.failRequest", fail));
+                blockedByType.incrementAndGet();
+            });
+            devTools.send(new Command<>("Fetch.enable", fetchParams));
+        }
+    }
+
+    /**
+     * Start counting from zero for the next test
+     */
+    void resetCounters() {
+        blockedByUrl.set(0);
+        blockedByType.set(0);
+        finishedRequests.set(0);
+        transferredBytes.set(0);
+    }
+
+    public int getBlockedRequests() {
+        return blockedByUrl.get() + blockedByType.get();
+    }
+
+    public String getSummary() {
+        return String.format("blocked %d request(s) (%d by URL pattern, %d by resource type), loaded %d request(s), transferred %.1f KB",
+            getBlockedRequests(), blockedByUrl.get(), blockedByType.get(),
+            finishedRequests.get(), transferredBytes.get() / 1024.0);
+    }
+
+    static List<String> splitList(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,113 @@
+package com.e_commerce.core;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A browser session owned by {@link DriverPool}.
+ * Tracks how often the session was borrowed and knows how to wipe
+ * per-test state (tabs, alerts, cookies, web storage) without quitting Chrome.
+ */
+public class PooledDriver {
+
+    private static final String CLEAR_STORAGE_SCRIPT =
+        "try { window.localStorage.clear(); } catch (e) {}" +
+        "try { window.sessionStorage.clear(); } catch (e) {}";
+
+    private final WebDriver driver;
+    private final NetworkBlocker networkBlocker;
+    private final long createdAt = System.currentTimeMillis();
+    private int uses;
+
+    PooledDriver(WebDriver driver) {
+        this.driver = driver;
+        this.networkBlocker = NetworkBlocker.get(driver);
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    /**
+     * @return CDP request blocker for lightweight sessions, null otherwise
+     */
+    public NetworkBlocker getNetworkBlocker() {
+        return networkBlocker;
+    }
+
+    public int getUses() {
+        return uses;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    void markBorrowed() {
+        uses++;
+        if (networkBlocker != null) {
+            networkBlocker.resetCounters();
+        }
+    }
+
+    /**
+     * Cheap liveness probe - any WebDriver round trip fails once the browser or session is gone
+     */
+    boolean isHealthy() {
+        try {
+            return !driver.getWindowHandles().isEmpty();
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Bring the session back to a blank state for the next test
+     * @return false if the session could not be reset and should be recycled
+     */
+    boolean reset() {
+        try {
+            dismissAlert();
+
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            if (handles.isEmpty()) {
+                return false;
+            }
+            for (int i = 1; i < handles.size(); i++) {
+                driver.switchTo().window(handles.get(i)).close();
+            }
+            driver.switchTo().window(handles.get(0));
+
+            // Storage is scoped to the current origin, so clear it before leaving the page
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            driver.manage().deleteAllCookies();
+            driver.get("about:blank");
+            return true;
+        } catch (WebDriverException e) {
+            System.out.println("Driver session reset failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    void quit() {
+        NetworkBlocker.detach(driver);
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            // Browser already gone
+        }
+    }
+
+    private void dismissAlert() {
+        try {
+            driver.switchTo().alert().dismiss();
+        } catch (NoAlertPresentException e) {
+            // No alert open
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.e_commerce.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Longest-processing-time-first list scheduling for test methods.
+ * Each task's rank is its own duration plus the longest chain of tasks that
+ * depend on it (for independent tasks this is plain LPT), so long methods and
+ * the heads of long dependency chains start first and short ones fill the gaps.
+ */
+public final class SchedulePlanner {
+
+    private SchedulePlanner() {
+    }
+
+    /**
+     * A method to schedule
+     */
+    public static final class Task {
+        private final String id;
+        private final long durationMs;
+        private final Set<String> dependsOn;
+
+        public Task(String id, long durationMs, Set<String> dependsOn) {
+            this.id = id;
+            this.durationMs = durationMs;
+            this.dependsOn = dependsOn;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public long getDurationMs() {
+            return durationMs;
+        }
+    }
+
+    /**
+     * Planned start order plus the makespan of simulating it on the given threads
+     */
+    public static final class Plan {
+        private final List<String> order;
+        private final long predictedMakespanMs;
+        private final long[] threadLoadsMs;
+
+        Plan(List<String> order, long predictedMakespanMs, long[] threadLoadsMs) {
+            this.order = Collections.unmodifiableList(order);
+            this.predictedMakespanMs = predictedMakespanMs;
+            this.threadLoadsMs = threadLoadsMs;
+        }
+
+        public List<String> getOrder() {
+            return order;
+        }
+
+        public long getPredictedMakespanMs() {
+            return predictedMakespanMs;
+        }
+
+        public long[] getThreadLoadsMs() {
+            return threadLoadsMs.clone();
+        }
+    }
+
+    public static Plan plan(List<Task> tasks, int threads) {
+        Map<String, Task> byId = new LinkedHashMap<>();
+        for (Task task : tasks) {
+            byId.put(task.id, task);
+        }
+        // Only constraints between the tasks being planned matter
+        Map<String, Set<String>> deps = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        for (Task task : tasks) {
+            Set<String> inPlan = new LinkedHashSet<>();
+            for (String dep : task.dependsOn) {
+                if (byId.containsKey(dep) && !dep.equals(task.id)) {
+                    inPlan.add(dep);
+                    dependents.computeIfAbsent(dep, k -> new ArrayList<>()).add(task.id);
+                }
+            }
+            deps.put(task.id, inPlan);
+        }
+
+        Map<String, Long> rank = new HashMap<>();
+        for (Task task : tasks) {
+            rankOf(task.id, byId, dependents, rank, new LinkedHashSet<>());
+        }
+
+        List<String> order = new ArrayList<>(byId.keySet());
+        order.sort(Comparator.<String>comparingLong(rank::get).reversed()
+            .thenComparing(Comparator.<String>comparingLong(id -> byId.get(id).durationMs).reversed())
+            .thenComparing(Comparator.naturalOrder()));
+
+        return simulate(order, byId, deps, Math.max(1, threads));
+    }
+
+    private static long rankOf(String id, Map<String, Task> byId, Map<String, List<String>> dependents,
+                               Map<String, Long> rank, Set<String> visiting) {
+        Long known = rank.get(id);
+        if (known != null) {
+            return known;
+        }
+        long longestTail = 0;
+        if (visiting.add(id)) {
+            for (String next : dependents.getOrDefault(id, Collections.emptyList())) {
+                if (!visiting.contains(next)) {
+                    longestTail = Math.max(longestTail, rankOf(next, byId, dependents, rank, visiting));
+                }
+            }
+            visiting.remove(id);
+        }
+        long value = byId.get(id).durationMs + longestTail;
+        rank.put(id, value);
+        return value;
+    }
+
+    /**
+     * Greedy dispatch: whenever a thread is free, start the highest-ranked task whose dependencies are done
+     */
+    private static Plan simulate(List<String> order, Map<String, Task> byId, Map<String, Set<String>> deps, int threads) {
+        Map<String, Integer> position = new HashMap<>();
+        for (int i = 0; i < order.size(); i++) {
+            position.put(order.get(i), i);
+        }
+        PriorityQueue<String> ready = new PriorityQueue<>(Comparator.comparingInt(position::get));
+        PriorityQueue<long[]> running = new PriorityQueue<>(Comparator.comparingLong(r -> r[0]));
+        Map<String, Integer> waitingOn = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        for (String id : order) {
+            waitingOn.put(id, deps.get(id).size());
+            for (String dep : deps.get(id)) {
+                dependents.computeIfAbsent(dep, k -> new ArrayList<>()).add(id);
+            }
+            if (deps.get(id).isEmpty()) {
+                ready.add(id);
+            }
+        }
+
+        long[] loads = new long[threads];
+        List<Integer> freeThreads = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            freeThreads.add(t);
+        }
+        long now = 0;
+        long makespan = 0;
+        int done = 0;
+
+        while (done < order.size()) {
+            while (!freeThreads.isEmpty() && !ready.isEmpty()) {
+                String id = ready.poll();
+                int thread = freeThreads.remove(0);
+                long end = now + byId.get(id).durationMs;
+                loads[thread] += byId.get(id).durationMs;
+                running.add(new long[]{end, thread, position.get(id)});
+            }
+            if (running.isEmpty()) {
+                // Remaining tasks wait on each other (cycle); TestNG reports those itself
+                break;
+            }
+            long[] finished = running.poll();
+            now = finished[0];
+            makespan = Math.max(makespan, now);
+            freeThreads.add((int) finished[1]);
+            Collections.sort(freeThreads);
+            done++;
+            for (String next : dependents.getOrDefault(order.get((int) finished[2]), Collections.emptyList())) {
+                if (waitingOn.merge(next, -1, Integer::sum) == 0) {
+                    ready.add(next);
+                }
+            }
+        }
+        return new Plan(order, makespan, loads);
+    }
+}
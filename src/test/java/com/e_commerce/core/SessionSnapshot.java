@@ -0,0 +1,165 @@
+package com.e_commerce.core;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cookies plus localStorage and sessionStorage of a logged-in browser, captured once
+ * and replayed into other sessions instead of repeating the login UI flow
+ */
+public final class SessionSnapshot {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private final String profile;
+    private final long capturedAt;
+    private final List<CookieData> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+
+    public SessionSnapshot(String profile, long capturedAt, List<Cookie> cookies,
+                           Map<String, String> localStorage, Map<String, String> sessionStorage) {
+        this.profile = profile;
+        this.capturedAt = capturedAt;
+        List<CookieData> data = new ArrayList<>();
+        for (Cookie cookie : cookies) {
+            data.add(new CookieData(cookie));
+        }
+        this.cookies = data;
+        this.localStorage = new LinkedHashMap<>(localStorage);
+        this.sessionStorage = new LinkedHashMap<>(sessionStorage);
+    }
+
+    /**
+     * Capture the current page's cookies and web storage
+     */
+    @SuppressWarnings("unchecked")
+    public static SessionSnapshot capture(WebDriver driver, String profile) {
+        Map<String, String> local = new LinkedHashMap<>();
+        Map<String, String> session = new LinkedHashMap<>();
+        Object result = ((JavascriptExecutor) driver).executeScript(BrowserScripts.CAPTURE_STORAGE);
+        if (result instanceof Map) {
+            copyStrings((Map<String, Object>) ((Map<String, Object>) result).get("local"), local);
+            copyStrings((Map<String, Object>) ((Map<String, Object>) result).get("session"), session);
+        }
+        return new SessionSnapshot(profile, System.currentTimeMillis(),
+            new ArrayList<>(driver.manage().getCookies()), local, session);
+    }
+
+    /**
+     * Replay cookies, open url and replay web storage. Storage is written after the
+     * page has loaded, so the server-side session must not depend on it.
+     */
+    public void restore(WebDriver driver, String url) {
+        BrowserCookies.set(driver, url, getCookies());
+        driver.get(url);
+        if (!localStorage.isEmpty() || !sessionStorage.isEmpty()) {
+            ((JavascriptExecutor) driver).executeScript(BrowserScripts.RESTORE_STORAGE, localStorage, sessionStorage);
+        }
+    }
+
+    public String getProfile() {
+        return profile;
+    }
+
+    public long getCapturedAt() {
+        return capturedAt;
+    }
+
+    public List<Cookie> getCookies() {
+        List<Cookie> list = new ArrayList<>();
+        for (CookieData data : cookies) {
+            list.add(data.toCookie());
+        }
+        return list;
+    }
+
+    public Map<String, String> getLocalStorage() {
+        return Collections.unmodifiableMap(localStorage);
+    }
+
+    public Map<String, String> getSessionStorage() {
+        return Collections.unmodifiableMap(sessionStorage);
+    }
+
+    /**
+     * True if older than maxAgeMs or any cookie has already expired
+     */
+    public boolean isExpired(long maxAgeMs, long now) {
+        if (now - capturedAt > maxAgeMs) {
+            return true;
+        }
+        for (CookieData cookie : cookies) {
+            if (cookie.expiry != null && cookie.expiry <= now) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String toJson() {
+        return GSON.toJson(this);
+    }
+
+    public static SessionSnapshot fromJson(String json) {
+        return GSON.fromJson(json, SessionSnapshot.class);
+    }
+
+    private static void copyStrings(Map<String, Object> from, Map<String, String> to) {
+        if (from != null) {
+            from.forEach((k, v) -> to.put(k, String.valueOf(v)));
+        }
+    }
+
+    /**
+     * Serializable form of a Selenium cookie
+     */
+    private static final class CookieData {
+        private final String name;
+        private final String value;
+        private final String domain;
+        private final String path;
+        private final Long expiry;
+        private final boolean secure;
+        private final boolean httpOnly;
+        private final String sameSite;
+
+        CookieData(Cookie cookie) {
+            this.name = cookie.getName();
+            this.value = cookie.getValue();
+            this.domain = cookie.getDomain();
+            this.path = cookie.getPath();
+            this.expiry = cookie.getExpiry() == null ? null : cookie.getExpiry().getTime();
+            this.secure = cookie.isSecure();
+            this.httpOnly = cookie.isHttpOnly();
+            this.sameSite = cookie.getSameSite();
+        }
+
+        Cookie toCookie() {
+            Cookie.Builder builder = new Cookie.Builder(name, value)
+                .path(path == null ? "/" : path)
+                .isSecure(secure)
+                .isHttpOnly(httpOnly);
+            if (domain != null) {
+                builder.domain(domain);
+            }
+            if (expiry != null) {
+                builder.expiresOn(new Date(expiry));
+            }
+            if (sameSite != null) {
+                builder.sameSite(sameSite);
+            }
+            return builder.build();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.e_commerce.core;
+
+import com.e_commerce.pages.LoginPage;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Logs in once per user profile and hands the captured session to every later
+ * test that needs the same user. Snapshots are kept in memory and under
+ * session.snapshot.dir so they also survive between runs; a snapshot is dropped
+ * and the user logged in again when the site no longer accepts it.
+ *
+ * Credentials come from framework.properties: session.user.&lt;profile&gt;.email/.password
+ */
+public class SessionSnapshotStore {
+
+    private static final SessionSnapshotStore INSTANCE = new SessionSnapshotStore(
+        Paths.get(FrameworkConfig.getString("session.snapshot.dir", "test-output/sessions")),
+        TimeUnit.MINUTES.toMillis(FrameworkConfig.getLong("session.snapshot.maxAgeMinutes", 60)));
+
+    private final Path directory;
+    private final long maxAgeMs;
+    private final ConcurrentMap<String, SessionSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Object> locks = new ConcurrentHashMap<>();
+    private final AtomicInteger restored = new AtomicInteger();
+    private final AtomicInteger logins = new AtomicInteger();
+    private final AtomicInteger invalidated = new AtomicInteger();
+
+    public SessionSnapshotStore(Path directory, long maxAgeMs) {
+        this.directory = directory;
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    public static SessionSnapshotStore getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Make the driver logged in as the profile: restore its snapshot if the site still
+     * accepts it, otherwise log in through the UI and capture a new one. Parallel tests
+     * for the same profile share a single UI login.
+     */
+    public void login(WebDriver driver, String profile) {
+        long start = System.currentTimeMillis();
+        SessionSnapshot snapshot = get(profile);
+        if (snapshot != null && restore(driver, snapshot)) {
+            logRestored(profile, start);
+            return;
+        }
+        synchronized (locks.computeIfAbsent(profile, p -> new Object())) {
+            SessionSnapshot current = get(profile);
+            if (current != null && current != snapshot && restore(driver, current)) {
+                logRestored(profile, start);
+                return;
+            }
+            if (current != null) {
+                invalidate(profile);
+            }
+            save(loginThroughUi(driver, profile));
+            System.out.println("Session [" + profile + "] logged in through UI in "
+                + (System.currentTimeMillis() - start) + " ms");
+        }
+    }
+
+    /**
+     * Snapshot for the profile from memory, then disk; null if none or expired
+     */
+    public SessionSnapshot get(String profile) {
+        SessionSnapshot snapshot = snapshots.computeIfAbsent(profile, this::load);
+        if (snapshot != null && snapshot.isExpired(maxAgeMs, System.currentTimeMillis())) {
+            invalidate(profile);
+            return null;
+        }
+        return snapshot;
+    }
+
+    public void save(SessionSnapshot snapshot) {
+        snapshots.put(snapshot.getProfile(), snapshot);
+        try {
+            Files.createDirectories(directory);
+            Files.write(fileFor(snapshot.getProfile()), snapshot.toJson().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("Failed to save session snapshot: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Drop the profile's snapshot, e.g. after the server rejected it
+     */
+    public void invalidate(String profile) {
+        invalidated.incrementAndGet();
+        snapshots.remove(profile);
+        try {
+            Files.deleteIfExists(fileFor(profile));
+        } catch (IOException e) {
+            System.err.println("Failed to delete session snapshot: " + e.getMessage());
+        }
+    }
+
+    public int getRestoredCount() {
+        return restored.get();
+    }
+
+    public int getLoginCount() {
+        return logins.get();
+    }
+
+    public int getInvalidatedCount() {
+        return invalidated.get();
+    }
+
+    public String getSummary() {
+        return String.format("Session snapshots: %d restored, %d UI login(s), %d invalidated",
+            restored.get(), logins.get(), invalidated.get());
+    }
+
+    private boolean restore(WebDriver driver, SessionSnapshot snapshot) {
+        try {
+            snapshot.restore(driver, baseUrl() + "/");
+            return new LoginPage(driver).isLoggedIn();
+        } catch (RuntimeException e) {
+            System.out.println("Session [" + snapshot.getProfile() + "] restore failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private SessionSnapshot loginThroughUi(WebDriver driver, String profile) {
+        String email = FrameworkConfig.getString("session.user." + profile + ".email", null);
+        String password = FrameworkConfig.getString("session.user." + profile + ".password", null);
+        if (email == null || password == null) {
+            throw new IllegalStateException("No credentials configured for session profile '" + profile + "'");
+        }
+
+        driver.manage().deleteAllCookies();
+        LoginPage loginPage = new LoginPage(driver);
+        loginPage.open();
+        if (!loginPage.login(email, password)) {
+            throw new IllegalStateException("Login failed for session profile '" + profile + "': "
+                + loginPage.getLoginError());
+        }
+        logins.incrementAndGet();
+        return SessionSnapshot.capture(driver, profile);
+    }
+
+    private SessionSnapshot load(String profile) {
+        Path file = fileFor(profile);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            return SessionSnapshot.fromJson(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Ignoring unreadable session snapshot " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void logRestored(String profile, long start) {
+        restored.incrementAndGet();
+        System.out.println("Session [" + profile + "] restored from snapshot in "
+            + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    private Path fileFor(String profile) {
+        return directory.resolve(profile.replaceAll("[^A-Za-z0-9_.-]", "_") + ".json");
+    }
+
+    private static String baseUrl() {
+        return SiteUnderTest.baseUrl();
+    }
+}
@@ -0,0 +1,262 @@
+package com.e_commerce.core;
+
+import com.e_commerce.utils.DurationHistory;
+import com.e_commerce.utils.ShardReportMerger;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import org.testng.xml.internal.Parser;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Splits a TestNG suite into N shards balanced by recorded duration and runs each shard in
+ * its own forked JVM, so the static ExtentReports instance, RestAssured config and browser
+ * pool are per shard instead of shared by every thread. Afterwards the shards' TestNG XML,
+ * Excel and Extent reports are merged into one report of each kind.
+ *
+ * Classes are the unit of sharding (dependsOnMethods and per-instance state stay in one JVM)
+ * and are assigned longest first to the least loaded shard, using the method durations of
+ * {@link com.e_commerce.listeners.DurationAwareScheduler}. Each shard keeps the
+ * &lt;test&gt; blocks, parallel mode and thread-count of the original suite.
+ *
+ * Usage: mvn verify -Psharded -Dshards=3
+ * or: java -cp &lt;test classpath&gt; com.e_commerce.core.ShardedSuiteRunner --shards 3 [--suite file] [--out dir]
+ */
+public class ShardedSuiteRunner {
+
+    private final Path suiteFile;
+    private final Path outDir;
+    private final int shardCount;
+
+    public ShardedSuiteRunner(Path suiteFile, Path outDir, int shardCount) {
+        this.suiteFile = suiteFile;
+        this.outDir = outDir;
+        this.shardCount = Math.max(1, shardCount);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        ShardedSuiteRunner runner = new ShardedSuiteRunner(
+            Paths.get(options.getOrDefault("suite", "src/test/resources/testng.xml")),
+            Paths.get(options.getOrDefault("out", "test-output/shards")),
+            Integer.parseInt(options.getOrDefault("shards", "2")));
+        int failed = runner.run();
+        if (failed > 0) {
+            // Thrown rather than System.exit so exec:java fails the build without killing Maven
+            throw new IllegalStateException(failed + " test(s) failed in the sharded run");
+        }
+    }
+
+    /**
+     * Plan, run and merge the shards
+     * @return number of failed tests, or of shards that produced no results
+     */
+    public int run() throws Exception {
+        XmlSuite suite = new Parser(suiteFile.toString()).parseToList().get(0);
+        Path historyFile = Paths.get(FrameworkConfig.getString(
+            "scheduler.historyFile", "test-output/history/method-durations.properties"));
+        double alpha = Double.parseDouble(FrameworkConfig.getString("scheduler.historyAlpha", "0.5"));
+        DurationHistory history = new DurationHistory(historyFile, alpha);
+
+        Map<String, Long> classDurations = estimateClasses(suite, history,
+            FrameworkConfig.getLong("scheduler.defaultDurationMs", 20000));
+        List<List<String>> shards = assign(classDurations, shardCount);
+        Files.createDirectories(outDir);
+
+        List<Process> processes = new ArrayList<>();
+        List<Path> shardDirs = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            long load = shards.get(i).stream().mapToLong(classDurations::get).sum();
+            System.out.println(String.format("Shard %d/%d: %d classes, estimated %.1fs",
+                i + 1, shards.size(), shards.get(i).size(), load / 1000.0));
+
+            Path shardDir = outDir.resolve("shard-" + (i + 1));
+            Files.createDirectories(shardDir);
+            XmlSuite shardSuite = buildShardSuite(suite, shards.get(i), shardName(suite, i, shards.size()));
+            Path shardXml = shardDir.resolve("testng-shard.xml");
+            Files.write(shardXml, shardSuite.toXml().getBytes("UTF-8"));
+
+            // Each JVM saves its own copy of the history; they are folded back in below
+            Path shardHistory = shardDir.resolve("method-durations.properties");
+            if (Files.exists(historyFile)) {
+                Files.copy(historyFile, shardHistory, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            processes.add(new ProcessBuilder(command(shardDir, shardHistory, shardXml))
+                .redirectErrorStream(true)
+                .redirectOutput(shardDir.resolve("console.log").toFile())
+                .start());
+            shardDirs.add(shardDir);
+        }
+
+        int missing = 0;
+        for (int i = 0; i < processes.size(); i++) {
+            int exit = processes.get(i).waitFor();
+            boolean hasResults = Files.exists(shardDirs.get(i).resolve("testng/testng-results.xml"));
+            System.out.println("Shard " + (i + 1) + " finished with exit code " + exit
+                + (hasResults ? "" : " and no results, see " + shardDirs.get(i).resolve("console.log")));
+            if (!hasResults) {
+                missing++;
+            }
+        }
+
+        Map<String, Integer> counts = merge(suite, shardDirs, history);
+        System.out.println("Sharded run: " + counts.get("total") + " tests, " + counts.get("passed") + " passed, "
+            + counts.get("failed") + " failed, " + counts.get("skipped") + " skipped");
+        return counts.get("failed") + missing;
+    }
+
+    private Map<String, Integer> merge(XmlSuite suite, List<Path> shardDirs, DurationHistory history)
+            throws Exception {
+        List<Path> results = new ArrayList<>();
+        List<Path> archives = new ArrayList<>();
+        Map<Path, String> workbooks = new LinkedHashMap<>();
+        Map<String, Long> before = history.getEstimates();
+        for (int i = 0; i < shardDirs.size(); i++) {
+            Path dir = shardDirs.get(i);
+            results.add(dir.resolve("testng/testng-results.xml"));
+            archives.add(dir.resolve("extent.json"));
+            workbooks.put(dir.resolve("execution_report.xlsx"), shardName(suite, i, shardDirs.size()));
+
+            Path shardHistory = dir.resolve("method-durations.properties");
+            if (Files.exists(shardHistory)) {
+                new DurationHistory(shardHistory, 1.0).getEstimates().forEach((method, ms) -> {
+                    if (!ms.equals(before.get(method))) {
+                        history.put(method, ms);
+                    }
+                });
+            }
+        }
+        history.save();
+
+        Map<String, Integer> counts = ShardReportMerger.mergeTestNgResults(
+            results, suite.getName(), outDir.resolve("testng-results.xml"));
+        ShardReportMerger.mergeExcel(workbooks, suite.getName(), outDir.resolve("execution_report.xlsx").toString());
+        ShardReportMerger.mergeExtent(archives, outDir.resolve("ExtentReport.html").toString());
+        return counts;
+    }
+
+    private List<String> command(Path shardDir, Path shardHistory, Path shardXml) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("report.dir", shardDir.toString());
+        properties.put("report.excelPath", shardDir.resolve("execution_report.xlsx").toString());
+        properties.put("report.extentJson", "true");
+        properties.put("scheduler.historyFile", shardHistory.toString());
+        return ForkedJvm.command(properties, "org.testng.TestNG",
+            Arrays.asList("-d", shardDir.resolve("testng").toString(), shardXml.toString()));
+    }
+
+    /**
+     * Shard suite name, also used as the Excel sheet name (no brackets allowed there)
+     */
+    private static String shardName(XmlSuite suite, int index, int total) {
+        return suite.getName() + " - shard " + (index + 1) + " of " + total;
+    }
+
+    /**
+     * Copy of the suite keeping only the given classes; &lt;test&gt; blocks left empty are dropped
+     */
+    static XmlSuite buildShardSuite(XmlSuite suite, List<String> classNames, String name) {
+        XmlSuite shard = suite.shallowCopy();
+        shard.setName(name);
+        for (XmlTest test : suite.getTests()) {
+            List<XmlClass> classes = test.getXmlClasses().stream()
+                .filter(c -> classNames.contains(c.getName()))
+                .map(c -> (XmlClass) c.clone())
+                .collect(Collectors.toList());
+            if (classes.isEmpty()) {
+                continue;
+            }
+            XmlTest copy = new XmlTest(shard);
+            copy.setName(test.getName());
+            copy.setParallel(test.getParallel());
+            copy.setThreadCount(test.getThreadCount());
+            copy.setParameters(test.getLocalParameters());
+            copy.setGroups(test.getXmlGroups());
+            copy.setXmlClasses(classes);
+        }
+        return shard;
+    }
+
+    /**
+     * Estimated duration of every class in the suite: the sum of its test methods' history
+     * averages, with unknown methods counted at the default duration
+     */
+    static Map<String, Long> estimateClasses(XmlSuite suite, DurationHistory history, long defaultMs) {
+        Map<String, Long> durations = new LinkedHashMap<>();
+        for (XmlTest test : suite.getTests()) {
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                long total = 0;
+                for (Method method : testMethods(xmlClass.getName())) {
+                    Long estimate = history.getEstimate(xmlClass.getName() + "." + method.getName());
+                    total += estimate == null ? defaultMs : estimate;
+                }
+                durations.merge(xmlClass.getName(), total, Long::sum);
+            }
+        }
+        return durations;
+    }
+
+    /**
+     * Methods TestNG runs as tests: @Test methods, plus public methods of a class annotated with @Test
+     */
+    static List<Method> testMethods(String className) {
+        List<Method> methods = new ArrayList<>();
+        try {
+            Class<?> type = Class.forName(className, false, ShardedSuiteRunner.class.getClassLoader());
+            boolean classLevel = type.isAnnotationPresent(Test.class);
+            for (Method method : type.getMethods()) {
+                boolean declaredHere = method.getDeclaringClass() == type && !Modifier.isStatic(method.getModifiers());
+                if (method.isAnnotationPresent(Test.class) || (classLevel && declaredHere)) {
+                    methods.add(method);
+                }
+            }
+        } catch (ClassNotFoundException e) {
+            System.err.println("Test class not found: " + className);
+        }
+        return methods;
+    }
+
+    /**
+     * Longest class first onto the least loaded shard (LPT). Shards that receive nothing are omitted.
+     */
+    public static List<List<String>> assign(Map<String, Long> classDurations, int shardCount) {
+        List<List<String>> shards = new ArrayList<>();
+        long[] loads = new long[Math.max(1, shardCount)];
+        for (int i = 0; i < loads.length; i++) {
+            shards.add(new ArrayList<>());
+        }
+        classDurations.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()))
+            .forEach(entry -> {
+                int target = 0;
+                for (int i = 1; i < loads.length; i++) {
+                    if (loads[i] < loads[target]) {
+                        target = i;
+                    }
+                }
+                loads[target] += entry.getValue();
+                shards.get(target).add(entry.getKey());
+            });
+        shards.removeIf(List::isEmpty);
+        return shards;
+    }
+}
@@ -0,0 +1,27 @@
+package com.e_commerce.core;
+
+import com.e_commerce.storefront.LocalStorefront;
+
+/**
+ * Base URL of the storefront the UI and API tests run against.
+ * site.baseUrl=local starts the embedded {@link LocalStorefront} (on site.local.port,
+ * 0 for any free port) instead of using the public site.
+ */
+public final class SiteUnderTest {
+
+    public static final String LOCAL = "local";
+
+    private SiteUnderTest() {
+    }
+
+    /**
+     * Base URL without a trailing slash
+     */
+    public static String baseUrl() {
+        String baseUrl = FrameworkConfig.getString("site.baseUrl", "https://automationexercise.com");
+        if (LOCAL.equalsIgnoreCase(baseUrl)) {
+            return LocalStorefront.shared(FrameworkConfig.getInt("site.local.port", 0)).getBaseUrl();
+        }
+        return baseUrl.replaceFirst("/+$", "");
+    }
+}
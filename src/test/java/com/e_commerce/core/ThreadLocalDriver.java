@@ -0,0 +1,72 @@
+package com.e_commerce.core;
+
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * WebDriver handle that routes every call to the {@link LazyDriver} bound to the
+ * calling thread. With parallel="methods" one test instance runs several methods
+ * at once, so the shared {@code driver} field cannot point at a single browser.
+ */
+public class ThreadLocalDriver implements InvocationHandler {
+
+    private final ThreadLocal<LazyDriver> current = new ThreadLocal<>();
+    private final WebDriver proxy;
+
+    public ThreadLocalDriver() {
+        this.proxy = (WebDriver) Proxy.newProxyInstance(
+            ThreadLocalDriver.class.getClassLoader(), LazyDriver.INTERFACES, this);
+    }
+
+    public WebDriver getProxy() {
+        return proxy;
+    }
+
+    /**
+     * Attach a driver to the calling thread for the duration of one test method
+     */
+    public void bind(LazyDriver driver) {
+        current.set(driver);
+    }
+
+    /**
+     * @return the driver bound to the calling thread, or null
+     */
+    public LazyDriver current() {
+        return current.get();
+    }
+
+    public void unbind() {
+        current.remove();
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                LazyDriver bound = current.get();
+                return "ThreadLocalDriver[" + (bound == null ? "unbound" : bound.getProxy()) + "]";
+            default:
+                break;
+        }
+
+        LazyDriver bound = current.get();
+        if (bound == null) {
+            throw new IllegalStateException("No browser bound to thread " + Thread.currentThread().getName()
+                + "; driver is only available between @BeforeMethod and @AfterMethod");
+        }
+        try {
+            return method.invoke(bound.getProxy(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,465 @@
+package com.e_commerce.core;
+
+import com.e_commerce.utils.CsvUtil;
+import com.e_commerce.utils.DurationHistory;
+import com.e_commerce.utils.ExcelUtil;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import org.testng.xml.internal.Parser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Work-stealing alternative to {@link ShardedSuiteRunner}: instead of fixing the split up
+ * front, a coordinator holds a queue of work items and worker JVMs ({@link WorkQueueWorker})
+ * pull the next item over a localhost socket whenever they are free, so fast workers absorb
+ * the slow tail however durations drift.
+ *
+ * A work item is one test method of a parallel="methods" &lt;test&gt; block (methods linked by
+ * dependsOnMethods/dependsOnGroups stay together), or a whole class for other blocks, whose
+ * tests share per-instance state. Items are queued longest first from the duration history.
+ *
+ * An item's RESULT lines are buffered and only kept once its DONE arrives, so a retried
+ * item reports each method once.
+ *
+ * Line protocol (tab separated, UTF-8):
+ * worker: READY | RESULT id, class.method, status, ms, message | DONE id
+ * coordinator: RUN id, test, class, method1,method2 (empty for all) | STOP
+ *
+ * Usage: mvn verify -Pdistributed -Dworkers=3
+ * or: java -cp &lt;test classpath&gt; com.e_commerce.core.WorkQueueCoordinator --workers 3 [--suite file] [--out dir]
+ */
+public class WorkQueueCoordinator {
+
+    static final String READY = "READY";
+    static final String RUN = "RUN";
+    static final String RESULT = "RESULT";
+    static final String DONE = "DONE";
+    static final String STOP = "STOP";
+
+    private static final int MAX_ATTEMPTS = 2;
+    private static final List<String> HEADERS = Arrays.asList(
+        "Worker", "Item", "Test", "Method", "Status", "DurationMs", "Message");
+
+    private final Path suiteFile;
+    private final Path outDir;
+    private final int workerCount;
+    private final DurationHistory history;
+
+    private final BlockingDeque<WorkItem> queue = new LinkedBlockingDeque<>();
+    private final AtomicInteger remaining = new AtomicInteger();
+    private final List<Map<String, String>> results = Collections.synchronizedList(new ArrayList<>());
+    private final Map<Integer, WorkerStats> workerStats = new ConcurrentHashMap<>();
+
+    public WorkQueueCoordinator(Path suiteFile, Path outDir, int workerCount) {
+        this(suiteFile, outDir, workerCount, new DurationHistory(
+            FrameworkConfig.getString("scheduler.historyFile", "test-output/history/method-durations.properties"),
+            Double.parseDouble(FrameworkConfig.getString("scheduler.historyAlpha", "0.5"))));
+    }
+
+    /**
+     * @param history Durations to queue by, updated with the observed ones after the run
+     */
+    public WorkQueueCoordinator(Path suiteFile, Path outDir, int workerCount, DurationHistory history) {
+        this.suiteFile = suiteFile;
+        this.outDir = outDir;
+        this.workerCount = Math.max(1, workerCount);
+        this.history = history;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        WorkQueueCoordinator coordinator = new WorkQueueCoordinator(
+            Paths.get(options.getOrDefault("suite", "src/test/resources/testng.xml")),
+            Paths.get(options.getOrDefault("out", "test-output/workers")),
+            Integer.parseInt(options.getOrDefault("workers", "2")));
+        int failed = coordinator.run();
+        if (failed > 0) {
+            // Thrown rather than System.exit so exec:java fails the build without killing Maven
+            throw new IllegalStateException(failed + " test(s) failed or did not run in the distributed run");
+        }
+    }
+
+    /**
+     * Queue the suite, start the workers and wait until every item is done
+     * @return number of failed tests plus items no worker could complete
+     */
+    public int run() throws Exception {
+        XmlSuite suite = new Parser(suiteFile.toString()).parseToList().get(0);
+        List<WorkItem> items = planWorkItems(suite, history, FrameworkConfig.getLong("scheduler.defaultDurationMs", 20000));
+        queue.addAll(items);
+        remaining.set(items.size());
+        Files.createDirectories(outDir);
+
+        long start = System.currentTimeMillis();
+        List<Thread> handlers = Collections.synchronizedList(new ArrayList<>());
+        List<Process> workers = new ArrayList<>();
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            System.out.println("Work queue: " + items.size() + " items for " + workerCount
+                + " workers on localhost:" + server.getLocalPort());
+            Thread acceptor = new Thread(() -> accept(server, handlers), "work-queue-acceptor");
+            acceptor.setDaemon(true);
+            acceptor.start();
+
+            for (int i = 1; i <= workerCount; i++) {
+                Path workerDir = outDir.resolve("worker-" + i);
+                Files.createDirectories(workerDir);
+                Map<String, String> properties = new LinkedHashMap<>();
+                properties.put("report.dir", workerDir.toString());
+                workers.add(new ProcessBuilder(ForkedJvm.command(properties, WorkQueueWorker.class.getName(),
+                        Arrays.asList("--port", String.valueOf(server.getLocalPort()), "--worker", String.valueOf(i),
+                            "--suite", suiteFile.toString())))
+                    .redirectErrorStream(true)
+                    .redirectOutput(workerDir.resolve("console.log").toFile())
+                    .start());
+            }
+            for (int i = 0; i < workers.size(); i++) {
+                System.out.println("Worker " + (i + 1) + " exited with code " + workers.get(i).waitFor());
+            }
+        }
+        for (Thread handler : new ArrayList<>(handlers)) {
+            handler.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        long wallMs = System.currentTimeMillis() - start;
+
+        // Items still queued or in flight when every worker is gone never ran
+        int notRun = remaining.get();
+        for (WorkItem item : queue) {
+            results.add(resultRow(0, item, item.getClassName(), "SKIP", 0, "Not run: no worker left"));
+        }
+
+        int failed = 0;
+        Map<String, Long> observed = new LinkedHashMap<>();
+        for (Map<String, String> row : results) {
+            if ("FAIL".equals(row.get("Status"))) {
+                failed++;
+            }
+            if (!"SKIP".equals(row.get("Status"))) {
+                // Sum per method, as DurationAwareScheduler does for data-driven methods
+                observed.merge(row.get("Method"), Long.parseLong(row.get("DurationMs")), Long::sum);
+            }
+        }
+        observed.forEach(history::record);
+        history.save();
+        writeReports(suite.getName());
+        printSummary(wallMs, failed, notRun);
+        return failed + notRun;
+    }
+
+    private void accept(ServerSocket server, List<Thread> handlers) {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                Thread handler = new Thread(() -> serve(socket), "work-queue-worker-" + handlers.size());
+                handler.setDaemon(true);
+                handlers.add(handler);
+                handler.start();
+            } catch (IOException e) {
+                // Closed after the workers exited
+            }
+        }
+    }
+
+    /**
+     * Conversation with one worker. An item the worker dies on is queued again at the front,
+     * up to MAX_ATTEMPTS times, and the results it had already sent are dropped.
+     */
+    private void serve(Socket socket) {
+        int workerId = 0;
+        WorkItem current = null;
+        List<Map<String, String>> pending = new ArrayList<>();
+        long itemStart = 0;
+        try (Socket s = socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(s.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] parts = line.split("\t", -1);
+                switch (parts[0]) {
+                    case READY:
+                        workerId = Integer.parseInt(parts[1]);
+                        current = next();
+                        if (current == null) {
+                            out.println(STOP);
+                            return;
+                        }
+                        current.attempts++;
+                        pending.clear();
+                        itemStart = System.currentTimeMillis();
+                        out.println(String.join("\t", RUN, String.valueOf(current.getId()), current.getTestName(),
+                            current.getClassName(), String.join(",", current.getMethods())));
+                        break;
+                    case RESULT:
+                        if (current != null) {
+                            pending.add(resultRow(workerId, current, parts[2], parts[3], Long.parseLong(parts[4]),
+                                parts[5]));
+                        }
+                        break;
+                    case DONE:
+                        if (current != null) {
+                            results.addAll(pending);
+                            pending.clear();
+                            workerStats.computeIfAbsent(workerId, WorkerStats::new)
+                                .add(System.currentTimeMillis() - itemStart);
+                            current = null;
+                            remaining.decrementAndGet();
+                        }
+                        break;
+                    default:
+                        System.err.println("Unknown message from worker " + workerId + ": " + line);
+                }
+            }
+        } catch (IOException e) {
+            // Worker went away, handled below
+        } finally {
+            if (current != null) {
+                requeue(workerId, current);
+            }
+        }
+    }
+
+    /**
+     * Next item, waiting while other workers still hold items that may come back
+     */
+    private WorkItem next() {
+        try {
+            while (remaining.get() > 0) {
+                WorkItem item = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (item != null) {
+                    return item;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private void requeue(int workerId, WorkItem item) {
+        if (item.attempts < MAX_ATTEMPTS) {
+            System.out.println("Worker " + workerId + " lost item " + item.getId() + ", queueing it again");
+            queue.addFirst(item);
+        } else {
+            results.add(resultRow(workerId, item, item.getClassName(), "FAIL", 0,
+                "Worker exited while running this item " + item.attempts + " times"));
+            remaining.decrementAndGet();
+        }
+    }
+
+    private static Map<String, String> resultRow(int workerId, WorkItem item, String method, String status,
+                                                 long durationMs, String message) {
+        Map<String, String> row = new LinkedHashMap<>();
+        row.put("Worker", String.valueOf(workerId));
+        row.put("Item", String.valueOf(item.getId()));
+        row.put("Test", item.getTestName());
+        row.put("Method", method);
+        row.put("Status", status);
+        row.put("DurationMs", String.valueOf(durationMs));
+        row.put("Message", message);
+        return row;
+    }
+
+    private void writeReports(String suiteName) {
+        List<Map<String, String>> rows = new ArrayList<>(results);
+        try {
+            new CsvUtil().writeCsv(outDir.resolve("work_queue_results.csv").toString(), rows, HEADERS);
+        } catch (IOException e) {
+            System.err.println("Failed to write work queue results: " + e.getMessage());
+        }
+
+        String excelPath = outDir.resolve("execution_report.xlsx").toString();
+        try {
+            // ExcelUtil appends to an existing workbook, start from an empty one
+            Files.deleteIfExists(Paths.get(excelPath));
+        } catch (IOException e) {
+            System.err.println("Could not replace " + excelPath + ": " + e.getMessage());
+        }
+        ExcelUtil excel = new ExcelUtil(excelPath, suiteName);
+        excel.createTestCaseHeader();
+        for (Map<String, String> row : rows) {
+            excel.writeTestCase(row.get("Method"), "Worker " + row.get("Worker") + ", " + row.get("Test"),
+                "Test should pass without errors", row.get("Message").isEmpty() ? "Test executed successfully"
+                    : row.get("Message"), row.get("Status"));
+        }
+        excel.addTestSummary();
+        excel.save();
+        System.out.println("Work queue results saved: " + outDir.resolve("work_queue_results.csv") + ", " + excelPath);
+    }
+
+    private void printSummary(long wallMs, int failed, int notRun) {
+        System.out.println("\n==============================================");
+        System.out.println(String.format("Distributed run: %d results, %d failed, %d items not run, wall time %.1fs",
+            results.size(), failed, notRun, wallMs / 1000.0));
+        workerStats.values().stream()
+            .sorted(Comparator.comparingInt(w -> w.id))
+            .forEach(w -> System.out.println(String.format("  Worker %d: %d items, busy %.1fs (%.0f%%)",
+                w.id, w.items, w.busyMs / 1000.0, wallMs == 0 ? 0 : w.busyMs * 100.0 / wallMs)));
+        System.out.println("==============================================\n");
+    }
+
+    /**
+     * Work items of the suite, longest first
+     */
+    public static List<WorkItem> planWorkItems(XmlSuite suite, DurationHistory history, long defaultMs) {
+        List<WorkItem> items = new ArrayList<>();
+        for (XmlTest test : suite.getTests()) {
+            boolean byMethod = test.getParallel() == XmlSuite.ParallelMode.METHODS;
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                List<Method> methods = ShardedSuiteRunner.testMethods(xmlClass.getName());
+                List<List<Method>> groups = byMethod
+                    ? dependencyGroups(methods)
+                    : methods.isEmpty() ? Collections.emptyList() : Collections.singletonList(methods);
+                for (List<Method> group : groups) {
+                    List<String> names = new ArrayList<>();
+                    long estimate = 0;
+                    for (Method method : group) {
+                        names.add(method.getName());
+                        Long known = history.getEstimate(xmlClass.getName() + "." + method.getName());
+                        estimate += known == null ? defaultMs : known;
+                    }
+                    // Whole-class items run every test method, no include list needed
+                    items.add(new WorkItem(items.size() + 1, test.getName(), xmlClass.getName(),
+                        byMethod ? names : Collections.emptyList(), estimate));
+                }
+            }
+        }
+        items.sort(Comparator.comparingLong(WorkItem::getEstimateMs).reversed()
+            .thenComparingInt(WorkItem::getId));
+        return items;
+    }
+
+    /**
+     * Split a class's test methods into groups closed under dependsOnMethods/dependsOnGroups,
+     * so no item includes a method without the methods it depends on
+     */
+    private static List<List<Method>> dependencyGroups(List<Method> methods) {
+        Map<String, String> parent = new HashMap<>();
+        methods.forEach(m -> parent.put(m.getName(), m.getName()));
+        for (Method method : methods) {
+            Test test = method.getAnnotation(Test.class);
+            if (test == null) {
+                continue;
+            }
+            for (String dependency : test.dependsOnMethods()) {
+                String name = dependency.substring(dependency.lastIndexOf('.') + 1);
+                if (parent.containsKey(name)) {
+                    union(parent, method.getName(), name);
+                }
+            }
+            Set<String> groups = new LinkedHashSet<>(Arrays.asList(test.dependsOnGroups()));
+            for (Method other : methods) {
+                Test otherTest = other.getAnnotation(Test.class);
+                if (otherTest != null && Arrays.stream(otherTest.groups()).anyMatch(groups::contains)) {
+                    union(parent, method.getName(), other.getName());
+                }
+            }
+        }
+        Map<String, List<Method>> byRoot = new LinkedHashMap<>();
+        for (Method method : methods) {
+            byRoot.computeIfAbsent(find(parent, method.getName()), k -> new ArrayList<>()).add(method);
+        }
+        return new ArrayList<>(byRoot.values());
+    }
+
+    private static String find(Map<String, String> parent, String name) {
+        String root = name;
+        while (!parent.get(root).equals(root)) {
+            root = parent.get(root);
+        }
+        parent.put(name, root);
+        return root;
+    }
+
+    private static void union(Map<String, String> parent, String a, String b) {
+        parent.put(find(parent, a), find(parent, b));
+    }
+
+    /**
+     * One unit of work: a test method with its dependencies, or a whole class
+     */
+    public static final class WorkItem {
+        private final int id;
+        private final String testName;
+        private final String className;
+        private final List<String> methods;
+        private final long estimateMs;
+        private int attempts;
+
+        public WorkItem(int id, String testName, String className, List<String> methods, long estimateMs) {
+            this.id = id;
+            this.testName = testName;
+            this.className = className;
+            this.methods = methods;
+            this.estimateMs = estimateMs;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getTestName() {
+            return testName;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * Included test methods, empty for every method of the class
+         */
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public long getEstimateMs() {
+            return estimateMs;
+        }
+    }
+
+    private static class WorkerStats {
+        final int id;
+        int items;
+        long busyMs;
+
+        WorkerStats(int id) {
+            this.id = id;
+        }
+
+        synchronized void add(long ms) {
+            items++;
+            busyMs += ms;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.e_commerce.core;
+
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.TestNG;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import org.testng.xml.internal.Parser;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Worker JVM of a {@link WorkQueueCoordinator} run. Pulls one item at a time, runs it with
+ * an in-process TestNG (so the browser pool and logged-in sessions are reused between items)
+ * and streams each test result back as soon as it finishes.
+ */
+public class WorkQueueWorker {
+
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    private final int workerId;
+    private final Map<String, Map<String, String>> parametersByTest = new HashMap<>();
+
+    public WorkQueueWorker(int workerId, XmlSuite suite) {
+        this.workerId = workerId;
+        for (XmlTest test : suite.getTests()) {
+            parametersByTest.put(test.getName(), test.getAllParameters());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        XmlSuite suite = new Parser(options.getOrDefault("suite", "src/test/resources/testng.xml")).parseToList().get(0);
+        WorkQueueWorker worker = new WorkQueueWorker(Integer.parseInt(options.getOrDefault("worker", "1")), suite);
+        worker.work(Integer.parseInt(options.get("port")));
+        // Pool and pre-warm executors are not daemons; shutdown hooks close the browsers
+        System.exit(0);
+    }
+
+    /**
+     * Pull and run items until the coordinator says STOP or goes away
+     */
+    public void work(int port) throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            int items = 0;
+            while (true) {
+                out.println(WorkQueueCoordinator.READY + "\t" + workerId);
+                String line = in.readLine();
+                if (line == null || line.equals(WorkQueueCoordinator.STOP)) {
+                    break;
+                }
+                String[] parts = line.split("\t", -1);
+                String id = parts[1];
+                System.out.println("Worker " + workerId + " running item " + id + ": " + parts[3]
+                    + (parts[4].isEmpty() ? "" : "." + parts[4]));
+                runItem(parts[2], parts[3], parts[4].isEmpty()
+                    ? Collections.emptyList() : Arrays.asList(parts[4].split(",")), id, out);
+                out.println(WorkQueueCoordinator.DONE + "\t" + id);
+                items++;
+            }
+            System.out.println("Worker " + workerId + " finished after " + items + " items");
+        }
+    }
+
+    private void runItem(String testName, String className, List<String> methods, String id, PrintWriter out) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Worker " + workerId);
+        XmlTest test = new XmlTest(suite);
+        test.setName(testName);
+        test.setParameters(parametersByTest.getOrDefault(testName, Collections.emptyMap()));
+        XmlClass xmlClass = new XmlClass(className, false);
+        List<XmlInclude> includes = new ArrayList<>();
+        for (String method : methods) {
+            includes.add(new XmlInclude(method));
+        }
+        xmlClass.setIncludedMethods(includes);
+        test.setXmlClasses(Collections.singletonList(xmlClass));
+
+        TestNG testng = new TestNG(false);
+        testng.setXmlSuites(Collections.singletonList(suite));
+        testng.setVerbose(0);
+        testng.addListener(new ResultStreamer(id, out));
+        testng.run();
+    }
+
+    /**
+     * Sends RESULT lines while the item is still running
+     */
+    private static class ResultStreamer implements ITestListener {
+        private final String id;
+        private final PrintWriter out;
+
+        ResultStreamer(String id, PrintWriter out) {
+            this.id = id;
+            this.out = out;
+        }
+
+        @Override
+        public void onTestSuccess(ITestResult result) {
+            send(result, "PASS");
+        }
+
+        @Override
+        public void onTestFailure(ITestResult result) {
+            send(result, "FAIL");
+        }
+
+        @Override
+        public void onTestSkipped(ITestResult result) {
+            send(result, "SKIP");
+        }
+
+        private void send(ITestResult result, String status) {
+            Throwable error = result.getThrowable();
+            String message = error == null ? "" : String.valueOf(error.getMessage()).replaceAll("[\\t\\r\\n]+", " ");
+            if (message.length() > MAX_MESSAGE_LENGTH) {
+                message = message.substring(0, MAX_MESSAGE_LENGTH);
+            }
+            long durationMs = Math.max(0, result.getEndMillis() - result.getStartMillis());
+            synchronized (out) {
+                out.println(String.join("\t", WorkQueueCoordinator.RESULT, id,
+                    result.getMethod().getQualifiedName(), status, String.valueOf(durationMs), message));
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.e_commerce.listeners;
+
+import com.e_commerce.core.BaseTest;
+import com.e_commerce.core.BrowserProvisioner;
+import com.e_commerce.core.BrowserUsageStats;
+import com.e_commerce.core.DriverPool;
+import com.e_commerce.core.SessionSnapshotStore;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+/**
+ * TestNG listener that pre-warms browsers when the suite starts.
+ * The number of sessions follows the thread-count of the testng.xml blocks that run
+ * browser tests ({@link BaseTest} subclasses); API and unit blocks never borrow a browser.
+ */
+public class BrowserProvisioningListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        BrowserUsageStats.reset();
+        int threads = getMaxBrowserThreadCount(suite.getXmlSuite());
+        if (threads == 0) {
+            System.out.println("No browser tests in suite: " + suite.getName() + ", nothing to pre-warm");
+            return;
+        }
+        DriverPool.getInstance().ensureCapacity(threads);
+        BrowserProvisioner.getInstance().prewarm(threads);
+        System.out.println("Pre-warming " + threads + " browser session(s) for suite: " + suite.getName());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        System.out.println("\n==============================================");
+        System.out.println(BrowserProvisioner.getInstance().getSummary());
+        System.out.println(BrowserUsageStats.getSummary());
+        System.out.println(SessionSnapshotStore.getInstance().getSummary());
+        System.out.println("==============================================\n");
+    }
+
+    /**
+     * Highest number of threads a &lt;test&gt; block with browser tests can run with, 0 if there is none
+     */
+    static int getMaxBrowserThreadCount(XmlSuite xmlSuite) {
+        int max = 0;
+        for (XmlTest xmlTest : xmlSuite.getTests()) {
+            if (!hasBrowserTests(xmlTest)) {
+                continue;
+            }
+            boolean parallel = xmlTest.getParallel() != null && xmlTest.getParallel().isParallel();
+            max = Math.max(max, parallel ? xmlTest.getThreadCount() : 1);
+        }
+        return max;
+    }
+
+    private static boolean hasBrowserTests(XmlTest xmlTest) {
+        for (XmlClass xmlClass : xmlTest.getXmlClasses()) {
+            try {
+                Class<?> type = Class.forName(xmlClass.getName(), false, BrowserProvisioningListener.class.getClassLoader());
+                if (BaseTest.class.isAssignableFrom(type)) {
+                    return true;
+                }
+            } catch (ClassNotFoundException e) {
+                // TestNG reports the missing class itself
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,220 @@
+package com.e_commerce.listeners;
+
+import com.e_commerce.core.FrameworkConfig;
+import com.e_commerce.core.SchedulePlanner;
+import com.e_commerce.utils.CsvUtil;
+import com.e_commerce.utils.DurationHistory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Plans &lt;test&gt; blocks that run with parallel="methods" from the duration history of
+ * previous runs: methods are started longest first (LPT, weighted by declared
+ * dependsOnMethods/dependsOnGroups chains) by rewriting their priorities, so long
+ * checkout flows no longer end up as a single straggler. Declared dependencies are
+ * still enforced by TestNG; the source-order priorities are not treated as constraints.
+ *
+ * Predicted and actual makespan per block are printed and written to test-output/schedule_report.csv,
+ * and observed durations are folded into test-output/history/method-durations.properties.
+ */
+public class DurationAwareScheduler implements IMethodInterceptor, ITestListener, ISuiteListener {
+
+    private static final String REPORT_PATH = FrameworkConfig.reportFile("schedule_report.csv");
+    private static final List<String> HEADERS = Arrays.asList(
+        "Test", "Methods", "Threads", "WithHistory", "PredictedMs", "ActualMs", "DiffPct");
+    private static final long DEFAULT_DURATION_MS = FrameworkConfig.getLong("scheduler.defaultDurationMs", 20000);
+
+    private static final DurationHistory history = new DurationHistory(
+        FrameworkConfig.getString("scheduler.historyFile", "test-output/history/method-durations.properties"),
+        Double.parseDouble(FrameworkConfig.getString("scheduler.historyAlpha", "0.5")));
+    private static final Map<String, PlannedTest> plans = new ConcurrentHashMap<>();
+    private static final Map<String, Long> observed = new ConcurrentHashMap<>();
+    private static final List<Map<String, String>> rows = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        XmlTest xmlTest = context.getCurrentXmlTest();
+        if (xmlTest.getParallel() != XmlSuite.ParallelMode.METHODS || methods.size() < 2) {
+            return methods;
+        }
+        int threads = xmlTest.getThreadCount();
+
+        Map<String, IMethodInstance> byId = new LinkedHashMap<>();
+        for (IMethodInstance instance : methods) {
+            byId.put(instance.getMethod().getQualifiedName(), instance);
+        }
+        Map<String, Long> estimates = estimate(byId.keySet());
+        int withHistory = (int) byId.keySet().stream().filter(id -> history.getEstimate(id) != null).count();
+
+        List<SchedulePlanner.Task> tasks = new ArrayList<>();
+        for (Map.Entry<String, IMethodInstance> entry : byId.entrySet()) {
+            tasks.add(new SchedulePlanner.Task(entry.getKey(), estimates.get(entry.getKey()),
+                declaredDependencies(entry.getValue().getMethod(), byId)));
+        }
+        SchedulePlanner.Plan plan = SchedulePlanner.plan(tasks, threads);
+
+        List<IMethodInstance> ordered = new ArrayList<>();
+        for (String id : plan.getOrder()) {
+            IMethodInstance instance = byId.get(id);
+            // TestNG starts the lowest priority first among methods that are free to run
+            instance.getMethod().setPriority(ordered.size());
+            ordered.add(instance);
+        }
+
+        plans.put(context.getName(), new PlannedTest(methods.size(), threads, withHistory, plan.getPredictedMakespanMs()));
+        System.out.println("Scheduler [" + context.getName() + "]: " + methods.size() + " methods on " + threads
+            + " threads, history for " + withHistory + ", predicted makespan "
+            + formatMs(plan.getPredictedMakespanMs()) + ", thread loads " + Arrays.toString(plan.getThreadLoadsMs()));
+        return ordered;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        recordDuration(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        recordDuration(result);
+    }
+
+    @Override
+    public void onFinish(ITestContext context) {
+        PlannedTest planned = plans.remove(context.getName());
+        if (planned == null) {
+            return;
+        }
+        long actual = context.getEndDate().getTime() - context.getStartDate().getTime();
+        double diffPct = planned.predictedMs == 0 ? 0 : (actual - planned.predictedMs) * 100.0 / planned.predictedMs;
+        System.out.println(String.format("Scheduler [%s]: predicted makespan %s, actual %s (%+.0f%%)",
+            context.getName(), formatMs(planned.predictedMs), formatMs(actual), diffPct));
+
+        Map<String, String> row = new LinkedHashMap<>();
+        row.put("Test", context.getName());
+        row.put("Methods", String.valueOf(planned.methods));
+        row.put("Threads", String.valueOf(planned.threads));
+        row.put("WithHistory", String.valueOf(planned.withHistory));
+        row.put("PredictedMs", String.valueOf(planned.predictedMs));
+        row.put("ActualMs", String.valueOf(actual));
+        row.put("DiffPct", String.format("%.1f", diffPct));
+        rows.add(row);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!observed.isEmpty()) {
+            observed.forEach(history::record);
+            observed.clear();
+            history.save();
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            new CsvUtil().writeCsv(REPORT_PATH, new ArrayList<>(rows), HEADERS);
+            System.out.println("Schedule report saved: " + REPORT_PATH);
+        } catch (IOException e) {
+            System.err.println("Failed to write schedule report: " + e.getMessage());
+        }
+        rows.clear();
+    }
+
+    /**
+     * Sum per method, so data-driven methods are planned by their total time
+     */
+    private static void recordDuration(ITestResult result) {
+        long duration = result.getEndMillis() - result.getStartMillis();
+        if (result.getStartMillis() > 0 && duration >= 0) {
+            observed.merge(result.getMethod().getQualifiedName(), duration, Long::sum);
+        }
+    }
+
+    /**
+     * History average, else the average of known methods of the same class, else of all known methods
+     */
+    private static Map<String, Long> estimate(Set<String> ids) {
+        Map<String, List<Long>> knownByClass = new HashMap<>();
+        List<Long> known = new ArrayList<>();
+        for (String id : ids) {
+            Long value = history.getEstimate(id);
+            if (value != null) {
+                knownByClass.computeIfAbsent(classOf(id), k -> new ArrayList<>()).add(value);
+                known.add(value);
+            }
+        }
+        long overall = known.isEmpty() ? DEFAULT_DURATION_MS : average(known);
+
+        Map<String, Long> estimates = new HashMap<>();
+        for (String id : ids) {
+            Long value = history.getEstimate(id);
+            if (value == null) {
+                List<Long> sameClass = knownByClass.get(classOf(id));
+                value = sameClass == null ? overall : average(sameClass);
+            }
+            estimates.put(id, value);
+        }
+        return estimates;
+    }
+
+    private static Set<String> declaredDependencies(ITestNGMethod method, Map<String, IMethodInstance> byId) {
+        Set<String> deps = new LinkedHashSet<>(Arrays.asList(method.getMethodsDependedUpon()));
+        List<String> groups = Arrays.asList(method.getGroupsDependedUpon());
+        if (!groups.isEmpty()) {
+            for (Map.Entry<String, IMethodInstance> entry : byId.entrySet()) {
+                for (String group : entry.getValue().getMethod().getGroups()) {
+                    if (groups.contains(group)) {
+                        deps.add(entry.getKey());
+                    }
+                }
+            }
+        }
+        return deps;
+    }
+
+    private static String classOf(String qualifiedName) {
+        int dot = qualifiedName.lastIndexOf('.');
+        return dot < 0 ? qualifiedName : qualifiedName.substring(0, dot);
+    }
+
+    private static long average(List<Long> values) {
+        return Math.round(values.stream().mapToLong(Long::longValue).average().orElse(0));
+    }
+
+    private static String formatMs(long ms) {
+        return String.format("%.1fs", ms / 1000.0);
+    }
+
+    private static class PlannedTest {
+        final int methods;
+        final int threads;
+        final int withHistory;
+        final long predictedMs;
+
+        PlannedTest(int methods, int threads, int withHistory, long predictedMs) {
+            this.methods = methods;
+            this.threads = threads;
+            this.withHistory = withHistory;
+            this.predictedMs = predictedMs;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.e_commerce.listeners;
+
+import com.e_commerce.api.ApiResponseCache;
+import com.e_commerce.utils.ApiLatencyTelemetry;
+import com.e_commerce.utils.ContractTelemetry;
+import com.e_commerce.utils.HttpConnectionTelemetry;
+import com.e_commerce.utils.RateLimitTelemetry;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * TestNG listener that publishes the API connection reuse, latency, contract, rate limiter and response cache reports when the suite finishes
+ */
+public class HttpReportListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        ApiLatencyTelemetry.writeCsv();
+        if (!ContractTelemetry.isEmpty()) {
+            ContractTelemetry.writeCsv();
+            System.out.println(ContractTelemetry.getSummary());
+        }
+        if (!RateLimitTelemetry.isEmpty()) {
+            RateLimitTelemetry.writeCsv();
+            System.out.println(RateLimitTelemetry.getSummary());
+        }
+        ApiResponseCache.saveSharedCassette();
+        String cacheSummary = ApiResponseCache.getSharedSummary();
+        if (cacheSummary != null) {
+            System.out.println(cacheSummary);
+        }
+        if (HttpConnectionTelemetry.isEmpty()) {
+            return;
+        }
+        HttpConnectionTelemetry.writeCsv();
+        System.out.println(HttpConnectionTelemetry.getSummary());
+    }
+}
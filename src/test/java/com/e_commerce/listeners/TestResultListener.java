@@ -1,6 +1,8 @@
 package com.e_commerce.listeners;
 
+import com.e_commerce.core.FrameworkConfig;
 import com.e_commerce.utils.ExcelUtil;
+import com.e_commerce.utils.WaitTelemetry;
 import org.testng.*;
 
 import java.text.SimpleDateFormat;
@@ -19,7 +21,8 @@ public class TestResultListener implements ITestListener, ISuiteListener {
     public void onStart(ISuite suite) {
         // Create Excel report when suite starts
         String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        reportPath = "src/test/resources/test_reports/execution_report_" + timestamp + ".xlsx";
+        reportPath = FrameworkConfig.getString("report.excelPath",
+            "src/test/resources/test_reports/execution_report_" + timestamp + ".xlsx");
         
         excelUtil = new ExcelUtil(reportPath, suite.getName());
         excelUtil.createTestCaseHeader();
@@ -32,6 +35,9 @@ public class TestResultListener implements ITestListener, ISuiteListener {
         // Add summary and save when suite finishes
         if (excelUtil != null) {
             excelUtil.addTestSummary();
+            if (!WaitTelemetry.isEmpty()) {
+                excelUtil.writeTable("Wait Telemetry", WaitTelemetry.getHeaders(), WaitTelemetry.getRows());
+            }
             excelUtil.save();
             System.out.println("Test execution report saved: " + reportPath);
         }
@@ -0,0 +1,48 @@
+package com.e_commerce.listeners;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.e_commerce.pages.LocatorRegistry;
+import com.e_commerce.utils.ExtentReportManager;
+import com.e_commerce.utils.SleepReplacementReport;
+import com.e_commerce.utils.WaitTelemetry;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.util.List;
+
+/**
+ * TestNG listener that publishes wait and locator reports when the suite finishes
+ */
+public class WaitReportListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        SleepReplacementReport.writeReport();
+        WaitTelemetry.writeCsv();
+        LocatorRegistry.writeCsv();
+        addTelemetryToExtentReport();
+    }
+
+    /**
+     * Add the wait telemetry table as its own node in the Extent report
+     */
+    private void addTelemetryToExtentReport() {
+        if (WaitTelemetry.isEmpty()) {
+            return;
+        }
+        List<String> headers = WaitTelemetry.getHeaders();
+        List<List<String>> rows = WaitTelemetry.getRows();
+        String[][] table = new String[rows.size() + 1][];
+        table[0] = headers.toArray(new String[0]);
+        for (int i = 0; i < rows.size(); i++) {
+            table[i + 1] = rows.get(i).toArray(new String[0]);
+        }
+
+        ExtentTest node = ExtentReportManager.getInstance()
+            .createTest("Wait Telemetry", "Wait duration and poll counts per page element");
+        node.info(MarkupHelper.createTable(table));
+        ExtentReportManager.removeTest();
+        ExtentReportManager.flush();
+    }
+}
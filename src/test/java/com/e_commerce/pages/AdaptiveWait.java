@@ -0,0 +1,78 @@
+package com.e_commerce.pages;
+
+import com.e_commerce.utils.WaitTelemetry;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Runs a Selenium wait with a {@link WaitStrategy} backoff and records
+ * duration and poll count in {@link WaitTelemetry}.
+ */
+public class AdaptiveWait {
+
+    private final WaitStrategy strategy;
+
+    public AdaptiveWait(WaitStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Wait until the condition returns a non-null, non-false value
+     * @param location Telemetry key, normally "PageClass.fieldName"
+     * @param condition Condition name used for telemetry, e.g. "visible"
+     */
+    public <T> T until(WebDriver driver, Function<? super WebDriver, T> expected, String location, String condition) {
+        BackoffSleeper sleeper = new BackoffSleeper(strategy);
+        FluentWait<WebDriver> wait = new FluentWait<>(driver, Clock.systemDefaultZone(), sleeper)
+            .withTimeout(strategy.getTimeout())
+            .pollingEvery(Duration.ofMillis(strategy.getInitialPollMs()))
+            .ignoring(NotFoundException.class);
+
+        long start = System.nanoTime();
+        boolean timedOut = false;
+        try {
+            return wait.until(expected);
+        } catch (TimeoutException e) {
+            timedOut = true;
+            throw e;
+        } finally {
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            WaitTelemetry.record(location, condition, elapsedMs, sleeper.polls(), timedOut);
+        }
+    }
+
+    /**
+     * Ignores FluentWait's fixed interval and sleeps with exponential-then-capped backoff
+     */
+    private static class BackoffSleeper implements Sleeper {
+        private final WaitStrategy strategy;
+        private long nextMs;
+        private int sleeps;
+
+        BackoffSleeper(WaitStrategy strategy) {
+            this.strategy = strategy;
+            this.nextMs = strategy.getInitialPollMs();
+        }
+
+        @Override
+        public void sleep(Duration ignored) throws InterruptedException {
+            Thread.sleep(nextMs);
+            sleeps++;
+            nextMs = strategy.nextInterval(nextMs);
+        }
+
+        /**
+         * FluentWait evaluates once before the first sleep and once after every sleep
+         */
+        int polls() {
+            return sleeps + 1;
+        }
+    }
+}
@@ -170,6 +170,7 @@ public class AddressPage extends BasePage {
      * Click continue button
      */
     public void clickContinue() {
+        expectNavigation();
         try {
             WebElement btn = waitClickable(continueButton);
             btn.click();
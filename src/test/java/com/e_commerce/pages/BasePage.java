@@ -1,28 +1,179 @@
 package com.e_commerce.pages;
 
+import com.e_commerce.core.BrowserScripts;
+import com.e_commerce.core.FrameworkConfig;
+import com.e_commerce.utils.SleepReplacementReport;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class BasePage {
+    private static final long NETWORK_QUIET_MS = FrameworkConfig.getLong("wait.networkQuietMs", 300);
+    private static final long DOM_QUIET_MS = FrameworkConfig.getLong("wait.domQuietMs", 200);
+    private static final Map<Class<?>, List<Field>> elementFields = new ConcurrentHashMap<>();
+
     protected final WebDriver driver;
     protected final WebDriverWait wait;
+    private String navigatedFrom;
 
     protected BasePage(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
-        PageFactory.initElements(driver, this);
+        PageFactory.initElements(new ProfilingElementLocatorFactory(driver), this);
     }
 
     protected WebElement waitVisible(WebElement element) {
-        return wait.until(ExpectedConditions.visibilityOf(element));
+        return waitFor("visible", element, ExpectedConditions.visibilityOf(element));
     }
 
     protected WebElement waitClickable(WebElement element) {
-        return wait.until(ExpectedConditions.elementToBeClickable(element));
+        return waitFor("clickable", element, ExpectedConditions.elementToBeClickable(element));
+    }
+
+    /**
+     * Run a wait with the condition's adaptive polling strategy, recorded under PageClass.fieldName
+     */
+    protected <T> T waitFor(String condition, WebElement element, ExpectedCondition<T> expected) {
+        String location = getClass().getSimpleName() + "." + fieldNameOf(element);
+        return new AdaptiveWait(WaitStrategy.forCondition(condition)).until(driver, expected, location, condition);
+    }
+
+    /**
+     * Name of the page object field holding this element, for telemetry keys
+     */
+    private String fieldNameOf(WebElement element) {
+        for (Field field : elementFields.computeIfAbsent(getClass(), BasePage::findElementFields)) {
+            try {
+                if (field.get(this) == element) {
+                    return field.getName();
+                }
+            } catch (IllegalAccessException e) {
+                // Not readable, keep looking
+            }
+        }
+        return "(element)";
+    }
+
+    private static List<Field> findElementFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != BasePage.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (WebElement.class.isAssignableFrom(field.getType()) && !Modifier.isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Read text, visibility and attributes of every @FindBy field in one browser round trip
+     */
+    public PageSnapshot snapshot() {
+        return PageSnapshot.capture(driver, this);
+    }
+
+    /**
+     * Wait for document.readyState == 'complete'
+     * @return false if the page was still loading after maxMs
+     */
+    public boolean waitForDocumentReady(long maxMs) {
+        return runAsyncWait(BrowserScripts.AWAIT_DOCUMENT_READY, maxMs);
+    }
+
+    /**
+     * Wait until no fetch/XHR request has been in flight for the quiet period
+     * @return false if the network was still busy after maxMs
+     */
+    public boolean waitForNetworkIdle(long quietMs, long maxMs) {
+        js().executeScript(BrowserScripts.NETWORK_TRACKER);
+        return runAsyncWait(BrowserScripts.AWAIT_NETWORK_IDLE, quietMs, maxMs);
+    }
+
+    /**
+     * Wait until the DOM has not mutated for the quiet period (MutationObserver based)
+     * @return false if the DOM was still changing after maxMs
+     */
+    public boolean waitForDomStable(long quietMs, long maxMs) {
+        return runAsyncWait(BrowserScripts.AWAIT_DOM_STABLE, quietMs, maxMs);
+    }
+
+    /**
+     * Wait for the browser to leave the given URL
+     * @return false if it was still on that URL after maxMs
+     */
+    public boolean waitForUrlChange(String previousUrl, long maxMs) {
+        try {
+            new WebDriverWait(driver, Duration.ofMillis(maxMs), Duration.ofMillis(50))
+                .until(d -> !previousUrl.equals(d.getCurrentUrl()));
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Called by page methods whose click loads another page, before clicking: the next
+     * {@link #waitForPageSettled} first waits for the browser to leave the current URL, so it
+     * does not see the page being left as ready, idle and stable
+     */
+    protected void expectNavigation() {
+        navigatedFrom = driver.getCurrentUrl();
+    }
+
+    /**
+     * Condition-based replacement for a fixed Thread.sleep after an action.
+     * After a navigation (see {@link #expectNavigation}) waits for the URL to change, then
+     * for document ready, network idle and a stable DOM, but never longer than the sleep it
+     * replaces. The time saved is recorded in {@link SleepReplacementReport}.
+     * @param replacedSleepMs Duration of the fixed sleep this call replaces
+     */
+    public void waitForPageSettled(long replacedSleepMs) {
+        long start = System.currentTimeMillis();
+        long deadline = start + replacedSleepMs;
+        String leaving = navigatedFrom;
+        navigatedFrom = null;
+        boolean left = leaving == null || waitForUrlChange(leaving, replacedSleepMs);
+        boolean settled = false;
+
+        while (left && !settled && System.currentTimeMillis() < deadline) {
+            try {
+                settled = waitForDocumentReady(remaining(deadline))
+                    && waitForNetworkIdle(NETWORK_QUIET_MS, remaining(deadline))
+                    && waitForDomStable(DOM_QUIET_MS, remaining(deadline));
+            } catch (WebDriverException e) {
+                // A navigation unloaded the document mid-script; wait again on the new page
+            }
+        }
+
+        SleepReplacementReport.record(replacedSleepMs, System.currentTimeMillis() - start, settled);
+    }
+
+    private boolean runAsyncWait(String script, Object... args) {
+        Object result = js().executeAsyncScript(script, args);
+        return Boolean.TRUE.equals(result);
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(1, deadline - System.currentTimeMillis());
+    }
+
+    private JavascriptExecutor js() {
+        return (JavascriptExecutor) driver;
     }
 }
@@ -46,6 +46,7 @@ public class CartPage extends BasePage {
 
     public void proceedToCheckout() {
         waitClickable(proceedToCheckoutButton);
+        expectNavigation();
         proceedToCheckoutButton.click();
     }
 
@@ -0,0 +1,62 @@
+package com.e_commerce.pages;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Helpers for the comma-separated fallback selectors used in @FindBy(css = ...)
+ */
+public final class CssSelectors {
+
+    private CssSelectors() {
+    }
+
+    /**
+     * Split a selector list on top-level commas, ignoring commas inside
+     * brackets, parentheses and quoted strings.
+     * ".a, #b, [data-x='1,2']" -> [".a", "#b", "[data-x='1,2']"]
+     */
+    public static List<String> splitBranches(String selector) {
+        if (selector == null || selector.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> branches = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int depth = 0;
+        char quote = 0;
+
+        for (int i = 0; i < selector.length(); i++) {
+            char c = selector.charAt(i);
+            if (quote != 0) {
+                if (c == '\\' && i + 1 < selector.length()) {
+                    current.append(c).append(selector.charAt(++i));
+                    continue;
+                }
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                depth++;
+            } else if (c == ']' || c == ')') {
+                depth = Math.max(0, depth - 1);
+            } else if (c == ',' && depth == 0) {
+                addBranch(branches, current);
+                current.setLength(0);
+                continue;
+            }
+            current.append(c);
+        }
+        addBranch(branches, current);
+        return Collections.unmodifiableList(branches);
+    }
+
+    private static void addBranch(List<String> branches, StringBuilder branch) {
+        String trimmed = branch.toString().trim();
+        if (!trimmed.isEmpty()) {
+            branches.add(trimmed);
+        }
+    }
+}
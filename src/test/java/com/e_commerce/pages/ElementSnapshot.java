@@ -0,0 +1,77 @@
+package com.e_commerce.pages;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable copy of one element's state taken by {@link PageSnapshot}
+ */
+public final class ElementSnapshot {
+
+    /** Returned for fields that matched nothing */
+    public static final ElementSnapshot ABSENT = new ElementSnapshot(false, "", "", false, Collections.emptyMap(), -1);
+
+    private final boolean present;
+    private final String tagName;
+    private final String text;
+    private final boolean visible;
+    private final Map<String, String> attributes;
+    private final int matchedBranch;
+
+    public ElementSnapshot(String tagName, String text, boolean visible, Map<String, String> attributes, int matchedBranch) {
+        this(true, tagName, text, visible, attributes, matchedBranch);
+    }
+
+    private ElementSnapshot(boolean present, String tagName, String text, boolean visible,
+                            Map<String, String> attributes, int matchedBranch) {
+        this.present = present;
+        this.tagName = tagName == null ? "" : tagName;
+        this.text = text == null ? "" : text;
+        this.visible = visible;
+        this.attributes = Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+        this.matchedBranch = matchedBranch;
+    }
+
+    public boolean isPresent() {
+        return present;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    /**
+     * Visible text, same as WebElement.getText() (empty when hidden)
+     */
+    public String getText() {
+        return text;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Attribute value, or null if the element does not have it
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Index of the comma-separated CSS branch this element matched, -1 if not a CSS locator
+     */
+    public int getMatchedBranch() {
+        return matchedBranch;
+    }
+
+    @Override
+    public String toString() {
+        return present ? "<" + tagName + (visible ? "" : " hidden") + "> " + text : "(absent)";
+    }
+}
@@ -1,12 +1,11 @@
 package com.e_commerce.pages;
 
+import com.e_commerce.core.SiteUnderTest;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
 public class HomePage extends BasePage {
-    private static final String BASE_URL = "https://automationexercise.com/";
-
     @FindBy(css = "div.header-middle")
     private WebElement headerLogo;
 
@@ -15,7 +14,7 @@ public class HomePage extends BasePage {
     }
 
     public void open() {
-        driver.get(BASE_URL);
+        driver.get(SiteUnderTest.baseUrl() + "/");
     }
 
     public boolean isLoaded() {
@@ -0,0 +1,122 @@
+package com.e_commerce.pages;
+
+import com.e_commerce.core.FrameworkConfig;
+import com.e_commerce.utils.CsvUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Run-wide record of @FindBy lookups keyed by PageClass.fieldName: how often each
+ * locator was resolved, how often it missed and how long the lookups took. Locators
+ * with many fallback branches and high lookup times are the ones worth simplifying.
+ */
+public class LocatorRegistry {
+
+    private static final String REPORT_PATH = FrameworkConfig.reportFile("locator_latency.csv");
+    private static final List<String> HEADERS = Arrays.asList(
+        "Locator", "Selector", "Branches", "Lookups", "Misses", "TotalMs", "AvgMs", "MaxMs");
+    private static final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    static Entry entry(String locator, String selector, int branches) {
+        return entries.computeIfAbsent(locator, k -> new Entry(locator, selector, branches));
+    }
+
+    public static boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Report row for one locator, or null if it was never looked up
+     */
+    public static List<String> getRow(String locator) {
+        Entry entry = entries.get(locator);
+        return entry == null ? null : entry.toRow();
+    }
+
+    public static List<String> getHeaders() {
+        return HEADERS;
+    }
+
+    /**
+     * Report rows sorted by total lookup time, slowest first
+     */
+    public static List<List<String>> getRows() {
+        List<List<String>> rows = new ArrayList<>();
+        entries.values().stream()
+            .sorted(Comparator.comparingLong(Entry::totalNanos).reversed())
+            .forEach(e -> rows.add(e.toRow()));
+        return rows;
+    }
+
+    /**
+     * Write the per-locator latency table to CSV
+     */
+    public static void writeCsv() {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<Map<String, String>> data = new ArrayList<>();
+        for (List<String> row : getRows()) {
+            Map<String, String> map = new LinkedHashMap<>();
+            for (int i = 0; i < HEADERS.size(); i++) {
+                map.put(HEADERS.get(i), row.get(i));
+            }
+            data.add(map);
+        }
+        try {
+            new CsvUtil().writeCsv(REPORT_PATH, data, HEADERS);
+            System.out.println("Locator latency report saved: " + REPORT_PATH);
+        } catch (IOException e) {
+            System.err.println("Failed to write locator latency report: " + e.getMessage());
+        }
+    }
+
+    static class Entry {
+        private final String locator;
+        private final String selector;
+        private final int branches;
+        private long lookups;
+        private long misses;
+        private long totalNanos;
+        private long maxNanos;
+
+        Entry(String locator, String selector, int branches) {
+            this.locator = locator;
+            this.selector = selector;
+            this.branches = branches;
+        }
+
+        synchronized void record(long nanos, boolean found) {
+            lookups++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            if (!found) {
+                misses++;
+            }
+        }
+
+        synchronized long totalNanos() {
+            return totalNanos;
+        }
+
+        synchronized List<String> toRow() {
+            return Arrays.asList(
+                locator,
+                selector,
+                String.valueOf(Math.max(1, branches)),
+                String.valueOf(lookups),
+                String.valueOf(misses),
+                String.valueOf(totalNanos / 1_000_000),
+                String.format("%.1f", lookups == 0 ? 0.0 : totalNanos / 1_000_000.0 / lookups),
+                String.format("%.1f", maxNanos / 1_000_000.0));
+        }
+    }
+}
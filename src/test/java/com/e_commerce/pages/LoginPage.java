@@ -1,5 +1,6 @@
 package com.e_commerce.pages;
 
+import com.e_commerce.core.SiteUnderTest;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -13,10 +14,29 @@ public class LoginPage extends BasePage {
     @FindBy(css = ".login-form")
     private WebElement loginForm;
 
+    @FindBy(css = "input[data-qa='login-email']")
+    private WebElement loginEmailInput;
+
+    @FindBy(css = "input[data-qa='login-password']")
+    private WebElement loginPasswordInput;
+
+    @FindBy(css = "button[data-qa='login-button']")
+    private WebElement loginButton;
+
+    @FindBy(css = ".login-form form p")
+    private WebElement loginError;
+
+    @FindBy(xpath = "//a[contains(normalize-space(.), 'Logged in as')]")
+    private WebElement loggedInAs;
+
     public LoginPage(WebDriver driver) {
         super(driver);
     }
 
+    public void open() {
+        driver.get(SiteUnderTest.baseUrl() + "/login");
+    }
+
     public void openFromNavbar() {
         waitVisible(loginNavLink);
         try {
@@ -31,4 +51,44 @@ public class LoginPage extends BasePage {
     public boolean isLoginFormVisible() {
         return loginForm != null && loginForm.isDisplayed();
     }
+
+    /**
+     * Submit the login form
+     * @return true once the header shows "Logged in as", false if the login was rejected
+     */
+    public boolean login(String email, String password) {
+        waitVisible(loginEmailInput).clear();
+        loginEmailInput.sendKeys(email);
+        loginPasswordInput.clear();
+        loginPasswordInput.sendKeys(password);
+        waitClickable(loginButton).click();
+        try {
+            waitVisible(loggedInAs);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Check the header for "Logged in as" on the current page, without waiting
+     */
+    public boolean isLoggedIn() {
+        try {
+            return loggedInAs.isDisplayed();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Get the error shown for rejected credentials
+     */
+    public String getLoginError() {
+        try {
+            return loginError.getText();
+        } catch (Exception e) {
+            return "";
+        }
+    }
 }
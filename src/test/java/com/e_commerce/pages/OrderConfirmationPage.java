@@ -1,8 +1,10 @@
 package com.e_commerce.pages;
 
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -289,20 +291,26 @@ public class OrderConfirmationPage extends BasePage {
             .collect(Collectors.toList());
     }
     
+    /**
+     * Read all order details in one browser round trip, once the order number or total is shown
+     */
+    public OrderDetails getOrderDetails() {
+        try {
+            waitFor("visible", orderTotalElement, ExpectedConditions.or(
+                ExpectedConditions.visibilityOf(orderTotalElement),
+                ExpectedConditions.visibilityOf(orderNumberElement)));
+        } catch (TimeoutException e) {
+            // Snapshot whatever is there, like the single-field getters returning their defaults
+        }
+        return new OrderDetails(snapshot());
+    }
+    
     /**
      * Verify order total calculation
      */
     public boolean isOrderTotalCorrect() {
         try {
-            double subtotal = Double.parseDouble(getOrderSubtotal());
-            double shipping = Double.parseDouble(getShippingCost());
-            double tax = Double.parseDouble(getTaxAmount());
-            double discount = Double.parseDouble(getDiscountAmount());
-            double total = Double.parseDouble(getOrderTotal());
-            
-            double expectedTotal = subtotal + shipping + tax - discount;
-            
-            return Math.abs(total - expectedTotal) < 0.01;
+            return getOrderDetails().isTotalCorrect();
         } catch (Exception e) {
             return false;
         }
@@ -423,6 +431,7 @@ public class OrderConfirmationPage extends BasePage {
      * Click continue shopping button
      */
     public void continueShopping() {
+        expectNavigation();
         try {
             WebElement btn = waitClickable(continueShoppingButton);
             btn.click();
@@ -501,8 +510,10 @@ public class OrderConfirmationPage extends BasePage {
      * Verify order has minimum required information
      */
     public boolean hasCompleteOrderInfo() {
-        return isOrderNumberGenerated() &&
-               !getOrderTotal().equals("0") &&
-               getOrderItemCount() > 0;
+        try {
+            return getOrderDetails().isComplete();
+        } catch (Exception e) {
+            return false;
+        }
     }
 }
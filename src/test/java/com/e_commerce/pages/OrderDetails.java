@@ -0,0 +1,155 @@
+package com.e_commerce.pages;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Order confirmation values read from one {@link PageSnapshot}.
+ * Defaults match the single-field getters on {@link OrderConfirmationPage}.
+ */
+public final class OrderDetails {
+
+    private final String confirmationMessage;
+    private final String orderNumber;
+    private final String orderStatus;
+    private final String orderTotal;
+    private final String subtotal;
+    private final String shippingCost;
+    private final String taxAmount;
+    private final String discountAmount;
+    private final int itemCount;
+    private final List<String> productNames;
+    private final String paymentStatus;
+    private final String transactionId;
+    private final String emailConfirmationMessage;
+    private final boolean continueShoppingAvailable;
+
+    OrderDetails(PageSnapshot snapshot) {
+        this.confirmationMessage = snapshot.getText("confirmationMessage");
+        this.orderNumber = snapshot.getText("orderNumberElement").replaceAll("[^0-9]", "");
+        this.orderStatus = textOrDefault(snapshot.get("orderStatusElement"), "Confirmed");
+        this.orderTotal = amount(snapshot.getText("orderTotalElement"));
+        this.subtotal = amount(snapshot.getText("orderSubtotalElement"));
+        this.shippingCost = amount(snapshot.getText("shippingCostElement"));
+        this.taxAmount = amount(snapshot.getText("taxElement"));
+        this.discountAmount = amount(snapshot.getText("discountElement"));
+        this.itemCount = snapshot.count("orderItems") > 0
+            ? snapshot.count("orderItems") : snapshot.count("productNames");
+        this.productNames = Collections.unmodifiableList(snapshot.getAll("productNames").stream()
+            .map(ElementSnapshot::getText)
+            .collect(Collectors.toList()));
+        this.paymentStatus = textOrDefault(snapshot.get("paymentStatus"), "Paid");
+        this.transactionId = snapshot.getText("transactionId");
+        this.emailConfirmationMessage = snapshot.getText("emailConfirmationMessage");
+        this.continueShoppingAvailable = snapshot.isVisible("continueShoppingButton");
+    }
+
+    public String getConfirmationMessage() {
+        return confirmationMessage;
+    }
+
+    public String getOrderNumber() {
+        return orderNumber;
+    }
+
+    public boolean isOrderNumberGenerated() {
+        return !orderNumber.isEmpty() && !orderNumber.equals("0");
+    }
+
+    public String getOrderStatus() {
+        return orderStatus;
+    }
+
+    public String getOrderTotal() {
+        return orderTotal;
+    }
+
+    public double getOrderTotalAsDouble() {
+        return parse(orderTotal);
+    }
+
+    public String getSubtotal() {
+        return subtotal;
+    }
+
+    public String getShippingCost() {
+        return shippingCost;
+    }
+
+    public String getTaxAmount() {
+        return taxAmount;
+    }
+
+    public String getDiscountAmount() {
+        return discountAmount;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public List<String> getProductNames() {
+        return productNames;
+    }
+
+    public String getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public String getEmailConfirmationMessage() {
+        return emailConfirmationMessage;
+    }
+
+    public boolean isContinueShoppingAvailable() {
+        return continueShoppingAvailable;
+    }
+
+    /**
+     * total == subtotal + shipping + tax - discount
+     */
+    public boolean isTotalCorrect() {
+        try {
+            double expected = Double.parseDouble(subtotal) + Double.parseDouble(shippingCost)
+                + Double.parseDouble(taxAmount) - Double.parseDouble(discountAmount);
+            return Math.abs(Double.parseDouble(orderTotal) - expected) < 0.01;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Order number, a non-zero total and at least one item
+     */
+    public boolean isComplete() {
+        return isOrderNumberGenerated() && !orderTotal.equals("0") && itemCount > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Order #" + orderNumber + " [status=" + orderStatus + ", items=" + itemCount
+            + ", subtotal=" + subtotal + ", shipping=" + shippingCost + ", tax=" + taxAmount
+            + ", discount=" + discountAmount + ", total=" + orderTotal + "]";
+    }
+
+    private static String textOrDefault(ElementSnapshot element, String defaultValue) {
+        return element.isPresent() ? element.getText() : defaultValue;
+    }
+
+    private static String amount(String text) {
+        String digits = text.replaceAll("[^0-9.]", "");
+        return digits.isEmpty() ? "0" : digits;
+    }
+
+    private static double parse(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+}
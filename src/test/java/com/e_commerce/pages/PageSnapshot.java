@@ -0,0 +1,211 @@
+package com.e_commerce.pages;
+
+import com.e_commerce.core.BrowserScripts;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.How;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable state of every @FindBy field on a page object, read with a single
+ * executeScript call instead of one getText()/isDisplayed() round trip per field.
+ * Comma-separated CSS fallbacks resolve the same way PageFactory does (first match
+ * in document order), and the matched branch is kept on each element.
+ */
+public final class PageSnapshot {
+
+    private static final Map<Class<?>, List<Map<String, Object>>> specsByPage = new ConcurrentHashMap<>();
+
+    private final Map<String, List<ElementSnapshot>> elements;
+    private final long capturedAt;
+
+    private PageSnapshot(Map<String, List<ElementSnapshot>> elements, long capturedAt) {
+        this.elements = Collections.unmodifiableMap(elements);
+        this.capturedAt = capturedAt;
+    }
+
+    /**
+     * Snapshot all @FindBy fields declared on the page object
+     */
+    public static PageSnapshot capture(WebDriver driver, Object page) {
+        List<Map<String, Object>> specs = specsByPage.computeIfAbsent(page.getClass(), PageSnapshot::buildSpecs);
+        Object result = ((JavascriptExecutor) driver).executeScript(BrowserScripts.PAGE_SNAPSHOT, specs);
+        return from(result instanceof Map ? (Map<?, ?>) result : Collections.emptyMap());
+    }
+
+    /**
+     * Build a snapshot from the raw PAGE_SNAPSHOT script result
+     */
+    public static PageSnapshot from(Map<?, ?> raw) {
+        Map<String, List<ElementSnapshot>> elements = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : raw.entrySet()) {
+            List<ElementSnapshot> list = new ArrayList<>();
+            if (entry.getValue() instanceof List) {
+                for (Object item : (List<?>) entry.getValue()) {
+                    if (item instanceof Map) {
+                        list.add(toElement((Map<?, ?>) item));
+                    }
+                }
+            }
+            elements.put(String.valueOf(entry.getKey()), Collections.unmodifiableList(list));
+        }
+        return new PageSnapshot(elements, System.currentTimeMillis());
+    }
+
+    /**
+     * First element matched by the field, or {@link ElementSnapshot#ABSENT}
+     */
+    public ElementSnapshot get(String field) {
+        List<ElementSnapshot> list = getAll(field);
+        return list.isEmpty() ? ElementSnapshot.ABSENT : list.get(0);
+    }
+
+    /**
+     * All elements matched by a List&lt;WebElement&gt; field (at most one for single fields)
+     */
+    public List<ElementSnapshot> getAll(String field) {
+        return elements.getOrDefault(field, Collections.emptyList());
+    }
+
+    public String getText(String field) {
+        return get(field).getText();
+    }
+
+    public boolean isVisible(String field) {
+        return get(field).isVisible();
+    }
+
+    public boolean isPresent(String field) {
+        return get(field).isPresent();
+    }
+
+    public int count(String field) {
+        return getAll(field).size();
+    }
+
+    public long getCapturedAt() {
+        return capturedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "PageSnapshot" + elements;
+    }
+
+    private static ElementSnapshot toElement(Map<?, ?> raw) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        if (raw.get("attributes") instanceof Map) {
+            for (Map.Entry<?, ?> attr : ((Map<?, ?>) raw.get("attributes")).entrySet()) {
+                attributes.put(String.valueOf(attr.getKey()), String.valueOf(attr.getValue()));
+            }
+        }
+        Object branch = raw.get("branch");
+        return new ElementSnapshot(
+            (String) raw.get("tag"),
+            (String) raw.get("text"),
+            Boolean.TRUE.equals(raw.get("visible")),
+            attributes,
+            branch instanceof Number ? ((Number) branch).intValue() : -1);
+    }
+
+    private static List<Map<String, Object>> buildSpecs(Class<?> pageClass) {
+        List<Map<String, Object>> specs = new ArrayList<>();
+        for (Class<?> c = pageClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                FindBy findBy = field.getAnnotation(FindBy.class);
+                if (findBy == null || Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                Map<String, Object> spec = toSpec(findBy);
+                if (spec == null) {
+                    System.out.println("Snapshot skipped unsupported locator on " + field.getName());
+                    continue;
+                }
+                spec.put("name", field.getName());
+                spec.put("list", !WebElement.class.isAssignableFrom(field.getType()));
+                specs.add(spec);
+            }
+        }
+        return Collections.unmodifiableList(specs);
+    }
+
+    private static Map<String, Object> toSpec(FindBy findBy) {
+        if (!findBy.css().isEmpty()) {
+            return css(findBy.css());
+        }
+        if (!findBy.id().isEmpty()) {
+            return css(attributeSelector("id", findBy.id()));
+        }
+        if (!findBy.name().isEmpty()) {
+            return css(attributeSelector("name", findBy.name()));
+        }
+        if (!findBy.className().isEmpty()) {
+            return css("." + findBy.className());
+        }
+        if (!findBy.tagName().isEmpty()) {
+            return css(findBy.tagName());
+        }
+        if (!findBy.xpath().isEmpty()) {
+            return spec("xpath", findBy.xpath());
+        }
+        if (!findBy.linkText().isEmpty()) {
+            return spec("linkText", findBy.linkText());
+        }
+        if (!findBy.partialLinkText().isEmpty()) {
+            return spec("partialLinkText", findBy.partialLinkText());
+        }
+        return fromHow(findBy.how(), findBy.using());
+    }
+
+    private static Map<String, Object> fromHow(How how, String using) {
+        switch (how) {
+            case CSS:
+                return css(using);
+            case ID:
+                return css(attributeSelector("id", using));
+            case NAME:
+                return css(attributeSelector("name", using));
+            case ID_OR_NAME:
+                return css(attributeSelector("id", using) + ", " + attributeSelector("name", using));
+            case CLASS_NAME:
+                return css("." + using);
+            case TAG_NAME:
+                return css(using);
+            case XPATH:
+                return spec("xpath", using);
+            case LINK_TEXT:
+                return spec("linkText", using);
+            case PARTIAL_LINK_TEXT:
+                return spec("partialLinkText", using);
+            default:
+                return null;
+        }
+    }
+
+    private static Map<String, Object> css(String selector) {
+        Map<String, Object> spec = spec("css", selector);
+        spec.put("branches", CssSelectors.splitBranches(selector));
+        return spec;
+    }
+
+    private static Map<String, Object> spec(String how, String using) {
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("how", how);
+        spec.put("using", using);
+        return spec;
+    }
+
+    private static String attributeSelector(String attribute, String value) {
+        return "[" + attribute + "=\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"]";
+    }
+}
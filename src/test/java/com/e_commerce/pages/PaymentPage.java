@@ -225,6 +225,7 @@ public class PaymentPage extends BasePage {
      * Click Pay Now button
      */
     public void clickPayNow() {
+        expectNavigation();
         try {
             WebElement btn = waitClickable(payNowButton);
             btn.click();
@@ -242,6 +243,7 @@ public class PaymentPage extends BasePage {
      * Click Place Order button
      */
     public void placeOrder() {
+        expectNavigation();
         try {
             WebElement btn = waitClickable(placeOrderButton);
             btn.click();
@@ -255,7 +257,7 @@ public class PaymentPage extends BasePage {
      */
     public void waitForPaymentProcessing(int timeoutSeconds) {
         try {
-            Thread.sleep(2000); // Initial wait
+            waitForPageSettled(2000); // Let the submit request and any redirect finish
             
             // Wait for processing indicator to appear and disappear
             long startTime = System.currentTimeMillis();
@@ -4,7 +4,9 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class ProductsPage extends BasePage {
@@ -24,6 +26,13 @@ public class ProductsPage extends BasePage {
     @FindBy(css = ".features_items .product-image-wrapper")
     private List<WebElement> productCards;
 
+    @FindBy(css = ".features_items .productinfo a.add-to-cart")
+    private List<WebElement> resultCartLinks;
+
+    // "Continue Shopping" in the added-to-cart modal
+    @FindBy(css = "#cartModal button.close-modal")
+    private WebElement continueShoppingButton;
+
     public ProductsPage(WebDriver driver) {
         super(driver);
     }
@@ -52,9 +61,39 @@ public class ProductsPage extends BasePage {
         return productCards != null && !productCards.isEmpty();
     }
 
+    /**
+     * Ids of the products listed (each card's data-product-id), read in one browser round trip
+     */
+    public List<Integer> getResultIds() {
+        List<Integer> ids = new ArrayList<>();
+        for (ElementSnapshot link : snapshot().getAll("resultCartLinks")) {
+            ids.add(Integer.parseInt(link.getAttribute("data-product-id")));
+        }
+        return ids;
+    }
+
     public void addFirstProductToCart() {
         // Click the first visible 'Add to cart' button with scroll + JS fallback
-        WebElement addBtn = productCards.get(0).findElement(org.openqa.selenium.By.cssSelector("a.add-to-cart"));
+        clickAddToCart(productCards.get(0).findElement(org.openqa.selenium.By.cssSelector("a.add-to-cart")));
+    }
+
+    /**
+     * Click 'Add to cart' on the listed product with this id
+     */
+    public void addProductToCart(int productId) {
+        clickAddToCart(resultsContainer.findElement(org.openqa.selenium.By.cssSelector(
+            ".productinfo a.add-to-cart[data-product-id='" + productId + "']")));
+    }
+
+    /**
+     * Close the added-to-cart modal to keep adding products
+     */
+    public void continueShopping() {
+        waitClickable(continueShoppingButton).click();
+        wait.until(ExpectedConditions.invisibilityOf(continueShoppingButton));
+    }
+
+    private void clickAddToCart(WebElement addBtn) {
         ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", addBtn);
         try {
             waitClickable(addBtn);
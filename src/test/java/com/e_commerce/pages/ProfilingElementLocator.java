@@ -0,0 +1,91 @@
+package com.e_commerce.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.How;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * ElementLocator that times every lookup in {@link LocatorRegistry}. Lookups always use
+ * the annotated selector unchanged, so profiling never changes which element is returned.
+ */
+public class ProfilingElementLocator implements ElementLocator {
+
+    private final SearchContext searchContext;
+    private final By by;
+    private final boolean shouldCache;
+    private final LocatorRegistry.Entry entry;
+    private WebElement cachedElement;
+    private List<WebElement> cachedElementList;
+
+    public ProfilingElementLocator(SearchContext searchContext, Field field) {
+        Annotations annotations = new Annotations(field);
+        this.searchContext = searchContext;
+        this.by = annotations.buildBy();
+        this.shouldCache = annotations.isLookupCached();
+
+        String css = cssOf(field.getAnnotation(FindBy.class));
+        String locator = field.getDeclaringClass().getSimpleName() + "." + field.getName();
+        this.entry = LocatorRegistry.entry(locator, css == null ? by.toString() : css,
+            css == null ? 1 : CssSelectors.splitBranches(css).size());
+    }
+
+    @Override
+    public WebElement findElement() {
+        if (cachedElement != null && shouldCache) {
+            return cachedElement;
+        }
+        long start = System.nanoTime();
+        WebElement element;
+        try {
+            element = searchContext.findElement(by);
+        } catch (NoSuchElementException e) {
+            entry.record(System.nanoTime() - start, false);
+            throw e;
+        }
+        entry.record(System.nanoTime() - start, true);
+        if (shouldCache) {
+            cachedElement = element;
+        }
+        return element;
+    }
+
+    @Override
+    public List<WebElement> findElements() {
+        if (cachedElementList != null && shouldCache) {
+            return cachedElementList;
+        }
+        long start = System.nanoTime();
+        List<WebElement> elements = searchContext.findElements(by);
+        entry.record(System.nanoTime() - start, !elements.isEmpty());
+        if (shouldCache) {
+            cachedElementList = elements;
+        }
+        return elements;
+    }
+
+    private static String cssOf(FindBy findBy) {
+        if (findBy == null) {
+            return null;
+        }
+        if (!findBy.css().isEmpty()) {
+            return findBy.css();
+        }
+        if (findBy.how() == How.CSS && !findBy.using().isEmpty()) {
+            return findBy.using();
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " '" + by + "'";
+    }
+}
@@ -0,0 +1,24 @@
+package com.e_commerce.pages;
+
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.lang.reflect.Field;
+
+/**
+ * Creates a {@link ProfilingElementLocator} for every page object field
+ */
+public class ProfilingElementLocatorFactory implements ElementLocatorFactory {
+
+    private final SearchContext searchContext;
+
+    public ProfilingElementLocatorFactory(SearchContext searchContext) {
+        this.searchContext = searchContext;
+    }
+
+    @Override
+    public ElementLocator createLocator(Field field) {
+        return new ProfilingElementLocator(searchContext, field);
+    }
+}
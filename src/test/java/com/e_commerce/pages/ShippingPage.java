@@ -359,6 +359,7 @@ public class ShippingPage extends BasePage {
      * Click continue button
      */
     public void clickContinue() {
+        expectNavigation();
         WebElement btn = waitClickable(continueButton);
         btn.click();
     }
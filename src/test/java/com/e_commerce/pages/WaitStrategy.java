@@ -0,0 +1,68 @@
+package com.e_commerce.pages;
+
+import com.e_commerce.core.FrameworkConfig;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Polling policy for one wait condition: poll quickly at first, then back off
+ * exponentially up to a cap. Every poll is a WebDriver round trip, so fast
+ * early polls catch elements that are already there while slow-loading
+ * elements are not hammered for the whole timeout.
+ *
+ * Configured per condition in framework.properties, falling back to wait.default.*:
+ * wait.&lt;condition&gt;.timeoutMs, .initialPollMs, .maxPollMs, .backoff
+ */
+public final class WaitStrategy {
+
+    private static final Map<String, WaitStrategy> strategies = new ConcurrentHashMap<>();
+
+    private final Duration timeout;
+    private final long initialPollMs;
+    private final long maxPollMs;
+    private final double backoff;
+
+    public WaitStrategy(Duration timeout, long initialPollMs, long maxPollMs, double backoff) {
+        this.timeout = timeout;
+        this.initialPollMs = initialPollMs;
+        this.maxPollMs = Math.max(initialPollMs, maxPollMs);
+        this.backoff = Math.max(1.0, backoff);
+    }
+
+    /**
+     * Strategy for a named condition such as "visible" or "clickable"
+     */
+    public static WaitStrategy forCondition(String condition) {
+        return strategies.computeIfAbsent(condition, WaitStrategy::load);
+    }
+
+    private static WaitStrategy load(String condition) {
+        String prefix = "wait." + condition + ".";
+        return new WaitStrategy(
+            Duration.ofMillis(FrameworkConfig.getLong(prefix + "timeoutMs",
+                FrameworkConfig.getLong("wait.default.timeoutMs", 15000))),
+            FrameworkConfig.getLong(prefix + "initialPollMs",
+                FrameworkConfig.getLong("wait.default.initialPollMs", 50)),
+            FrameworkConfig.getLong(prefix + "maxPollMs",
+                FrameworkConfig.getLong("wait.default.maxPollMs", 500)),
+            Double.parseDouble(FrameworkConfig.getString(prefix + "backoff",
+                FrameworkConfig.getString("wait.default.backoff", "2.0"))));
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public long getInitialPollMs() {
+        return initialPollMs;
+    }
+
+    /**
+     * Interval to sleep before the next poll
+     */
+    long nextInterval(long previousMs) {
+        return Math.min(maxPollMs, (long) Math.ceil(previousMs * backoff));
+    }
+}
@@ -0,0 +1,243 @@
+package com.e_commerce.storefront;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The /api endpoints of automationexercise.com with the same status handling:
+ * HTTP 200 always, with the outcome in the JSON responseCode and message.
+ * Endpoints the public site does not have answer 404 like it does.
+ */
+class ApiHandler implements HttpHandler {
+
+    private static final List<String> ACCOUNT_FIELDS = Arrays.asList("name", "email", "password", "firstname",
+        "lastname", "address1", "country", "zipcode", "state", "city", "mobile_number");
+    private static final List<String> OPTIONAL_FIELDS = Arrays.asList("title", "birth_date", "birth_month",
+        "birth_year", "company", "address2");
+
+    private final StorefrontState state;
+
+    ApiHandler(StorefrontState state) {
+        this.state = state;
+    }
+
+    @Override
+    public void handle(HttpExchange httpExchange) throws IOException {
+        StorefrontExchange exchange = new StorefrontExchange(httpExchange, state);
+        try {
+            String endpoint = exchange.path().replaceFirst("^/api/", "").replaceFirst("/$", "");
+            switch (endpoint) {
+                case "productsList":
+                    productsList(exchange);
+                    break;
+                case "brandsList":
+                    brandsList(exchange);
+                    break;
+                case "searchProduct":
+                    searchProduct(exchange);
+                    break;
+                case "verifyLogin":
+                    verifyLogin(exchange);
+                    break;
+                case "createAccount":
+                    createAccount(exchange);
+                    break;
+                case "deleteAccount":
+                    deleteAccount(exchange);
+                    break;
+                case "updateAccount":
+                    updateAccount(exchange);
+                    break;
+                case "getUserDetailByEmail":
+                    getUserDetailByEmail(exchange);
+                    break;
+                default:
+                    exchange.sendHtml(404, PageHandler.notFound());
+            }
+        } catch (RuntimeException e) {
+            exchange.send(500, "text/plain", "Local storefront error: " + e);
+        }
+    }
+
+    private void productsList(StorefrontExchange exchange) throws IOException {
+        if (!requireMethod(exchange, "GET")) {
+            return;
+        }
+        JsonObject json = response(200);
+        json.add("products", products(state.getProducts()));
+        exchange.sendJson(json.toString());
+    }
+
+    private void brandsList(StorefrontExchange exchange) throws IOException {
+        if (!requireMethod(exchange, "GET")) {
+            return;
+        }
+        JsonObject json = response(200);
+        json.add("brands", state.getBrands());
+        exchange.sendJson(json.toString());
+    }
+
+    private void searchProduct(StorefrontExchange exchange) throws IOException {
+        if (!requireMethod(exchange, "POST")) {
+            return;
+        }
+        String term = exchange.param("search_product");
+        if (term == null) {
+            sendMessage(exchange, 400, "Bad request, search_product parameter is missing in POST request.");
+            return;
+        }
+        JsonObject json = response(200);
+        json.add("products", products(state.search(term)));
+        exchange.sendJson(json.toString());
+    }
+
+    private void verifyLogin(StorefrontExchange exchange) throws IOException {
+        if (!requireMethod(exchange, "POST")) {
+            return;
+        }
+        String email = exchange.param("email");
+        String password = exchange.param("password");
+        if (email == null || password == null) {
+            sendMessage(exchange, 400, "Bad request, email or password parameter is missing in POST request.");
+        } else if (state.authenticate(email, password) == null) {
+            sendMessage(exchange, 404, "User not found!");
+        } else {
+            sendMessage(exchange, 200, "User exists!");
+        }
+    }
+
+    private void createAccount(StorefrontExchange exchange) throws IOException {
+        if (!requireMethod(exchange, "POST")) {
+            return;
+        }
+        for (String field : ACCOUNT_FIELDS) {
+            if (exchange.param(field) == null) {
+                sendMessage(exchange, 400, "Bad request, " + field + " parameter is missing in POST request.");
+                return;
+            }
+        }
+        if (state.addUser(accountFields(exchange))) {
+            sendMessage(exchange, 201, "User created!");
+        } else {
+            sendMessage(exchange, 400, "Email already exists!");
+        }
+    }
+
+    private void deleteAccount(StorefrontExchange exchange) throws IOException {
+        if (!requireMethod(exchange, "DELETE")) {
+            return;
+        }
+        String email = exchange.param("email");
+        String password = exchange.param("password");
+        if (email == null || password == null) {
+            sendMessage(exchange, 400, "Bad request, email or password parameter is missing in DELETE request.");
+        } else if (state.authenticate(email, password) != null && state.deleteUser(email)) {
+            sendMessage(exchange, 200, "Account deleted!");
+        } else {
+            sendMessage(exchange, 404, "Account not found!");
+        }
+    }
+
+    private void updateAccount(StorefrontExchange exchange) throws IOException {
+        if (!requireMethod(exchange, "PUT")) {
+            return;
+        }
+        String email = exchange.param("email");
+        String password = exchange.param("password");
+        if (email == null || password == null) {
+            sendMessage(exchange, 400, "Bad request, email or password parameter is missing in PUT request.");
+        } else if (state.authenticate(email, password) == null) {
+            sendMessage(exchange, 404, "Account not found!");
+        } else {
+            Map<String, String> fields = accountFields(exchange);
+            fields.remove("email");
+            state.updateUser(email, fields);
+            sendMessage(exchange, 200, "User updated!");
+        }
+    }
+
+    private void getUserDetailByEmail(StorefrontExchange exchange) throws IOException {
+        if (!requireMethod(exchange, "GET")) {
+            return;
+        }
+        String email = exchange.param("email");
+        Map<String, String> user = state.getUser(email);
+        if (email == null) {
+            sendMessage(exchange, 400, "Bad request, email parameter is missing in GET request.");
+        } else if (user == null) {
+            sendMessage(exchange, 404, "Account not found with this email, try another email!");
+        } else {
+            JsonObject json = response(200);
+            json.add("user", state.userDetail(user));
+            exchange.sendJson(json.toString());
+        }
+    }
+
+    /**
+     * createAccount/updateAccount parameters under the names getUserDetailByEmail returns
+     */
+    private static Map<String, String> accountFields(StorefrontExchange exchange) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (String field : ACCOUNT_FIELDS) {
+            copy(exchange, field, fields);
+        }
+        for (String field : OPTIONAL_FIELDS) {
+            copy(exchange, field, fields);
+        }
+        rename(fields, "firstname", "first_name");
+        rename(fields, "lastname", "last_name");
+        rename(fields, "birth_date", "birth_day");
+        return fields;
+    }
+
+    private static void copy(StorefrontExchange exchange, String field, Map<String, String> fields) {
+        String value = exchange.param(field);
+        if (value != null) {
+            fields.put(field, value);
+        }
+    }
+
+    private static void rename(Map<String, String> fields, String from, String to) {
+        String value = fields.remove(from);
+        if (value != null) {
+            fields.put(to, value);
+        }
+    }
+
+    private static JsonArray products(List<JsonObject> products) {
+        JsonArray array = new JsonArray();
+        products.forEach(array::add);
+        return array;
+    }
+
+    /**
+     * Other methods get responseCode 405, as on the public site
+     */
+    private static boolean requireMethod(StorefrontExchange exchange, String method) throws IOException {
+        if (exchange.method().equals(method)) {
+            return true;
+        }
+        sendMessage(exchange, 405, "This request method is not supported.");
+        return false;
+    }
+
+    private static void sendMessage(StorefrontExchange exchange, int responseCode, String message) throws IOException {
+        JsonObject json = response(responseCode);
+        json.addProperty("message", message);
+        exchange.sendJson(json.toString());
+    }
+
+    private static JsonObject response(int responseCode) {
+        JsonObject json = new JsonObject();
+        json.addProperty("responseCode", responseCode);
+        return json;
+    }
+}
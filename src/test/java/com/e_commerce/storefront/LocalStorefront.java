@@ -0,0 +1,97 @@
+package com.e_commerce.storefront;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process stand-in for automationexercise.com: the storefront pages and the public
+ * /api endpoints served from the JDK HTTP server with in-memory state, so UI and API
+ * suites can run without the network and always start from the same catalog.
+ *
+ * Tests normally do not use this class directly: site.baseUrl=local makes
+ * {@link com.e_commerce.core.SiteUnderTest} start the shared instance on first use.
+ */
+public class LocalStorefront {
+
+    private static final String CATALOG = "storefront/catalog.json";
+
+    private static LocalStorefront shared;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final StorefrontState state;
+
+    /**
+     * Start a storefront with a fresh copy of the catalog
+     * @param port Port on the loopback interface, 0 for any free port
+     */
+    public LocalStorefront(int port) throws IOException {
+        this.state = StorefrontState.fromResource(CATALOG);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        AtomicInteger threads = new AtomicInteger();
+        // Parallel browsers and API threads hit the server at once
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "local-storefront-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/api/", new ApiHandler(state));
+        server.createContext("/", new PageHandler(state));
+        // The dispatcher thread is a daemon only if started from one; otherwise it keeps a
+        // finished main() (load runs, forked workers) from exiting
+        Thread starter = new Thread(server::start, "local-storefront-start");
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            starter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The instance shared by the whole JVM, started on first call and stopped at exit
+     * @param port Port for the first start, 0 for any free port
+     */
+    public static synchronized LocalStorefront shared(int port) {
+        if (shared == null) {
+            try {
+                shared = new LocalStorefront(port);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to start local storefront on port " + port, e);
+            }
+            LocalStorefront started = shared;
+            Runtime.getRuntime().addShutdownHook(new Thread(started::stop));
+            System.out.println("Local storefront started at " + started.getBaseUrl());
+        }
+        return shared;
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Users, carts, orders and subscriptions, for assertions and test setup
+     */
+    public StorefrontState getState() {
+        return state;
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,417 @@
+package com.e_commerce.storefront;
+
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Storefront pages (home, products, cart, login/signup, checkout, payment, contact us)
+ * and the browser endpoints behind them (/add_to_cart, /delete_cart, /subscribe).
+ * The markup keeps the ids, classes and data-qa attributes the page objects locate.
+ */
+class PageHandler implements HttpHandler {
+
+    private static final String SITE_TITLE = "Automation Exercise";
+
+    private final StorefrontState state;
+
+    PageHandler(StorefrontState state) {
+        this.state = state;
+    }
+
+    @Override
+    public void handle(HttpExchange httpExchange) throws IOException {
+        StorefrontExchange exchange = new StorefrontExchange(httpExchange, state);
+        try {
+            route(exchange);
+        } catch (RuntimeException e) {
+            exchange.send(500, "text/plain", "Local storefront error: " + e);
+        }
+    }
+
+    private void route(StorefrontExchange exchange) throws IOException {
+        String path = exchange.path();
+        String[] segments = path.replaceFirst("^/", "").split("/", 2);
+        String id = segments.length > 1 ? segments[1].replaceFirst("/$", "") : "";
+        boolean post = exchange.method().equals("POST");
+        switch (segments[0]) {
+            case "":
+                page(exchange, SITE_TITLE, Templates.render("home", values("products", productCards(state.getProducts()))));
+                break;
+            case "products":
+                products(exchange);
+                break;
+            case "product_details":
+                productDetails(exchange, id);
+                break;
+            case "add_to_cart":
+                addToCart(exchange, id);
+                break;
+            case "delete_cart":
+                deleteCart(exchange, id);
+                break;
+            case "view_cart":
+                viewCart(exchange);
+                break;
+            case "login":
+                if (post) {
+                    login(exchange);
+                } else {
+                    loginPage(exchange, "", "");
+                }
+                break;
+            case "signup":
+                signup(exchange);
+                break;
+            case "logout":
+                exchange.session().setEmail(null);
+                exchange.redirect("/login");
+                break;
+            case "delete_account":
+                deleteAccount(exchange);
+                break;
+            case "checkout":
+                checkout(exchange);
+                break;
+            case "payment":
+                payment(exchange);
+                break;
+            case "payment_done":
+                message(exchange, "Order Placed", "order-placed", "Order Placed!",
+                    "Congratulations! Your order has been confirmed!", "");
+                break;
+            case "contact_us":
+                contactUs(exchange, post);
+                break;
+            case "subscribe":
+                subscribe(exchange);
+                break;
+            case "get_product_picture":
+                productPicture(exchange, id);
+                break;
+            case "static":
+                staticResource(exchange, id);
+                break;
+            default:
+                exchange.sendHtml(404, notFound());
+        }
+    }
+
+    // ===== Catalog pages =====
+
+    private void products(StorefrontExchange exchange) throws IOException {
+        String search = exchange.param("search");
+        boolean searching = search != null && !search.trim().isEmpty();
+        List<JsonObject> products = searching ? state.search(search) : state.getProducts();
+        Map<String, String> values = values("products", productCards(products));
+        values.put("heading", searching ? "Searched Products" : "All Products");
+        values.put("search", Templates.escape(searching ? search : ""));
+        page(exchange, SITE_TITLE + " - All Products", Templates.render("products", values));
+    }
+
+    private void productDetails(StorefrontExchange exchange, String id) throws IOException {
+        JsonObject product = product(id);
+        if (product == null) {
+            exchange.sendHtml(404, notFound());
+            return;
+        }
+        Map<String, String> values = productValues(product);
+        values.put("brand", Templates.escape(product.get("brand").getAsString()));
+        page(exchange, SITE_TITLE + " - Product Details", Templates.render("product_details", values));
+    }
+
+    private String productCards(List<JsonObject> products) {
+        StringBuilder cards = new StringBuilder();
+        products.forEach(p -> cards.append(Templates.render("product_card", productValues(p))));
+        return cards.toString();
+    }
+
+    private static Map<String, String> productValues(JsonObject product) {
+        Map<String, String> values = new HashMap<>();
+        values.put("id", product.get("id").getAsString());
+        values.put("name", Templates.escape(product.get("name").getAsString()));
+        values.put("price", Templates.escape(product.get("price").getAsString()));
+        values.put("category", Templates.escape(StorefrontState.userTypeOf(product) + " > "
+            + StorefrontState.categoryOf(product)));
+        return values;
+    }
+
+    // ===== Cart =====
+
+    private void addToCart(StorefrontExchange exchange, String id) throws IOException {
+        JsonObject product = product(id);
+        if (product == null) {
+            exchange.sendHtml(404, notFound());
+            return;
+        }
+        String quantity = exchange.param("quantity");
+        exchange.session().addToCart(product.get("id").getAsInt(),
+            quantity == null || !quantity.matches("\\d+") ? 1 : Math.max(1, Integer.parseInt(quantity)));
+        exchange.send(200, "text/plain", "OK");
+    }
+
+    private void deleteCart(StorefrontExchange exchange, String id) throws IOException {
+        if (id.matches("\\d+")) {
+            exchange.session().removeFromCart(Integer.parseInt(id));
+        }
+        exchange.send(200, "text/plain", "OK");
+    }
+
+    private void viewCart(StorefrontExchange exchange) throws IOException {
+        StorefrontState.Session session = exchange.session();
+        Map<Integer, Integer> cart = session.getCart();
+        Map<String, String> values = values("rows", cartRows(cart));
+        values.put("empty_display", cart.isEmpty() ? "block" : "none");
+        values.put("logged_in", String.valueOf(loggedIn(session) != null));
+        page(exchange, SITE_TITLE + " - Checkout", Templates.render("view_cart", values));
+    }
+
+    private String cartRows(Map<Integer, Integer> cart) {
+        StringBuilder rows = new StringBuilder();
+        cart.forEach((productId, quantity) -> {
+            JsonObject product = state.getProduct(productId);
+            Map<String, String> values = productValues(product);
+            values.put("quantity", String.valueOf(quantity));
+            values.put("total", "Rs. " + StorefrontState.priceOf(product) * quantity);
+            rows.append(Templates.render("cart_row", values));
+        });
+        return rows.toString();
+    }
+
+    private int cartTotal(Map<Integer, Integer> cart) {
+        int total = 0;
+        for (Map.Entry<Integer, Integer> entry : cart.entrySet()) {
+            total += StorefrontState.priceOf(state.getProduct(entry.getKey())) * entry.getValue();
+        }
+        return total;
+    }
+
+    // ===== Accounts =====
+
+    private void login(StorefrontExchange exchange) throws IOException {
+        Map<String, String> user = state.authenticate(exchange.param("email"), exchange.param("password"));
+        if (user == null) {
+            loginPage(exchange, "<p style=\"color: red;\">Your email or password is incorrect!</p>", "");
+            return;
+        }
+        exchange.session().setEmail(user.get("email"));
+        exchange.redirect("/");
+    }
+
+    private void loginPage(StorefrontExchange exchange, String loginError, String signupError) throws IOException {
+        Map<String, String> values = values("login_error", loginError);
+        values.put("signup_error", signupError);
+        page(exchange, SITE_TITLE + " - Signup / Login", Templates.render("login", values));
+    }
+
+    private void signup(StorefrontExchange exchange) throws IOException {
+        StorefrontState.Session session = exchange.session();
+        if ("create_account".equals(exchange.param("form_type")) && session.getSignupEmail() != null) {
+            Map<String, String> user = new LinkedHashMap<>();
+            user.put("name", param(exchange, "name", session.getSignupName()));
+            user.put("email", session.getSignupEmail());
+            user.put("password", param(exchange, "password", ""));
+            user.put("title", param(exchange, "title", ""));
+            user.put("birth_day", param(exchange, "days", ""));
+            user.put("birth_month", param(exchange, "months", ""));
+            user.put("birth_year", param(exchange, "years", ""));
+            for (String field : new String[] {"first_name", "last_name", "company", "address1", "address2",
+                    "country", "state", "city", "zipcode", "mobile_number"}) {
+                user.put(field, param(exchange, field, ""));
+            }
+            if (!state.addUser(user)) {
+                loginPage(exchange, "", "<p style=\"color: red;\">Email Address already exist!</p>");
+                return;
+            }
+            session.setEmail(user.get("email"));
+            session.startSignup(null, null);
+            message(exchange, "Account Created", "account-created", "Account Created!",
+                "Congratulations! Your new account has been successfully created!", "");
+            return;
+        }
+        if (exchange.method().equals("POST")) {
+            String email = param(exchange, "email", "");
+            if (state.getUser(email) != null) {
+                loginPage(exchange, "", "<p style=\"color: red;\">Email Address already exist!</p>");
+                return;
+            }
+            session.startSignup(param(exchange, "name", ""), email);
+        }
+        if (session.getSignupEmail() == null) {
+            exchange.redirect("/login");
+            return;
+        }
+        Map<String, String> values = values("name", Templates.escape(session.getSignupName()));
+        values.put("email", Templates.escape(session.getSignupEmail()));
+        page(exchange, SITE_TITLE + " - Signup", Templates.render("signup", values));
+    }
+
+    private void deleteAccount(StorefrontExchange exchange) throws IOException {
+        Map<String, String> user = loggedIn(exchange.session());
+        if (user == null) {
+            exchange.redirect("/login");
+            return;
+        }
+        state.deleteUser(user.get("email"));
+        message(exchange, "Account Deleted", "account-deleted", "Account Deleted!",
+            "Your account has been permanently deleted!", "");
+    }
+
+    // ===== Checkout =====
+
+    private void checkout(StorefrontExchange exchange) throws IOException {
+        StorefrontState.Session session = exchange.session();
+        Map<String, String> user = loggedIn(session);
+        Map<Integer, Integer> cart = session.getCart();
+        Map<String, String> values = values("rows", cartRows(cart));
+        values.put("total", "Rs. " + cartTotal(cart));
+        values.put("address", user == null
+            ? "<li><a href=\"/login\"><u>Register / Login</u></a></li>" : address(user));
+        page(exchange, SITE_TITLE + " - Checkout", Templates.render("checkout", values));
+    }
+
+    private static String address(Map<String, String> user) {
+        String title = user.getOrDefault("title", "");
+        return "<li class=\"address_firstname address_lastname\">" + Templates.escape(
+                (title.isEmpty() ? "" : title + ". ") + user.get("first_name") + " " + user.get("last_name")) + "</li>"
+            + "<li class=\"address_address1 address_address2\">" + Templates.escape(user.get("company")) + "</li>"
+            + "<li class=\"address_address1 address_address2\">" + Templates.escape(user.get("address1")) + "</li>"
+            + "<li class=\"address_address1 address_address2\">" + Templates.escape(user.get("address2")) + "</li>"
+            + "<li class=\"address_city address_state_name address_postcode\">" + Templates.escape(
+                user.get("city") + " " + user.get("state") + " " + user.get("zipcode")) + "</li>"
+            + "<li class=\"address_country_name\">" + Templates.escape(user.get("country")) + "</li>"
+            + "<li class=\"address_phone\">" + Templates.escape(user.get("mobile_number")) + "</li>";
+    }
+
+    private void payment(StorefrontExchange exchange) throws IOException {
+        if (exchange.method().equals("POST")) {
+            for (String field : new String[] {"name_on_card", "card_number", "cvc", "expiry_month", "expiry_year"}) {
+                if (param(exchange, field, "").trim().isEmpty()) {
+                    page(exchange, SITE_TITLE + " - Payment", Templates.render("payment", values("payment_error",
+                        "<p class=\"alert-danger\" style=\"color: red;\">Please fill in all card details.</p>")));
+                    return;
+                }
+            }
+            StorefrontState.Session session = exchange.session();
+            int total = cartTotal(session.getCart());
+            state.placeOrder(session);
+            exchange.redirect("/payment_done/" + total);
+            return;
+        }
+        page(exchange, SITE_TITLE + " - Payment", Templates.render("payment", values("payment_error", "")));
+    }
+
+    // ===== Contact us, subscription =====
+
+    private void contactUs(StorefrontExchange exchange, boolean post) throws IOException {
+        Map<String, String> values = values("status_display", post ? "block" : "none");
+        values.put("status", post ? "Success! Your details have been submitted successfully." : "");
+        page(exchange, SITE_TITLE + " - Contact Us", Templates.render("contact_us", values));
+    }
+
+    private void subscribe(StorefrontExchange exchange) throws IOException {
+        String email = exchange.param("email");
+        if (email != null && !email.trim().isEmpty()) {
+            state.subscribe(email.trim());
+        }
+        exchange.send(200, "application/json", "{\"message\": \"You have been successfully subscribed!\"}");
+    }
+
+    // ===== Resources =====
+
+    private void productPicture(StorefrontExchange exchange, String id) throws IOException {
+        JsonObject product = product(id);
+        if (product == null) {
+            exchange.sendHtml(404, notFound());
+            return;
+        }
+        String svg = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"300\" height=\"300\">"
+            + "<rect width=\"300\" height=\"300\" fill=\"#f0f0e9\"/>"
+            + "<text x=\"150\" y=\"155\" font-size=\"18\" text-anchor=\"middle\">"
+            + Templates.escape(product.get("name").getAsString()) + "</text></svg>";
+        exchange.send(200, "image/svg+xml", svg);
+    }
+
+    private void staticResource(StorefrontExchange exchange, String path) throws IOException {
+        if (path.contains("..")) {
+            exchange.sendHtml(404, notFound());
+            return;
+        }
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream("storefront/static/" + path)) {
+            if (is == null) {
+                exchange.sendHtml(404, notFound());
+                return;
+            }
+            String contentType = path.endsWith(".js") ? "application/javascript"
+                : path.endsWith(".css") ? "text/css" : "application/octet-stream";
+            exchange.send(200, contentType, is.readAllBytes());
+        }
+    }
+
+    // ===== Helpers =====
+
+    /**
+     * Wrap page content in the shared header and footer
+     */
+    private void page(StorefrontExchange exchange, String title, String content) throws IOException {
+        exchange.sendHtml(200, layout(title, accountLinks(loggedIn(exchange.session())), content));
+    }
+
+    private void message(StorefrontExchange exchange, String title, String qa, String heading, String text,
+                         String extra) throws IOException {
+        Map<String, String> values = values("qa", qa);
+        values.put("heading", heading);
+        values.put("text", text);
+        values.put("extra", extra);
+        page(exchange, SITE_TITLE + " - " + title, Templates.render("message", values));
+    }
+
+    static String notFound() {
+        Map<String, String> values = values("qa", "page-not-found");
+        values.put("heading", "Page Not Found");
+        values.put("text", "The page you are looking for does not exist.");
+        return layout(SITE_TITLE + " - Page Not Found", accountLinks(null), Templates.render("message", values));
+    }
+
+    private static String layout(String title, String accountLinks, String content) {
+        Map<String, String> values = values("title", title);
+        values.put("account_links", accountLinks);
+        values.put("content", content);
+        return Templates.render("layout", values);
+    }
+
+    private static String accountLinks(Map<String, String> user) {
+        if (user == null) {
+            return "<li><a href=\"/login\"><i class=\"fa fa-lock\"></i> Signup / Login</a></li>";
+        }
+        return "<li><a href=\"/logout\"><i class=\"fa fa-lock\"></i> Logout</a></li>"
+            + "<li><a href=\"/delete_account\"><i class=\"fa fa-trash-o\"></i> Delete Account</a></li>"
+            + "<li><a><i class=\"fa fa-user\"></i> Logged in as <b>" + Templates.escape(user.get("name")) + "</b></a></li>";
+    }
+
+    private Map<String, String> loggedIn(StorefrontState.Session session) {
+        return state.getUser(session.getEmail());
+    }
+
+    private JsonObject product(String id) {
+        return id.matches("\\d+") ? state.getProduct(Integer.parseInt(id)) : null;
+    }
+
+    private static String param(StorefrontExchange exchange, String name, String defaultValue) {
+        String value = exchange.param(name);
+        return value == null ? defaultValue : value;
+    }
+
+    private static Map<String, String> values(String key, String value) {
+        Map<String, String> values = new HashMap<>();
+        values.put(key, value);
+        return values;
+    }
+}
@@ -0,0 +1,126 @@
+package com.e_commerce.storefront;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One request to the local storefront: decoded query and form parameters, the
+ * session behind the sessionid cookie, and helpers to write the response
+ */
+final class StorefrontExchange {
+
+    static final String SESSION_COOKIE = "sessionid";
+
+    private final HttpExchange exchange;
+    private final StorefrontState state;
+    private final Map<String, String> params = new LinkedHashMap<>();
+    private StorefrontState.Session session;
+
+    StorefrontExchange(HttpExchange exchange, StorefrontState state) throws IOException {
+        this.exchange = exchange;
+        this.state = state;
+        parse(exchange.getRequestURI().getRawQuery());
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        // RestAssured sends DELETE/PUT form params in the body as well
+        if (contentType == null || contentType.startsWith("application/x-www-form-urlencoded")) {
+            try (InputStream body = exchange.getRequestBody()) {
+                parse(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    String method() {
+        return exchange.getRequestMethod();
+    }
+
+    String path() {
+        return exchange.getRequestURI().getPath();
+    }
+
+    /**
+     * Query or form parameter, null when absent
+     */
+    String param(String name) {
+        return params.get(name);
+    }
+
+    Map<String, String> params() {
+        return params;
+    }
+
+    /**
+     * Session of the sessionid cookie; a new session also sets the cookie on the response
+     */
+    StorefrontState.Session session() {
+        if (session == null) {
+            String id = cookie(SESSION_COOKIE);
+            session = state.session(id);
+            if (!session.getId().equals(id)) {
+                exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + session.getId() + "; Path=/; HttpOnly");
+            }
+        }
+        return session;
+    }
+
+    void sendJson(String json) throws IOException {
+        send(200, "application/json", json);
+    }
+
+    void sendHtml(int status, String html) throws IOException {
+        send(status, "text/html; charset=utf-8", html);
+    }
+
+    void redirect(String location) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+        exchange.close();
+    }
+
+    void send(int status, String contentType, String body) throws IOException {
+        send(status, contentType, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    void send(int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    private String cookie(String name) {
+        for (String header : exchange.getRequestHeaders().getOrDefault("Cookie", Collections.emptyList())) {
+            for (String pair : header.split(";")) {
+                String[] parts = pair.trim().split("=", 2);
+                if (parts.length == 2 && parts[0].equals(name)) {
+                    return parts[1];
+                }
+            }
+        }
+        return null;
+    }
+
+    private void parse(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return;
+        }
+        for (String pair : encoded.split("&")) {
+            String[] parts = pair.split("=", 2);
+            if (!parts[0].isEmpty()) {
+                params.putIfAbsent(decode(parts[0]), parts.length == 2 ? decode(parts[1]) : "");
+            }
+        }
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+}
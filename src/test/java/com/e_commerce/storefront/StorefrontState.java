@@ -0,0 +1,288 @@
+package com.e_commerce.storefront;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory data of the local storefront: the product catalog, registered users,
+ * browser sessions with their carts, newsletter subscriptions and placed orders.
+ * Everything starts from storefront/catalog.json and lives as long as the server.
+ */
+public class StorefrontState {
+
+    private final Map<Integer, JsonObject> products = new LinkedHashMap<>();
+    private final Map<String, Map<String, String>> usersByEmail = new ConcurrentHashMap<>();
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final List<String> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicInteger nextUserId = new AtomicInteger(1);
+    private final AtomicInteger orders = new AtomicInteger();
+
+    /**
+     * Load products and seed users from a classpath resource
+     */
+    public static StorefrontState fromResource(String resource) {
+        try (InputStream is = StorefrontState.class.getClassLoader().getResourceAsStream(resource)) {
+            if (is == null) {
+                throw new IllegalStateException("Storefront catalog not found on classpath: " + resource);
+            }
+            JsonObject catalog = JsonParser.parseReader(new InputStreamReader(is, StandardCharsets.UTF_8)).getAsJsonObject();
+            StorefrontState state = new StorefrontState();
+            for (JsonElement product : catalog.getAsJsonArray("products")) {
+                state.products.put(product.getAsJsonObject().get("id").getAsInt(), product.getAsJsonObject());
+            }
+            for (JsonElement user : catalog.getAsJsonArray("users")) {
+                Map<String, String> fields = new LinkedHashMap<>();
+                user.getAsJsonObject().entrySet().forEach(e -> fields.put(e.getKey(), e.getValue().getAsString()));
+                state.addUser(fields);
+            }
+            return state;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read storefront catalog " + resource, e);
+        }
+    }
+
+    // ===== Catalog =====
+
+    public List<JsonObject> getProducts() {
+        return new ArrayList<>(products.values());
+    }
+
+    public JsonObject getProduct(int id) {
+        return products.get(id);
+    }
+
+    /**
+     * Products whose name, category or user type contains the term (case-insensitive), as searchProduct does
+     */
+    public List<JsonObject> search(String term) {
+        String needle = term.trim().toLowerCase(Locale.ROOT);
+        List<JsonObject> found = new ArrayList<>();
+        for (JsonObject product : products.values()) {
+            // Each field on its own: a term spanning the end of the name and the category matches nothing
+            for (String field : new String[] {product.get("name").getAsString(), categoryOf(product), userTypeOf(product)}) {
+                if (field.toLowerCase(Locale.ROOT).contains(needle)) {
+                    found.add(product);
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Distinct brands in catalog order, each with the id of its first product
+     */
+    public JsonArray getBrands() {
+        JsonArray brands = new JsonArray();
+        Map<String, Integer> seen = new LinkedHashMap<>();
+        products.values().forEach(p -> seen.putIfAbsent(p.get("brand").getAsString(), p.get("id").getAsInt()));
+        seen.forEach((brand, id) -> {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("id", id);
+            entry.addProperty("brand", brand);
+            brands.add(entry);
+        });
+        return brands;
+    }
+
+    public static String categoryOf(JsonObject product) {
+        return product.getAsJsonObject("category").get("category").getAsString();
+    }
+
+    public static String userTypeOf(JsonObject product) {
+        return product.getAsJsonObject("category").getAsJsonObject("usertype").get("usertype").getAsString();
+    }
+
+    /**
+     * Price as a number, "Rs. 500" -> 500
+     */
+    public static int priceOf(JsonObject product) {
+        return Integer.parseInt(product.get("price").getAsString().replaceAll("[^0-9]", ""));
+    }
+
+    // ===== Users =====
+
+    /**
+     * Register a user; fields use the getUserDetailByEmail names plus password and mobile_number
+     * @return false if the email is already registered
+     */
+    public boolean addUser(Map<String, String> fields) {
+        Map<String, String> user = new ConcurrentHashMap<>(fields);
+        String email = user.get("email").toLowerCase(Locale.ROOT);
+        if (usersByEmail.containsKey(email)) {
+            return false;
+        }
+        user.put("id", String.valueOf(nextUserId.getAndIncrement()));
+        return usersByEmail.putIfAbsent(email, user) == null;
+    }
+
+    public int getUserCount() {
+        return usersByEmail.size();
+    }
+
+    public Map<String, String> getUser(String email) {
+        return email == null ? null : usersByEmail.get(email.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @return false if no such user
+     */
+    public boolean updateUser(String email, Map<String, String> fields) {
+        Map<String, String> user = getUser(email);
+        if (user == null) {
+            return false;
+        }
+        user.putAll(fields);
+        return true;
+    }
+
+    /**
+     * @return false if no such user
+     */
+    public boolean deleteUser(String email) {
+        if (email == null || usersByEmail.remove(email.toLowerCase(Locale.ROOT)) == null) {
+            return false;
+        }
+        sessions.values().forEach(s -> {
+            if (email.equalsIgnoreCase(s.email)) {
+                s.email = null;
+            }
+        });
+        return true;
+    }
+
+    /**
+     * @return the user if email and password match a registered account
+     */
+    public Map<String, String> authenticate(String email, String password) {
+        Map<String, String> user = getUser(email);
+        return user != null && user.get("password").equals(password) ? user : null;
+    }
+
+    /**
+     * User details as getUserDetailByEmail returns them (no password)
+     */
+    public JsonObject userDetail(Map<String, String> user) {
+        JsonObject detail = new JsonObject();
+        for (String field : new String[] {"id", "name", "email", "title", "birth_day", "birth_month", "birth_year",
+                "first_name", "last_name", "company", "address1", "address2", "country", "state", "city", "zipcode"}) {
+            String value = user.getOrDefault(field, "");
+            if (field.equals("id")) {
+                detail.addProperty(field, Integer.parseInt(value));
+            } else {
+                detail.addProperty(field, value);
+            }
+        }
+        return detail;
+    }
+
+    // ===== Sessions, carts, orders =====
+
+    /**
+     * Existing session for the cookie value, or a new one when it is missing or unknown
+     */
+    public Session session(String id) {
+        Session existing = id == null ? null : sessions.get(id);
+        if (existing != null) {
+            return existing;
+        }
+        Session created = new Session(UUID.randomUUID().toString().replace("-", ""));
+        sessions.put(created.id, created);
+        return created;
+    }
+
+    public void subscribe(String email) {
+        subscriptions.add(email);
+    }
+
+    public List<String> getSubscriptions() {
+        return Collections.unmodifiableList(subscriptions);
+    }
+
+    /**
+     * Empty the session's cart into a new order
+     * @return order number
+     */
+    public int placeOrder(Session session) {
+        session.cart.clear();
+        return orders.incrementAndGet();
+    }
+
+    public int getOrderCount() {
+        return orders.get();
+    }
+
+    /**
+     * One browser (or HTTP client) session, identified by the sessionid cookie
+     */
+    public static class Session {
+        private final String id;
+        private final Map<Integer, Integer> cart = Collections.synchronizedMap(new LinkedHashMap<>());
+        private volatile String email;
+        private volatile String signupName;
+        private volatile String signupEmail;
+
+        Session(String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * Product id to quantity, in the order the products were first added
+         */
+        public Map<Integer, Integer> getCart() {
+            synchronized (cart) {
+                return new LinkedHashMap<>(cart);
+            }
+        }
+
+        public void addToCart(int productId, int quantity) {
+            cart.merge(productId, quantity, Integer::sum);
+        }
+
+        public void removeFromCart(int productId) {
+            cart.remove(productId);
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public String getSignupName() {
+            return signupName;
+        }
+
+        public String getSignupEmail() {
+            return signupEmail;
+        }
+
+        public void startSignup(String name, String email) {
+            this.signupName = name;
+            this.signupEmail = email;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.e_commerce.storefront;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTML templates under storefront/templates with {{key}} placeholders.
+ * Values are inserted as given, so callers escape() user data first.
+ */
+final class Templates {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{(\\w+)}}");
+    private static final Map<String, String> cache = new ConcurrentHashMap<>();
+
+    private Templates() {
+    }
+
+    static String render(String name, Map<String, String> values) {
+        Matcher matcher = PLACEHOLDER.matcher(cache.computeIfAbsent(name, Templates::load));
+        StringBuffer html = new StringBuffer();
+        while (matcher.find()) {
+            matcher.appendReplacement(html, Matcher.quoteReplacement(values.getOrDefault(matcher.group(1), "")));
+        }
+        matcher.appendTail(html);
+        return html.toString();
+    }
+
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+            .replace("\"", "&quot;").replace("'", "&#39;");
+    }
+
+    private static String load(String name) {
+        String resource = "storefront/templates/" + name + ".html";
+        try (InputStream is = Templates.class.getClassLoader().getResourceAsStream(resource)) {
+            if (is == null) {
+                throw new IllegalStateException("Storefront template not found: " + resource);
+            }
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read " + resource, e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.core.AdaptiveRateLimiter;
+import com.e_commerce.utils.RateLimitTelemetry;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the shared adaptive rate limiter (no browser needed)
+ */
+public class AdaptiveRateLimiterTest {
+
+    private static final String CHANNEL = "unit";
+
+    private static AdaptiveRateLimiter limiter(double rate, double burst, double increase, long adjustIntervalMs) {
+        return new AdaptiveRateLimiter(true, rate, 1, 40, burst, increase, 0.5, 2, adjustIntervalMs, 60);
+    }
+
+    @Test
+    public void testBurstThenPaced() {
+        AdaptiveRateLimiter limiter = limiter(20, 2, 0, 60000);
+        long permitsBefore = RateLimitTelemetry.getPermits(CHANNEL);
+        long start = System.nanoTime();
+
+        Assert.assertEquals(limiter.acquire(CHANNEL), 0);
+        Assert.assertEquals(limiter.acquire(CHANNEL), 0);
+        Assert.assertTrue(limiter.acquire(CHANNEL) > 0, "Third permit should wait once the burst is spent");
+        limiter.acquire(CHANNEL);
+        limiter.acquire(CHANNEL);
+
+        // Three permits beyond the burst at 20/s
+        Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(130));
+        Assert.assertEquals(RateLimitTelemetry.getPermits(CHANNEL), permitsBefore + 5);
+    }
+
+    @Test
+    public void testThrottlingCutsRateOncePerInterval() {
+        AdaptiveRateLimiter limiter = limiter(10, 4, 1, 60000);
+        long throttledBefore = RateLimitTelemetry.getThrottled(CHANNEL);
+
+        limiter.onThrottled(CHANNEL, 0);
+        limiter.onThrottled(CHANNEL, 0);
+        limiter.onTimeout(CHANNEL);
+
+        // Answers already in flight when the rate was cut do not cut it again
+        Assert.assertEquals(limiter.getRate(), 5.0);
+        Assert.assertEquals(RateLimitTelemetry.getThrottled(CHANNEL), throttledBefore + 2);
+    }
+
+    @Test
+    public void testRetryAfterHoldsPermitsBack() {
+        AdaptiveRateLimiter limiter = limiter(10, 1, 0, 60000);
+        limiter.acquire(CHANNEL);
+
+        limiter.onThrottled(CHANNEL, 1);
+
+        Assert.assertTrue(limiter.acquire(CHANNEL) >= TimeUnit.SECONDS.toNanos(1), "Next permit should wait out Retry-After");
+    }
+
+    @Test
+    public void testRateRecoversAdditively() throws InterruptedException {
+        AdaptiveRateLimiter limiter = limiter(2, 4, 1, 20);
+
+        for (int i = 0; i < 3; i++) {
+            Thread.sleep(30);
+            limiter.onCompleted("/api/productsList", TimeUnit.MILLISECONDS.toNanos(50));
+        }
+
+        Assert.assertEquals(limiter.getRate(), 5.0);
+    }
+
+    @Test
+    public void testRisingLatencySlowsDown() {
+        AdaptiveRateLimiter limiter = limiter(8, 4, 1, 60000);
+        for (int i = 0; i < 10; i++) {
+            limiter.onCompleted("/api/searchProduct", TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        Assert.assertEquals(limiter.getRate(), 8.0);
+
+        limiter.onCompleted("/api/searchProduct", TimeUnit.MILLISECONDS.toNanos(1000));
+
+        Assert.assertEquals(limiter.getRate(), 4.0, "Latency over 2x the best should halve the rate");
+        // Another endpoint's trend is its own
+        limiter.onCompleted("/api/productsList", TimeUnit.MILLISECONDS.toNanos(1000));
+        Assert.assertEquals(limiter.getRate(), 4.0);
+    }
+
+    @Test
+    public void testDisabledNeverWaits() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(false, 1, 1, 1, 1, 0, 0.5, 2, 1000, 60);
+        long permitsBefore = RateLimitTelemetry.getPermits(CHANNEL);
+
+        for (int i = 0; i < 50; i++) {
+            Assert.assertEquals(limiter.acquire(CHANNEL), 0);
+        }
+        limiter.onThrottled(CHANNEL, 30);
+
+        Assert.assertEquals(limiter.acquire(CHANNEL), 0);
+        Assert.assertEquals(RateLimitTelemetry.getPermits(CHANNEL), permitsBefore);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidSettingsRejected() {
+        new AdaptiveRateLimiter(true, 8, 10, 5, 4, 1, 0.5, 2, 1000, 60);
+    }
+}
@@ -0,0 +1,60 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.core.LazyDriver;
+import com.e_commerce.pages.AdaptiveWait;
+import com.e_commerce.pages.WaitStrategy;
+import com.e_commerce.utils.WaitTelemetry;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for adaptive wait polling and telemetry (no browser needed)
+ */
+public class AdaptiveWaitTest {
+
+    // Never started, the conditions below do not touch the browser
+    private final WebDriver driver = new LazyDriver(() -> {
+        throw new IllegalStateException("Browser must not be started");
+    }).getProxy();
+
+    @Test
+    public void testBackoffPollsUntilConditionMet() {
+        AtomicInteger calls = new AtomicInteger();
+        WaitStrategy strategy = new WaitStrategy(Duration.ofSeconds(5), 10, 40, 2.0);
+
+        String result = new AdaptiveWait(strategy).until(driver,
+            d -> calls.incrementAndGet() >= 4 ? "ready" : null, "AdaptiveWaitTest.ready", "unit");
+
+        Assert.assertEquals(result, "ready");
+        Assert.assertEquals(calls.get(), 4, "Condition should be evaluated once per poll");
+        List<String> row = findRow("AdaptiveWaitTest.ready");
+        Assert.assertEquals(row.get(2), "1", "One wait should be recorded");
+        Assert.assertEquals(row.get(6), "4", "Four polls should be recorded");
+    }
+
+    @Test
+    public void testBackoffIsCappedAndTimeoutRecorded() {
+        AtomicInteger calls = new AtomicInteger();
+        WaitStrategy strategy = new WaitStrategy(Duration.ofMillis(300), 10, 40, 2.0);
+
+        Assert.assertThrows(TimeoutException.class, () -> new AdaptiveWait(strategy).until(driver,
+            d -> calls.incrementAndGet() < 0, "AdaptiveWaitTest.never", "unit"));
+
+        // 10 + 20 + 40 + 40 ... ms: a fixed 10 ms poll would need ~30 polls for 300 ms
+        Assert.assertTrue(calls.get() <= 12, "Backoff should limit polls, got " + calls.get());
+        Assert.assertEquals(findRow("AdaptiveWaitTest.never").get(8), "1", "Timeout should be recorded");
+    }
+
+    private List<String> findRow(String location) {
+        return WaitTelemetry.getRows().stream()
+            .filter(r -> r.get(0).equals(location))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No telemetry for " + location));
+    }
+}
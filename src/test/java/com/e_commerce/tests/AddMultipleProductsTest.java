@@ -33,7 +33,7 @@ public class AddMultipleProductsTest extends BaseTest {
             WebElement continueBtn = wait.until(ExpectedConditions.elementToBeClickable(
                 By.cssSelector("button.btn-success, button[data-dismiss='modal']")));
             continueBtn.click();
-            Thread.sleep(500);
+            products.waitForPageSettled(500);
         } catch (Exception e) {
             // Modal may auto-close or not appear
         }
@@ -42,7 +42,7 @@ public class AddMultipleProductsTest extends BaseTest {
         try {
             WebElement secondAddBtn = driver.findElements(By.cssSelector(".product-image-wrapper a.add-to-cart")).get(1);
             ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", secondAddBtn);
-            Thread.sleep(300);
+            products.waitForPageSettled(300);
             ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].click();", secondAddBtn);
         } catch (Exception e) {
             // If second product not available, skip
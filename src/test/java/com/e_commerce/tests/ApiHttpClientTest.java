@@ -0,0 +1,58 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.api.ApiHttpClient;
+import com.e_commerce.storefront.LocalStorefront;
+import com.e_commerce.utils.HttpConnectionTelemetry;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Unit tests for the pooled API client and its connection reuse telemetry (no browser needed)
+ */
+public class ApiHttpClientTest {
+
+    private List<String> row(String endpoint) {
+        return HttpConnectionTelemetry.getRows().stream()
+            .filter(r -> r.get(0).equals(endpoint))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No telemetry for " + endpoint));
+    }
+
+    @Test
+    public void testSequentialRequestsReuseOneConnection() throws IOException {
+        LocalStorefront storefront = new LocalStorefront(0);
+        try {
+            for (int i = 0; i < 5; i++) {
+                int status = given().config(ApiHttpClient.config()).baseUri(storefront.getBaseUrl())
+                    .get("/api/brandsList").getStatusCode();
+                Assert.assertEquals(status, 200);
+            }
+        } finally {
+            storefront.stop();
+        }
+
+        List<String> brands = row("GET /api/brandsList");
+        Assert.assertEquals(brands.get(1), "5", "requests");
+        Assert.assertEquals(brands.get(2), "4", "reused");
+        Assert.assertEquals(brands.get(4), "1", "handshakes");
+    }
+
+    @Test
+    public void testTelemetryCountsNewConnections() {
+        HttpConnectionTelemetry.record("GET /telemetry-test", 12);
+        HttpConnectionTelemetry.record("GET /telemetry-test", -1);
+        HttpConnectionTelemetry.record("GET /telemetry-test", 30);
+
+        List<String> row = row("GET /telemetry-test");
+        Assert.assertEquals(row.get(1), "3");
+        Assert.assertEquals(row.get(2), "1");
+        Assert.assertEquals(row.get(4), "2");
+        Assert.assertEquals(row.get(5), "21");
+        Assert.assertEquals(row.get(6), "30");
+    }
+}
@@ -0,0 +1,82 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.api.ApiLoadRunner;
+import com.e_commerce.storefront.LocalStorefront;
+import com.e_commerce.utils.LatencyHistogram;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit tests for the latency histogram and the closed-model API load run (no browser needed)
+ */
+public class ApiLoadRunnerTest {
+
+    @Test
+    public void testHistogramPercentilesKeepTwoSignificantDigits() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.recordValue(value);
+        }
+
+        Assert.assertEquals(histogram.getTotalCount(), 100_000);
+        Assert.assertEquals(histogram.getMinValue(), 1);
+        Assert.assertEquals(histogram.getMaxValue(), 100_000);
+        Assert.assertEquals(histogram.getMean(), 50_000.5, 0.001);
+        Assert.assertEquals(histogram.getValueAtPercentile(50), 50_000, 50_000 * 0.01);
+        Assert.assertEquals(histogram.getValueAtPercentile(99), 99_000, 99_000 * 0.01);
+        Assert.assertEquals(histogram.getValueAtPercentile(100), 100_000);
+        // Small values are exact
+        Assert.assertEquals(histogram.getValueAtPercentile(0.1), 100);
+    }
+
+    @Test
+    public void testHistogramsMerge() {
+        LatencyHistogram fast = new LatencyHistogram();
+        LatencyHistogram slow = new LatencyHistogram();
+        for (int i = 0; i < 98; i++) {
+            fast.recordValue(1_000);
+        }
+        slow.recordValue(250_000);
+        slow.recordValue(4_000_000);
+
+        fast.add(slow);
+        Assert.assertEquals(fast.getTotalCount(), 100);
+        Assert.assertEquals(fast.getValueAtPercentile(98), 1_000, 10);
+        Assert.assertEquals(fast.getValueAtPercentile(99), 250_000, 2_500);
+        Assert.assertEquals(fast.getMaxValue(), 4_000_000);
+    }
+
+    @Test
+    public void testLoadRunAgainstLocalStorefront() throws IOException, InterruptedException {
+        LocalStorefront storefront = new LocalStorefront(0);
+        List<ApiLoadRunner.EndpointResult> results;
+        try {
+            results = new ApiLoadRunner(storefront.getBaseUrl(), Arrays.asList("productsList", "searchProduct", "addToCart"),
+                4, 1000, 200, false).run();
+        } finally {
+            storefront.stop();
+        }
+
+        Assert.assertEquals(results.size(), 3);
+        for (ApiLoadRunner.EndpointResult result : results) {
+            Assert.assertTrue(result.getRequests() > 0, result.toString());
+            Assert.assertTrue(result.getThroughputPerSec() > 0, result.toString());
+            Assert.assertTrue(result.getLatencyMs(50) <= result.getLatencyMs(99), result.toString());
+            Assert.assertTrue(result.getLatencyMs(99) <= result.getMaxMs(), result.toString());
+        }
+        Assert.assertEquals(results.get(0).getEndpoint(), "/api/productsList");
+        Assert.assertEquals(results.get(0).getErrors(), 0);
+        // Like the public site, the storefront has no /api/addToCart and answers 404
+        Assert.assertEquals(results.get(2).getErrors(), results.get(2).getRequests());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUnknownWorkloadRejected() {
+        new ApiLoadRunner("http://localhost:9", Collections.singletonList("checkout"), 1, 1000, 0, false);
+    }
+}
@@ -0,0 +1,215 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.api.ApiResponseCache;
+import com.e_commerce.api.CassetteFilter;
+import com.e_commerce.api.ParsedResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for the shared API response cache (no browser needed)
+ */
+public class ApiResponseCacheTest {
+
+    private static final String PRODUCTS = "{\"responseCode\": 200, \"products\": [{\"id\": 3}, {\"id\": 5}, {\"id\": 8}]}";
+    private static final String ETAG = "\"catalog-v1\"";
+    private static final String LAST_MODIFIED = "Tue, 01 Sep 2026 10:00:00 GMT";
+
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<String> conditionalHeaders = new CopyOnWriteArrayList<>();
+    private volatile long delayMs;
+
+    @BeforeMethod
+    public void startServer() throws IOException {
+        requests.set(0);
+        conditionalHeaders.clear();
+        delayMs = 0;
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/productsList", exchange -> {
+            requests.incrementAndGet();
+            sleep(delayMs);
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            conditionalHeaders.add(String.valueOf(ifNoneMatch));
+            exchange.getResponseHeaders().add("ETag", ETAG);
+            if (ETAG.equals(ifNoneMatch)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            send(exchange, 200, PRODUCTS);
+        });
+        server.createContext("/api/brandsList", exchange -> {
+            requests.incrementAndGet();
+            String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+            conditionalHeaders.add(String.valueOf(ifModifiedSince));
+            exchange.getResponseHeaders().add("Last-Modified", LAST_MODIFIED);
+            if (LAST_MODIFIED.equals(ifModifiedSince)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            send(exchange, 200, "{\"responseCode\": 200, \"brands\": [{\"id\": 1, \"brand\": \"Polo\"}]}");
+        });
+        server.createContext("/api/missing", exchange -> send(exchange, 404, "Not found"));
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testFreshEntriesSkipTheNetwork() {
+        ApiResponseCache cache = new ApiResponseCache(baseUrl, 60);
+
+        ParsedResponse first = cache.get("/productsList");
+        ParsedResponse second = cache.get("/productsList");
+
+        Assert.assertSame(second, first);
+        Assert.assertEquals(requests.get(), 1);
+        Assert.assertEquals(cache.getHits(), 1);
+        Assert.assertEquals(cache.getProductIds(), Arrays.asList(3, 5, 8));
+    }
+
+    @Test
+    public void testStaleEntriesRevalidateWithEtag() {
+        ApiResponseCache cache = new ApiResponseCache(baseUrl, 0);
+
+        ParsedResponse first = cache.get("/productsList");
+        ParsedResponse second = cache.get("/productsList");
+
+        Assert.assertEquals(requests.get(), 2);
+        Assert.assertEquals(conditionalHeaders, Arrays.asList("null", ETAG));
+        Assert.assertSame(second, first, "A 304 should keep the cached body");
+        Assert.assertEquals(cache.getFetches(), 1);
+        Assert.assertEquals(cache.getRevalidated(), 1);
+    }
+
+    @Test
+    public void testStaleEntriesRevalidateWithLastModified() {
+        ApiResponseCache cache = new ApiResponseCache(baseUrl, 0);
+
+        cache.get("/brandsList");
+        Assert.assertEquals(cache.get("/brandsList").getString("brands[0].brand"), "Polo");
+
+        Assert.assertEquals(conditionalHeaders, Arrays.asList("null", LAST_MODIFIED));
+        Assert.assertEquals(cache.getRevalidated(), 1);
+    }
+
+    @Test
+    public void testConcurrentMissesShareOneRequest() throws Exception {
+        ApiResponseCache cache = new ApiResponseCache(baseUrl, 60);
+        delayMs = 300;
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ParsedResponse>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("/productsList");
+                }));
+            }
+            start.countDown();
+            for (Future<ParsedResponse> result : results) {
+                Assert.assertSame(result.get(), results.get(0).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(requests.get(), 1);
+        Assert.assertEquals(cache.getFetches(), 1);
+        Assert.assertEquals(cache.getJoined() + cache.getHits(), callers - 1);
+    }
+
+    @Test
+    public void testReplayedCacheNeedsNoServer() throws IOException {
+        Path file = Files.createTempDirectory("cassettes").resolve("ApiResponseCache.json");
+        CassetteFilter recorder = new CassetteFilter(file, CassetteFilter.Mode.RECORD, Collections.emptySet());
+        new ApiResponseCache(baseUrl, 60, recorder).get("/productsList");
+        recorder.save();
+        server.stop(0);
+
+        CassetteFilter player = new CassetteFilter(file, CassetteFilter.Mode.REPLAY, Collections.emptySet());
+        ApiResponseCache replayed = new ApiResponseCache(baseUrl, 60, player);
+
+        Assert.assertEquals(replayed.getProductIds(), Arrays.asList(3, 5, 8));
+        Assert.assertEquals(requests.get(), 1);
+    }
+
+    @Test
+    public void testUnreachableServerFailsEveryCaller() throws Exception {
+        server.stop(0);
+        ApiResponseCache cache = new ApiResponseCache(baseUrl, 60);
+        int callers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Future<ParsedResponse>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get("/productsList")));
+            }
+            for (Future<ParsedResponse> result : results) {
+                try {
+                    result.get(30, TimeUnit.SECONDS);
+                    Assert.fail("Nothing should be loaded from a stopped server");
+                } catch (ExecutionException e) {
+                    // Connection errors surface as IllegalStateException, also for callers that joined the load
+                    Assert.assertTrue(e.getCause() instanceof IllegalStateException, String.valueOf(e.getCause()));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = ".*/api/missing returned 404")
+    public void testErrorsAreNotCached() {
+        new ApiResponseCache(baseUrl, 60).get("/missing");
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -25,9 +25,7 @@ public class CartPersistenceTest extends BaseTest {
 
         // Refresh page
         driver.navigate().refresh();
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException ignored) {}
+        cart.waitForPageSettled(1000);
 
         // Verify cart still has items
         Assert.assertTrue(cart.hasItems(), "Cart should persist after refresh");
@@ -47,9 +45,7 @@ public class CartPersistenceTest extends BaseTest {
 
         // Navigate back to cart
         driver.get(driver.getCurrentUrl().replace(driver.getCurrentUrl().split("/")[driver.getCurrentUrl().split("/").length - 1], "view_cart"));
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException ignored) {}
+        home.waitForPageSettled(1000);
 
         CartPage cart = new CartPage(driver);
         Assert.assertTrue(cart.hasItems(), "Cart should persist across navigation");
@@ -0,0 +1,96 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.api.CassetteFilter;
+import com.e_commerce.storefront.LocalStorefront;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Unit tests for recording API calls to a cassette and replaying them without a server (no browser needed)
+ */
+public class CassetteFilterTest {
+
+    private Response createAccount(CassetteFilter cassette, String baseUrl, String email) {
+        return given().baseUri(baseUrl).filter(cassette)
+            .formParam("name", "Cassette").formParam("email", email).formParam("password", "secret")
+            .formParam("firstname", "C").formParam("lastname", "F").formParam("address1", "1 Main St")
+            .formParam("country", "India").formParam("zipcode", "1000").formParam("state", "KA")
+            .formParam("city", "Bengaluru").formParam("mobile_number", "1")
+            .post("/api/createAccount");
+    }
+
+    @Test
+    public void testReplayServesRecordedResponsesWithoutServer() throws IOException {
+        Path file = Files.createTempDirectory("cassettes").resolve("StorefrontAPI.json");
+        LocalStorefront storefront = new LocalStorefront(0);
+        String baseUrl = storefront.getBaseUrl();
+        try {
+            CassetteFilter recorder = new CassetteFilter(file, CassetteFilter.Mode.RECORD, Collections.singleton("email"));
+            given().baseUri(baseUrl).filter(recorder).get("/api/productsList");
+            createAccount(recorder, baseUrl, "first@example.com");
+            createAccount(recorder, baseUrl, "first@example.com");
+            recorder.save();
+        } finally {
+            storefront.stop();
+        }
+
+        CassetteFilter player = new CassetteFilter(file, CassetteFilter.Mode.REPLAY, Collections.singleton("email"));
+        Assert.assertEquals(player.size(), 3);
+
+        Response products = given().baseUri(baseUrl).filter(player).get("/api/productsList");
+        Assert.assertEquals(products.getStatusCode(), 200);
+        Assert.assertEquals(products.jsonPath().getString("products[0].name"), "Blue Top");
+
+        // A different generated email still matches; repeats come back in recorded order
+        Assert.assertEquals(createAccount(player, baseUrl, "second@example.com").jsonPath().getInt("responseCode"), 201);
+        Assert.assertEquals(createAccount(player, baseUrl, "second@example.com").jsonPath().getString("message"),
+            "Email already exists!");
+    }
+
+    @Test
+    public void testReplayMatchesConfiguredVolatileParams() throws IOException {
+        Path file = Files.createTempDirectory("cassettes").resolve("OrderAPI.json");
+        Set<String> volatileParams = CassetteFilter.configuredVolatileParams();
+        LocalStorefront storefront = new LocalStorefront(0);
+        String baseUrl = storefront.getBaseUrl();
+        try {
+            CassetteFilter recorder = new CassetteFilter(file, CassetteFilter.Mode.RECORD, volatileParams);
+            given().baseUri(baseUrl).filter(recorder)
+                .formParam("guest_email", "guest_1@example.com").formParam("order_id", "ORD_1")
+                .post("/api/createOrder");
+            recorder.save();
+        } finally {
+            storefront.stop();
+        }
+
+        // Generated guest emails and order ids differ on every run; the local site has no order endpoint
+        CassetteFilter player = new CassetteFilter(file, CassetteFilter.Mode.REPLAY, volatileParams);
+        Response replayed = given().baseUri(baseUrl).filter(player)
+            .formParam("guest_email", "guest_2@example.com").formParam("order_id", "ORD_2")
+            .post("/api/createOrder");
+        Assert.assertEquals(replayed.getStatusCode(), 404);
+    }
+
+    @Test
+    public void testReplayRejectsUnrecordedRequest() throws IOException {
+        Path file = Files.createTempDirectory("cassettes").resolve("Empty.json");
+        new CassetteFilter(file, CassetteFilter.Mode.RECORD, Collections.emptySet()).save();
+        CassetteFilter player = new CassetteFilter(file, CassetteFilter.Mode.REPLAY, Collections.emptySet());
+
+        try {
+            given().baseUri("http://localhost:9").filter(player).get("/api/brandsList");
+            Assert.fail("Unrecorded request should not be answered");
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(e.getMessage().contains("GET /api/brandsList"), e.getMessage());
+        }
+    }
+}
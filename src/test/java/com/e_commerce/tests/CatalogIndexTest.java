@@ -0,0 +1,124 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.api.ApiHttpClient;
+import com.e_commerce.api.ApiRequests;
+import com.e_commerce.api.ApiResponseCache;
+import com.e_commerce.api.CatalogIndex;
+import com.e_commerce.api.ParsedResponse;
+import com.e_commerce.storefront.LocalStorefront;
+import com.e_commerce.storefront.StorefrontState;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the catalog index used as the product search oracle (no browser needed)
+ */
+public class CatalogIndexTest {
+
+    private static CatalogIndex smallCatalog() {
+        return new CatalogIndex(Arrays.asList(
+            new CatalogIndex.Product(1, "Blue Top", "Rs. 500", "Polo", "Tops", "Women"),
+            new CatalogIndex.Product(2, "Men Tshirt", "Rs. 400", "H&M", "Tshirts", "Men"),
+            new CatalogIndex.Product(3, "Sleeveless Dress", "Rs. 1000", "Madame", "Dress", "Women"),
+            new CatalogIndex.Product(4, "Soft Stretch Jeans", "Rs. 799", "Allen Solly Junior", "Jeans", "Men")));
+    }
+
+    @Test
+    public void testSubstringSearch() {
+        CatalogIndex index = smallCatalog();
+
+        Assert.assertEquals(index.searchIds("top"), Arrays.asList(1));
+        Assert.assertEquals(index.searchIds("  TSHIRT "), Arrays.asList(2));
+        // User type is searched too, and "women" contains "men"
+        Assert.assertEquals(index.searchIds("women"), Arrays.asList(1, 3));
+        Assert.assertEquals(index.searchIds("men"), Arrays.asList(1, 2, 3, 4));
+        Assert.assertEquals(index.searchIds("e"), Arrays.asList(1, 2, 3, 4));
+        Assert.assertEquals(index.searchIds("ress"), Arrays.asList(3));
+        // All trigrams present, but not next to each other
+        Assert.assertEquals(index.searchIds("stretch dress"), List.of());
+        // Fields are matched one by one: the end of a name plus the start of its category is no match
+        Assert.assertEquals(index.searchIds("top tops"), List.of());
+        Assert.assertEquals(index.searchIds("jeans jeans"), List.of());
+        Assert.assertEquals(index.searchIds("soft stretch"), Arrays.asList(4));
+        Assert.assertEquals(index.searchIds("xyz"), List.of());
+        // Brands are not part of the search
+        Assert.assertEquals(index.searchIds("polo"), List.of());
+        Assert.assertEquals(index.byBrand("POLO").get(0).getName(), "Blue Top");
+        Assert.assertEquals(index.searchIds(""), Arrays.asList(1, 2, 3, 4));
+    }
+
+    @Test
+    public void testOracleMatchesStorefrontSearch() {
+        StorefrontState state = StorefrontState.fromResource("storefront/catalog.json");
+        JsonArray products = new JsonArray();
+        state.getProducts().forEach(products::add);
+        JsonObject body = new JsonObject();
+        body.add("products", products);
+        CatalogIndex index = CatalogIndex.fromProductsList(new ParsedResponse(body.toString()));
+        List<String> terms = index.generateTerms(5000, 7);
+
+        long start = System.nanoTime();
+        List<List<Integer>> expected = new ArrayList<>();
+        for (String term : terms) {
+            expected.add(index.searchIds(term));
+        }
+        long meanMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / terms.size();
+
+        for (int i = 0; i < terms.size(); i++) {
+            List<Integer> actual = new ArrayList<>();
+            state.search(terms.get(i)).forEach(p -> actual.add(p.get("id").getAsInt()));
+            Assert.assertEquals(expected.get(i), actual, "Term '" + terms.get(i) + "'");
+        }
+        System.out.println(terms.size() + " search terms, " + meanMicros + " us per index lookup");
+        Assert.assertEquals(terms.size(), 5000);
+        Assert.assertTrue(meanMicros < 1000, "Index lookups should take microseconds, took " + meanMicros);
+    }
+
+    @Test
+    public void testGeneratedTermsRepeatForASeed() {
+        CatalogIndex index = smallCatalog();
+
+        List<String> terms = index.generateTerms(30, 42);
+
+        Assert.assertEquals(index.generateTerms(30, 42), terms);
+        for (String term : terms) {
+            Assert.assertTrue(term.matches("[A-Za-z0-9]+( [A-Za-z0-9]+)*"), "Unexpected term '" + term + "'");
+        }
+    }
+
+    @Test
+    public void testApiSearchMatchesIndexAgainstLocalStorefront() throws IOException {
+        LocalStorefront storefront = new LocalStorefront(0);
+        try {
+            CatalogIndex index = CatalogIndex.fromProductsList(
+                new ApiResponseCache(storefront.getBaseUrl(), 60).get("/productsList"));
+            RequestSpecification spec = new RequestSpecBuilder()
+                .setBaseUri(storefront.getBaseUrl())
+                .setBasePath("/api")
+                .setConfig(ApiHttpClient.config())
+                .build();
+            Assert.assertEquals(index.size(), storefront.getState().getProducts().size());
+
+            for (String term : index.generateTerms(50, 11)) {
+                List<Integer> found = new ArrayList<>();
+                for (JsonElement product : ParsedResponse.of(ApiRequests.searchProduct(spec, term)).getList("products")) {
+                    found.add(product.getAsJsonObject().get("id").getAsInt());
+                }
+                Assert.assertEquals(found, index.searchIds(term), "Term '" + term + "'");
+            }
+        } finally {
+            storefront.stop();
+        }
+    }
+}
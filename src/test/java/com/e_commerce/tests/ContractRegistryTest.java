@@ -0,0 +1,118 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.api.ApiHttpClient;
+import com.e_commerce.api.ApiRequests;
+import com.e_commerce.api.ContractFilter;
+import com.e_commerce.api.ContractRegistry;
+import com.e_commerce.storefront.LocalStorefront;
+import com.e_commerce.utils.ContractTelemetry;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Unit tests for the API schema contracts (no browser needed)
+ */
+public class ContractRegistryTest {
+
+    private static final String PRODUCT = "{\"id\": 1, \"name\": \"Blue Top\", \"price\": \"Rs. 500\", \"brand\": \"Polo\","
+        + " \"category\": {\"usertype\": {\"usertype\": \"Women\"}, \"category\": \"Tops\"}}";
+
+    @Test
+    public void testMatchingBodiesPass() {
+        long before = ContractTelemetry.getValidations("/api/productsList");
+
+        Assert.assertEquals(ContractRegistry.validate("/api/productsList",
+            "{\"responseCode\": 200, \"products\": [" + PRODUCT + "]}"), List.of());
+        // The error shape of the same endpoint
+        Assert.assertEquals(ContractRegistry.validate("/api/productsList",
+            "{\"responseCode\": 405, \"message\": \"This request method is not supported.\"}"), List.of());
+        Assert.assertEquals(ContractTelemetry.getValidations("/api/productsList"), before + 2);
+    }
+
+    @Test
+    public void testViolationsNameTheirLocation() {
+        long before = ContractTelemetry.getViolations("/api/searchProduct");
+        String noPrice = PRODUCT.replace("\"price\": \"Rs. 500\", ", "");
+
+        List<String> problems = ContractRegistry.validate("/api/searchProduct",
+            "{\"responseCode\": 200, \"products\": [" + PRODUCT + ", " + noPrice + "]}");
+
+        Assert.assertEquals(problems.size(), 1, problems.toString());
+        Assert.assertTrue(problems.get(0).startsWith("/products/1: "), problems.get(0));
+        Assert.assertTrue(problems.get(0).contains("price"), problems.get(0));
+        Assert.assertFalse(ContractRegistry.validate("/api/verifyLogin", "{\"responseCode\": \"200\"}").isEmpty());
+        Assert.assertFalse(ContractRegistry.validate("/api/verifyLogin", "<html></html>").isEmpty());
+        Assert.assertEquals(ContractTelemetry.getViolations("/api/searchProduct"), before + 1);
+    }
+
+    @Test
+    public void testSchemasCompiledOnce() {
+        Assert.assertSame(ContractRegistry.schemaFor("/api/brandsList").get(),
+            ContractRegistry.schemaFor("brandsList").get());
+        Assert.assertSame(ContractRegistry.schemaFor("/api/brandsList/").get(),
+            ContractRegistry.schemaFor("/api/brandsList").get());
+    }
+
+    @Test
+    public void testEndpointsWithoutSchemaAreNotChecked() {
+        Assert.assertFalse(ContractRegistry.hasSchema("/api/addToCart"));
+        Assert.assertEquals(ContractRegistry.validate("/api/addToCart", "not json"), List.of());
+        Assert.assertEquals(ContractTelemetry.getValidations("/api/addToCart"), 0);
+    }
+
+    @Test
+    public void testStorefrontResponsesMatchTheirSchemas() throws IOException {
+        LocalStorefront storefront = new LocalStorefront(0);
+        try {
+            RequestSpecification spec = new RequestSpecBuilder()
+                .setBaseUri(storefront.getBaseUrl())
+                .setBasePath("/api")
+                .setConfig(ApiHttpClient.config())
+                .addFilter(new ContractFilter(true))
+                .build();
+            String email = "contract" + System.nanoTime() + "@example.com";
+
+            ApiRequests.productsList(spec);
+            ApiRequests.brandsList(spec);
+            ApiRequests.searchProduct(spec, "top");
+            RestAssured.given().spec(spec).post("/searchProduct");
+            RestAssured.given().spec(spec).put("/productsList");
+            ApiRequests.createAccount(spec, email, "Secret123", "Contract", "Check");
+            ApiRequests.verifyLogin(spec, email, "Secret123");
+            RestAssured.given().spec(spec).queryParam("email", email).get("/getUserDetailByEmail");
+            ApiRequests.deleteAccount(spec, email, "Secret123");
+            ApiRequests.verifyLogin(spec, email, "Secret123");
+        } finally {
+            storefront.stop();
+        }
+
+        for (String endpoint : new String[] {"productsList", "brandsList", "searchProduct", "createAccount",
+                "verifyLogin", "getUserDetailByEmail", "deleteAccount"}) {
+            Assert.assertTrue(ContractTelemetry.getValidations("/api/" + endpoint) > 0, endpoint);
+        }
+    }
+
+    @Test(expectedExceptions = AssertionError.class, expectedExceptionsMessageRegExp = "(?s).*does not match its schema.*")
+    public void testFilterFailsTheCall() throws IOException {
+        LocalStorefront storefront = new LocalStorefront(0);
+        try {
+            RequestSpecification spec = new RequestSpecBuilder()
+                .setBaseUri(storefront.getBaseUrl())
+                .setBasePath("/api")
+                .setConfig(ApiHttpClient.config())
+                .addFilter(new ContractFilter(true))
+                .build();
+            // Valid JSON of the wrong shape: a product without its price
+            storefront.getState().getProduct(1).remove("price");
+            RestAssured.given().spec(spec).get("/productsList");
+        } finally {
+            storefront.stop();
+        }
+    }
+}
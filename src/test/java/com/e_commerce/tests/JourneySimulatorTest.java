@@ -0,0 +1,106 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.api.JourneySimulator;
+import com.e_commerce.storefront.LocalStorefront;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Unit tests for the open-model shopper journey simulator (no browser needed)
+ */
+public class JourneySimulatorTest {
+
+    @Test
+    public void testJourneysAgainstLocalStorefront() throws IOException, InterruptedException {
+        LocalStorefront storefront = new LocalStorefront(0);
+        int seededUsers = storefront.getState().getUserCount();
+        JourneySimulator simulator = new JourneySimulator(storefront.getBaseUrl(), 20, 1000, 10, 50, 30000, false);
+        List<JourneySimulator.StepResult> results;
+        try {
+            results = simulator.run();
+            // Every shopper deleted the account it created
+            Assert.assertEquals(storefront.getState().getUserCount(), seededUsers);
+        } finally {
+            storefront.stop();
+        }
+
+        Assert.assertTrue(simulator.getStartedJourneys() > 0);
+        Assert.assertEquals(simulator.getCompletedJourneys(), simulator.getStartedJourneys());
+        Assert.assertEquals(results.size(), JourneySimulator.STEPS.size() + 1);
+        for (JourneySimulator.StepResult result : results) {
+            Assert.assertEquals(result.getRequests(), simulator.getStartedJourneys(), result.toString());
+            // Measured from the intended start, so never shorter than the service time
+            Assert.assertTrue(result.getResponseMs(99) >= result.getServiceMs(99) * 0.99, result.toString());
+        }
+        Assert.assertEquals(step(results, "createAccount").getErrors(), 0);
+        Assert.assertEquals(step(results, "verifyLogin").getErrors(), 0);
+        Assert.assertEquals(step(results, "deleteAccount").getErrors(), 0);
+        // The storefront, like the public site, has no order or payment API
+        Assert.assertEquals(step(results, "processPayment").getErrors(), simulator.getStartedJourneys());
+    }
+
+    @Test
+    public void testStepsUseIdsFromEarlierAnswers() throws IOException, InterruptedException {
+        // Form bodies per endpoint; createAccount and createOrder answer with ids like a full order API would
+        Map<String, List<String>> bodies = new ConcurrentHashMap<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/", exchange -> {
+            String endpoint = exchange.getRequestURI().getPath().substring("/api/".length());
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            bodies.computeIfAbsent(endpoint, k -> new CopyOnWriteArrayList<>()).add(body);
+            String json = "{\"responseCode\": 200}";
+            if (endpoint.equals("createAccount")) {
+                json = "{\"responseCode\": 201, \"user_id\": \"U" + body.hashCode() + "\"}";
+            } else if (endpoint.equals("createOrder")) {
+                json = "{\"responseCode\": 201, \"order_id\": \"ORD" + body.hashCode() + "\"}";
+            }
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        JourneySimulator simulator = new JourneySimulator("http://127.0.0.1:" + server.getAddress().getPort(),
+            5, 300, 0, 5, 30000, false);
+        try {
+            simulator.run();
+        } finally {
+            server.stop(0);
+        }
+
+        int journeys = simulator.getStartedJourneys();
+        Assert.assertTrue(journeys > 0);
+        Assert.assertEquals(bodies.get("createOrder").size(), journeys);
+        for (String account : bodies.get("createAccount")) {
+            String userId = "user_id=U" + account.hashCode() + "&";
+            Assert.assertEquals(bodies.get("createOrder").stream().filter(o -> o.startsWith(userId)).count(), 1,
+                "One order for account " + userId);
+        }
+        for (String order : bodies.get("createOrder")) {
+            String orderId = "order_id=ORD" + order.hashCode() + "&";
+            Assert.assertEquals(bodies.get("processPayment").stream().filter(p -> p.startsWith(orderId)).count(), 1,
+                "One payment for order " + orderId);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testArrivalRateMustBePositive() {
+        new JourneySimulator("http://localhost:9", 0, 1000, 0, 1, 0, false);
+    }
+
+    private static JourneySimulator.StepResult step(List<JourneySimulator.StepResult> results, String name) {
+        return results.stream().filter(r -> r.getStep().equals(name)).findFirst()
+            .orElseThrow(() -> new AssertionError("No result for " + name));
+    }
+}
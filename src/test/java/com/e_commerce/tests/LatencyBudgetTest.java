@@ -0,0 +1,98 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.api.ApiHttpClient;
+import com.e_commerce.api.ApiLatencyFilter;
+import com.e_commerce.api.LatencyBudget;
+import com.e_commerce.storefront.LocalStorefront;
+import com.e_commerce.utils.ApiLatencyTelemetry;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Unit tests for per-endpoint latency budgets and the latency filter (no browser needed)
+ */
+public class LatencyBudgetTest {
+
+    @Test
+    public void testParseBudgetTerms() {
+        List<LatencyBudget> budgets = LatencyBudget.parse("searchProduct", "p95<400, p99.9 < 1500ms");
+
+        Assert.assertEquals(budgets.size(), 2);
+        Assert.assertEquals(budgets.get(0).getEndpoint(), "/api/searchProduct");
+        Assert.assertEquals(budgets.get(0).getPercentile(), 95.0);
+        Assert.assertEquals(budgets.get(0).getLimitMs(), 400.0);
+        Assert.assertEquals(budgets.get(1).getPercentile(), 99.9);
+        Assert.assertEquals(budgets.get(1).getLimitMs(), 1500.0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidBudgetRejected() {
+        LatencyBudget.parse("searchProduct", "95th<400");
+    }
+
+    @Test
+    public void testBreachReportsPercentileBreakdown() {
+        // 90 fast calls and 10 slow ones: p90 is fast, p95 is slow
+        for (int i = 0; i < 90; i++) {
+            ApiLatencyTelemetry.record("/budget-test/slowTail", 100_000);
+        }
+        for (int i = 0; i < 10; i++) {
+            ApiLatencyTelemetry.record("/budget-test/slowTail", 900_000);
+        }
+
+        Assert.assertTrue(LatencyBudget.findBreaches(LatencyBudget.parse("/budget-test/slowTail", "p90<400")).isEmpty());
+        List<String> breaches = LatencyBudget.findBreaches(LatencyBudget.parse("/budget-test/slowTail", "p95<400"));
+        Assert.assertEquals(breaches.size(), 1);
+        Assert.assertTrue(breaches.get(0).startsWith("/budget-test/slowTail p95 9"), breaches.get(0));
+        Assert.assertTrue(breaches.get(0).contains("budget 400 ms"), breaches.get(0));
+        Assert.assertTrue(breaches.get(0).contains("calls 100: p50 100."), breaches.get(0));
+
+        // Never called: nothing to judge
+        Assert.assertTrue(LatencyBudget.findBreaches(LatencyBudget.parse("/budget-test/unused", "p50<1")).isEmpty());
+    }
+
+    @Test
+    public void testTooFewCallsAreNotJudged() {
+        // One cold outlier among four calls: p95 is the outlier
+        for (int i = 0; i < 3; i++) {
+            ApiLatencyTelemetry.record("/budget-test/fewCalls", 50_000);
+        }
+        ApiLatencyTelemetry.record("/budget-test/fewCalls", 420_000);
+
+        LatencyBudget budget = new LatencyBudget("/budget-test/fewCalls", 95, 400, 5);
+        Assert.assertFalse(budget.hasEnoughSamples());
+        Assert.assertTrue(LatencyBudget.findBreaches(List.of(budget)).isEmpty());
+        Assert.assertTrue(budget.describe().startsWith("/budget-test/fewCalls p95 insufficient samples, 4 of 5"),
+            budget.describe());
+
+        ApiLatencyTelemetry.record("/budget-test/fewCalls", 430_000);
+        Assert.assertEquals(LatencyBudget.findBreaches(List.of(budget)).size(), 1);
+    }
+
+    @Test
+    public void testMinCallsIsNotABudget() {
+        Assert.assertTrue(LatencyBudget.fromConfig().stream()
+            .noneMatch(budget -> budget.getEndpoint().endsWith("/minCalls")));
+    }
+
+    @Test
+    public void testFilterRecordsCallsByPath() throws IOException {
+        LocalStorefront storefront = new LocalStorefront(0);
+        long before = ApiLatencyTelemetry.getCount("/api/brandsList");
+        try {
+            for (int i = 0; i < 3; i++) {
+                given().config(ApiHttpClient.config()).baseUri(storefront.getBaseUrl()).filter(new ApiLatencyFilter())
+                    .get("/api/brandsList?x=" + i);
+            }
+        } finally {
+            storefront.stop();
+        }
+        Assert.assertEquals(ApiLatencyTelemetry.getCount("/api/brandsList") - before, 3);
+        Assert.assertTrue(ApiLatencyTelemetry.getPercentileMs("/api/brandsList", 100) > 0);
+    }
+}
@@ -0,0 +1,111 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.storefront.LocalStorefront;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Unit tests for the embedded local storefront's API and cart session handling (no browser needed)
+ */
+public class LocalStorefrontTest {
+
+    private LocalStorefront storefront;
+
+    @BeforeClass
+    public void startStorefront() throws IOException {
+        storefront = new LocalStorefront(0);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStorefront() {
+        if (storefront != null) {
+            storefront.stop();
+        }
+    }
+
+    private JsonPath api(String method, String endpoint, String... params) {
+        RequestSpecification request = given().baseUri(storefront.getBaseUrl());
+        for (int i = 0; i + 1 < params.length; i += 2) {
+            request.formParam(params[i], params[i + 1]);
+        }
+        Response response = request.request(method, "/api/" + endpoint);
+        Assert.assertEquals(response.getStatusCode(), 200, endpoint + " HTTP status");
+        return response.jsonPath();
+    }
+
+    @Test
+    public void testProductsListServesCatalog() {
+        JsonPath products = api("GET", "productsList");
+
+        Assert.assertEquals(products.getInt("responseCode"), 200);
+        Assert.assertEquals(products.getList("products").size(), 34);
+        Assert.assertEquals(products.getString("products[0].name"), "Blue Top");
+        Assert.assertEquals(products.getString("products[0].category.usertype.usertype"), "Women");
+        Assert.assertEquals(api("POST", "productsList").getInt("responseCode"), 405);
+    }
+
+    @Test
+    public void testSearchProductMatchesNameAndCategory() {
+        List<String> names = api("POST", "searchProduct", "search_product", "jean").getList("products.name");
+
+        Assert.assertFalse(names.isEmpty());
+        names.forEach(name -> Assert.assertTrue(name.toLowerCase().contains("jean"), name));
+        Assert.assertEquals(api("POST", "searchProduct").getInt("responseCode"), 400);
+    }
+
+    @Test
+    public void testAccountLifecycle() {
+        String email = "storefront" + System.nanoTime() + "@example.com";
+        String[] account = {"name", "Local User", "email", email, "password", "secret", "firstname", "Local",
+            "lastname", "User", "address1", "1 Main St", "country", "India", "zipcode", "1000", "state", "KA",
+            "city", "Bengaluru", "mobile_number", "9999999999"};
+
+        Assert.assertEquals(api("POST", "createAccount", account).getInt("responseCode"), 201);
+        Assert.assertEquals(api("POST", "createAccount", account).getString("message"), "Email already exists!");
+        Assert.assertEquals(api("POST", "verifyLogin", "email", email, "password", "secret").getInt("responseCode"), 200);
+        Assert.assertEquals(api("POST", "verifyLogin", "email", email, "password", "wrong").getInt("responseCode"), 404);
+        Assert.assertEquals(api("GET", "getUserDetailByEmail", "email", email).getString("user.first_name"), "Local");
+
+        Assert.assertEquals(api("DELETE", "deleteAccount", "email", email, "password", "secret").getInt("responseCode"), 200);
+        Assert.assertEquals(api("POST", "verifyLogin", "email", email, "password", "secret").getInt("responseCode"), 404);
+    }
+
+    @Test
+    public void testCartFollowsSessionCookie() {
+        Response first = given().baseUri(storefront.getBaseUrl()).get("/add_to_cart/1");
+        String sessionId = first.getCookie("sessionid");
+        Assert.assertNotNull(sessionId, "add_to_cart should start a session");
+        given().baseUri(storefront.getBaseUrl()).cookie("sessionid", sessionId).get("/add_to_cart/2");
+
+        String cart = given().baseUri(storefront.getBaseUrl()).cookie("sessionid", sessionId).get("/view_cart").asString();
+        String otherCart = given().baseUri(storefront.getBaseUrl()).get("/view_cart").asString();
+
+        Assert.assertTrue(cart.contains("id=\"product-1\"") && cart.contains("id=\"product-2\""));
+        Assert.assertFalse(otherCart.contains("id=\"product-1\""));
+    }
+
+    @Test
+    public void testLoginFormShowsLoggedInUser() {
+        Response login = given().baseUri(storefront.getBaseUrl()).redirects().follow(false)
+            .formParam("email", "testuser@test.com").formParam("password", "Test@123").post("/login");
+        Assert.assertEquals(login.getStatusCode(), 302);
+
+        String home = given().baseUri(storefront.getBaseUrl()).cookie("sessionid", login.getCookie("sessionid"))
+            .get("/").asString();
+        Assert.assertTrue(home.contains("Logged in as <b>Test User</b>"));
+
+        String failed = given().baseUri(storefront.getBaseUrl())
+            .formParam("email", "testuser@test.com").formParam("password", "nope").post("/login").asString();
+        Assert.assertTrue(failed.contains("Your email or password is incorrect!"));
+    }
+}
@@ -0,0 +1,155 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.pages.LocatorRegistry;
+import com.e_commerce.pages.ProfilingElementLocator;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for @FindBy lookup profiling (no browser needed). Each test uses its own
+ * field, so the run-wide registry entries never overlap between tests.
+ */
+public class LocatorRegistryTest {
+
+    private static final String ORDER_NUMBER = ".order-number, #order_id, [data-test='order-number']";
+
+    @FindBy(css = ORDER_NUMBER)
+    private WebElement orderNumber;
+
+    @FindBy(css = ORDER_NUMBER)
+    private WebElement orderNumberVariant;
+
+    @FindBy(css = ORDER_NUMBER)
+    private WebElement missingOrderNumber;
+
+    @FindBy(css = ORDER_NUMBER)
+    private List<WebElement> orderNumbers;
+
+    /** Every selector or script sent to the fake driver */
+    private final List<String> queries = new ArrayList<>();
+    /** Branches present on the fake page, in document order, each with its own element */
+    private final Map<String, WebElement> present = new LinkedHashMap<>();
+
+    private WebElement element(String name) {
+        return (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{WebElement.class},
+            (proxy, method, args) -> method.getName().equals("toString") ? name : null);
+    }
+
+    /**
+     * Elements in document order matched by any branch of a selector list
+     */
+    private List<WebElement> matches(String css) {
+        List<String> branches = List.of(css.split(", "));
+        List<WebElement> found = new ArrayList<>();
+        for (Map.Entry<String, WebElement> node : present.entrySet()) {
+            if (branches.contains(node.getKey())) {
+                found.add(node.getValue());
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Fake driver: a selector list matches the present elements of any of its branches
+     */
+    private final SearchContext driver = (SearchContext) Proxy.newProxyInstance(
+        getClass().getClassLoader(), new Class<?>[]{SearchContext.class, JavascriptExecutor.class},
+        (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "findElements":
+                case "findElement":
+                    String css = ((By) args[0]).toString().replace("By.cssSelector: ", "");
+                    queries.add(css);
+                    List<WebElement> found = matches(css);
+                    if (method.getName().equals("findElements")) {
+                        return found;
+                    }
+                    if (found.isEmpty()) {
+                        throw new NoSuchElementException(css);
+                    }
+                    return found.get(0);
+                case "executeScript":
+                    queries.add("script: " + args[0]);
+                    return null;
+                default:
+                    return null;
+            }
+        });
+
+    @BeforeMethod
+    public void clearPage() {
+        queries.clear();
+        present.clear();
+    }
+
+    private ProfilingElementLocator locator(String field) throws Exception {
+        return new ProfilingElementLocator(driver, getClass().getDeclaredField(field));
+    }
+
+    @Test
+    public void testEveryLookupUsesTheFullSelectorOnce() throws Exception {
+        ProfilingElementLocator locator = locator("orderNumber");
+        WebElement orderId = element("#order_id");
+        present.put("#order_id", orderId);
+
+        Assert.assertSame(locator.findElement(), orderId);
+        Assert.assertSame(locator.findElement(), orderId);
+        Assert.assertEquals(queries, List.of(ORDER_NUMBER, ORDER_NUMBER), "One full lookup each, no extra scripts");
+
+        List<String> row = LocatorRegistry.getRow("LocatorRegistryTest.orderNumber");
+        Assert.assertEquals(row.get(LocatorRegistry.getHeaders().indexOf("Branches")), "3");
+        Assert.assertEquals(row.get(LocatorRegistry.getHeaders().indexOf("Lookups")), "2");
+        Assert.assertEquals(row.get(LocatorRegistry.getHeaders().indexOf("Misses")), "0");
+    }
+
+    @Test
+    public void testReturnsFirstMatchInDocumentOrder() throws Exception {
+        ProfilingElementLocator locator = locator("orderNumberVariant");
+        present.put("#order_id", element("#order_id"));
+        locator.findElement();
+
+        // A different branch now comes first in the document
+        present.clear();
+        WebElement orderNumber = element(".order-number");
+        present.put(".order-number", orderNumber);
+        present.put("#order_id", element("#order_id"));
+
+        Assert.assertSame(locator.findElement(), orderNumber);
+    }
+
+    @Test
+    public void testCountsMisses() throws Exception {
+        ProfilingElementLocator locator = locator("missingOrderNumber");
+
+        Assert.expectThrows(NoSuchElementException.class, locator::findElement);
+        Assert.assertTrue(locator.findElements().isEmpty());
+
+        List<String> row = LocatorRegistry.getRow("LocatorRegistryTest.missingOrderNumber");
+        Assert.assertEquals(row.get(LocatorRegistry.getHeaders().indexOf("Lookups")), "2");
+        Assert.assertEquals(row.get(LocatorRegistry.getHeaders().indexOf("Misses")), "2");
+    }
+
+    @Test
+    public void testListLookupKeepsElementsFromEveryBranch() throws Exception {
+        ProfilingElementLocator locator = locator("orderNumbers");
+        present.put(".order-number", element(".order-number"));
+        present.put("#order_id", element("#order_id"));
+
+        Assert.assertEquals(locator.findElements().size(), 2);
+        Assert.assertEquals(queries, Collections.singletonList(ORDER_NUMBER));
+    }
+}
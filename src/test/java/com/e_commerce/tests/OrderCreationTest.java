@@ -25,7 +25,7 @@ public class OrderCreationTest extends BaseTest {
         
         try {
             cart.proceedToCheckout();
-            Thread.sleep(2000);
+            cart.waitForPageSettled(2000);
             
             // Complete address
             AddressPage addressPage = new AddressPage(driver);
@@ -34,14 +34,14 @@ public class OrderCreationTest extends BaseTest {
                 "India", "Mumbai", "400001", "9876543210"
             );
             addressPage.clickContinue();
-            Thread.sleep(2000);
+            addressPage.waitForPageSettled(2000);
             
             // Select shipping
             ShippingPage shippingPage = new ShippingPage(driver);
             shippingPage.selectStandardShipping();
             double expectedTotal = shippingPage.getOrderTotalAsDouble();
             shippingPage.clickContinue();
-            Thread.sleep(2000);
+            shippingPage.waitForPageSettled(2000);
             
             // Complete payment
             PaymentPage paymentPage = new PaymentPage(driver);
@@ -55,7 +55,7 @@ public class OrderCreationTest extends BaseTest {
             );
             paymentPage.clickPayNow();
             paymentPage.waitForPaymentProcessing(10);
-            Thread.sleep(3000);
+            paymentPage.waitForPageSettled(3000);
             
             // Verify order confirmation page
             OrderConfirmationPage confirmation = new OrderConfirmationPage(driver);
@@ -91,7 +91,7 @@ public class OrderCreationTest extends BaseTest {
         
         try {
             cart.proceedToCheckout();
-            Thread.sleep(2000);
+            cart.waitForPageSettled(2000);
             
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
@@ -99,12 +99,12 @@ public class OrderCreationTest extends BaseTest {
                 "India", "Delhi", "110001", "9123456789"
             );
             addressPage.clickContinue();
-            Thread.sleep(2000);
+            addressPage.waitForPageSettled(2000);
             
             ShippingPage shippingPage = new ShippingPage(driver);
             shippingPage.selectStandardShipping();
             shippingPage.clickContinue();
-            Thread.sleep(2000);
+            shippingPage.waitForPageSettled(2000);
             
             PaymentPage paymentPage = new PaymentPage(driver);
             paymentPage.selectCreditCard();
@@ -117,7 +117,7 @@ public class OrderCreationTest extends BaseTest {
             );
             paymentPage.clickPayNow();
             paymentPage.waitForPaymentProcessing(10);
-            Thread.sleep(3000);
+            paymentPage.waitForPageSettled(3000);
             
             OrderConfirmationPage confirmation = new OrderConfirmationPage(driver);
             
@@ -150,7 +150,7 @@ public class OrderCreationTest extends BaseTest {
             int cartItemCount = cart.getCartItemCount();
             
             cart.proceedToCheckout();
-            Thread.sleep(2000);
+            cart.waitForPageSettled(2000);
             
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
@@ -158,12 +158,12 @@ public class OrderCreationTest extends BaseTest {
                 "India", "Bangalore", "560001", "9988776655"
             );
             addressPage.clickContinue();
-            Thread.sleep(2000);
+            addressPage.waitForPageSettled(2000);
             
             ShippingPage shippingPage = new ShippingPage(driver);
             shippingPage.selectStandardShipping();
             shippingPage.clickContinue();
-            Thread.sleep(2000);
+            shippingPage.waitForPageSettled(2000);
             
             PaymentPage paymentPage = new PaymentPage(driver);
             paymentPage.selectCreditCard();
@@ -176,7 +176,7 @@ public class OrderCreationTest extends BaseTest {
             );
             paymentPage.clickPayNow();
             paymentPage.waitForPaymentProcessing(10);
-            Thread.sleep(3000);
+            paymentPage.waitForPageSettled(3000);
             
             OrderConfirmationPage confirmation = new OrderConfirmationPage(driver);
             
@@ -206,7 +206,7 @@ public class OrderCreationTest extends BaseTest {
         
         try {
             cart.proceedToCheckout();
-            Thread.sleep(2000);
+            cart.waitForPageSettled(2000);
             
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
@@ -214,13 +214,13 @@ public class OrderCreationTest extends BaseTest {
                 "India", "Chennai", "600001", "9876543210"
             );
             addressPage.clickContinue();
-            Thread.sleep(2000);
+            addressPage.waitForPageSettled(2000);
             
             ShippingPage shippingPage = new ShippingPage(driver);
             shippingPage.selectStandardShipping();
             double shippingTotal = shippingPage.getOrderTotalAsDouble();
             shippingPage.clickContinue();
-            Thread.sleep(2000);
+            shippingPage.waitForPageSettled(2000);
             
             PaymentPage paymentPage = new PaymentPage(driver);
             paymentPage.selectCreditCard();
@@ -236,7 +236,7 @@ public class OrderCreationTest extends BaseTest {
             
             paymentPage.clickPayNow();
             paymentPage.waitForPaymentProcessing(10);
-            Thread.sleep(3000);
+            paymentPage.waitForPageSettled(3000);
             
             OrderConfirmationPage confirmation = new OrderConfirmationPage(driver);
             
@@ -266,7 +266,7 @@ public class OrderCreationTest extends BaseTest {
         
         try {
             cart.proceedToCheckout();
-            Thread.sleep(2000);
+            cart.waitForPageSettled(2000);
             
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
@@ -274,12 +274,12 @@ public class OrderCreationTest extends BaseTest {
                 "India", "Pune", "411001", "9876543210"
             );
             addressPage.clickContinue();
-            Thread.sleep(2000);
+            addressPage.waitForPageSettled(2000);
             
             ShippingPage shippingPage = new ShippingPage(driver);
             shippingPage.selectStandardShipping();
             shippingPage.clickContinue();
-            Thread.sleep(2000);
+            shippingPage.waitForPageSettled(2000);
             
             PaymentPage paymentPage = new PaymentPage(driver);
             paymentPage.selectCreditCard();
@@ -292,28 +292,29 @@ public class OrderCreationTest extends BaseTest {
             );
             paymentPage.clickPayNow();
             paymentPage.waitForPaymentProcessing(10);
-            Thread.sleep(3000);
+            paymentPage.waitForPageSettled(3000);
             
             OrderConfirmationPage confirmation = new OrderConfirmationPage(driver);
+            OrderDetails details = confirmation.getOrderDetails();
             
             // Verify all essential information is present
-            Assert.assertTrue(confirmation.isOrderNumberGenerated(),
+            Assert.assertTrue(details.isOrderNumberGenerated(),
                 "Order number should be present");
             
-            Assert.assertTrue(confirmation.getOrderItemCount() > 0,
+            Assert.assertTrue(details.getItemCount() > 0,
                 "Order should have at least one item");
             
-            Assert.assertTrue(confirmation.getOrderTotalAsDouble() > 0,
+            Assert.assertTrue(details.getOrderTotalAsDouble() > 0,
                 "Order total should be greater than zero");
             
-            String confirmationMsg = confirmation.getConfirmationMessage();
+            String confirmationMsg = details.getConfirmationMessage();
             Assert.assertFalse(confirmationMsg.isEmpty(),
                 "Confirmation message should be displayed");
             
             System.out.println("Order confirmation: " + confirmationMsg);
-            System.out.println("Order number: " + confirmation.getOrderNumber());
-            System.out.println("Order total: " + confirmation.getOrderTotal());
-            System.out.println("Order items: " + confirmation.getOrderItemCount());
+            System.out.println("Order number: " + details.getOrderNumber());
+            System.out.println("Order total: " + details.getOrderTotal());
+            System.out.println("Order items: " + details.getItemCount());
             
         } catch (Exception e) {
             System.out.println("Order confirmation info test: " + e.getMessage());
@@ -334,7 +335,7 @@ public class OrderCreationTest extends BaseTest {
         
         try {
             cart.proceedToCheckout();
-            Thread.sleep(2000);
+            cart.waitForPageSettled(2000);
             
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
@@ -342,12 +343,12 @@ public class OrderCreationTest extends BaseTest {
                 "India", "Hyderabad", "500001", "9876543210"
             );
             addressPage.clickContinue();
-            Thread.sleep(2000);
+            addressPage.waitForPageSettled(2000);
             
             ShippingPage shippingPage = new ShippingPage(driver);
             shippingPage.selectStandardShipping();
             shippingPage.clickContinue();
-            Thread.sleep(2000);
+            shippingPage.waitForPageSettled(2000);
             
             PaymentPage paymentPage = new PaymentPage(driver);
             paymentPage.selectCreditCard();
@@ -360,7 +361,7 @@ public class OrderCreationTest extends BaseTest {
             );
             paymentPage.clickPayNow();
             paymentPage.waitForPaymentProcessing(10);
-            Thread.sleep(3000);
+            paymentPage.waitForPageSettled(3000);
             
             OrderConfirmationPage confirmation = new OrderConfirmationPage(driver);
             
@@ -390,7 +391,7 @@ public class OrderCreationTest extends BaseTest {
         
         try {
             cart.proceedToCheckout();
-            Thread.sleep(2000);
+            cart.waitForPageSettled(2000);
             
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
@@ -398,12 +399,12 @@ public class OrderCreationTest extends BaseTest {
                 "India", "Kolkata", "700001", "9876543210"
             );
             addressPage.clickContinue();
-            Thread.sleep(2000);
+            addressPage.waitForPageSettled(2000);
             
             ShippingPage shippingPage = new ShippingPage(driver);
             shippingPage.selectStandardShipping();
             shippingPage.clickContinue();
-            Thread.sleep(2000);
+            shippingPage.waitForPageSettled(2000);
             
             PaymentPage paymentPage = new PaymentPage(driver);
             paymentPage.selectCreditCard();
@@ -416,7 +417,7 @@ public class OrderCreationTest extends BaseTest {
             );
             paymentPage.clickPayNow();
             paymentPage.waitForPaymentProcessing(10);
-            Thread.sleep(3000);
+            paymentPage.waitForPageSettled(3000);
             
             OrderConfirmationPage confirmation = new OrderConfirmationPage(driver);
             
@@ -454,7 +455,7 @@ public class OrderCreationTest extends BaseTest {
         
         try {
             cart.proceedToCheckout();
-            Thread.sleep(2000);
+            cart.waitForPageSettled(2000);
             
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
@@ -462,12 +463,12 @@ public class OrderCreationTest extends BaseTest {
                 "India", "Jaipur", "302001", "9876543210"
             );
             addressPage.clickContinue();
-            Thread.sleep(2000);
+            addressPage.waitForPageSettled(2000);
             
             ShippingPage shippingPage = new ShippingPage(driver);
             shippingPage.selectStandardShipping();
             shippingPage.clickContinue();
-            Thread.sleep(2000);
+            shippingPage.waitForPageSettled(2000);
             
             PaymentPage paymentPage = new PaymentPage(driver);
             paymentPage.selectCreditCard();
@@ -480,7 +481,7 @@ public class OrderCreationTest extends BaseTest {
             );
             paymentPage.clickPayNow();
             paymentPage.waitForPaymentProcessing(10);
-            Thread.sleep(3000);
+            paymentPage.waitForPageSettled(3000);
             
             OrderConfirmationPage confirmation = new OrderConfirmationPage(driver);
             
@@ -512,7 +513,7 @@ public class OrderCreationTest extends BaseTest {
         
         try {
             cart.proceedToCheckout();
-            Thread.sleep(2000);
+            cart.waitForPageSettled(2000);
             
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
@@ -520,12 +521,12 @@ public class OrderCreationTest extends BaseTest {
                 "India", "Ahmedabad", "380001", "9876543210"
             );
             addressPage.clickContinue();
-            Thread.sleep(2000);
+            addressPage.waitForPageSettled(2000);
             
             ShippingPage shippingPage = new ShippingPage(driver);
             shippingPage.selectStandardShipping();
             shippingPage.clickContinue();
-            Thread.sleep(2000);
+            shippingPage.waitForPageSettled(2000);
             
             PaymentPage paymentPage = new PaymentPage(driver);
             paymentPage.selectCreditCard();
@@ -538,21 +539,21 @@ public class OrderCreationTest extends BaseTest {
             );
             paymentPage.clickPayNow();
             paymentPage.waitForPaymentProcessing(10);
-            Thread.sleep(3000);
+            paymentPage.waitForPageSettled(3000);
             
             OrderConfirmationPage confirmation = new OrderConfirmationPage(driver);
             
             // Verify calculation: total = subtotal + shipping + tax - discount
-            boolean isCalculationCorrect = confirmation.isOrderTotalCorrect();
+            OrderDetails details = confirmation.getOrderDetails();
             
-            if (isCalculationCorrect) {
+            if (details.isTotalCorrect()) {
                 System.out.println("Order total calculation is correct");
             } else {
-                System.out.println("Subtotal: " + confirmation.getOrderSubtotal());
-                System.out.println("Shipping: " + confirmation.getShippingCost());
-                System.out.println("Tax: " + confirmation.getTaxAmount());
-                System.out.println("Discount: " + confirmation.getDiscountAmount());
-                System.out.println("Total: " + confirmation.getOrderTotal());
+                System.out.println("Subtotal: " + details.getSubtotal());
+                System.out.println("Shipping: " + details.getShippingCost());
+                System.out.println("Tax: " + details.getTaxAmount());
+                System.out.println("Discount: " + details.getDiscountAmount());
+                System.out.println("Total: " + details.getOrderTotal());
             }
             
         } catch (Exception e) {
@@ -574,7 +575,7 @@ public class OrderCreationTest extends BaseTest {
         
         try {
             cart.proceedToCheckout();
-            Thread.sleep(2000);
+            cart.waitForPageSettled(2000);
             
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
@@ -582,12 +583,12 @@ public class OrderCreationTest extends BaseTest {
                 "India", "Surat", "395001", "9876543210"
             );
             addressPage.clickContinue();
-            Thread.sleep(2000);
+            addressPage.waitForPageSettled(2000);
             
             ShippingPage shippingPage = new ShippingPage(driver);
             shippingPage.selectStandardShipping();
             shippingPage.clickContinue();
-            Thread.sleep(2000);
+            shippingPage.waitForPageSettled(2000);
             
             PaymentPage paymentPage = new PaymentPage(driver);
             paymentPage.selectCreditCard();
@@ -600,14 +601,14 @@ public class OrderCreationTest extends BaseTest {
             );
             paymentPage.clickPayNow();
             paymentPage.waitForPaymentProcessing(10);
-            Thread.sleep(3000);
+            paymentPage.waitForPageSettled(3000);
             
             OrderConfirmationPage confirmation = new OrderConfirmationPage(driver);
             
             if (confirmation.isContinueShoppingAvailable()) {
                 String orderNumber = confirmation.getOrderNumber();
                 confirmation.continueShopping();
-                Thread.sleep(2000);
+                confirmation.waitForPageSettled(2000);
                 
                 // Verify navigation away from confirmation page
                 String currentUrl = driver.getCurrentUrl();
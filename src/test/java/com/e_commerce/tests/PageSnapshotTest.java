@@ -0,0 +1,55 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.pages.CssSelectors;
+import com.e_commerce.pages.ElementSnapshot;
+import com.e_commerce.pages.PageSnapshot;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for selector splitting and snapshot parsing (no browser needed)
+ */
+public class PageSnapshotTest {
+
+    @Test
+    public void testSplitFallbackSelectors() {
+        List<String> branches = CssSelectors.splitBranches(
+            ".order-number, #order_id, [data-test='a,b'], :is(.x, .y)");
+        Assert.assertEquals(branches, Arrays.asList(".order-number", "#order_id", "[data-test='a,b']", ":is(.x, .y)"));
+        Assert.assertTrue(CssSelectors.splitBranches("  ").isEmpty());
+    }
+
+    @Test
+    public void testSnapshotFromScriptResult() {
+        Map<String, Object> total = new HashMap<>();
+        total.put("tag", "span");
+        total.put("text", "Rs. 500");
+        total.put("visible", true);
+        total.put("attributes", Collections.singletonMap("class", "grand-total"));
+        total.put("branch", 2L);
+
+        Map<String, Object> raw = new HashMap<>();
+        raw.put("orderTotalElement", Collections.singletonList(total));
+        raw.put("orderItems", Arrays.asList(total, total));
+        raw.put("orderStatusElement", Collections.emptyList());
+
+        PageSnapshot snapshot = PageSnapshot.from(raw);
+        ElementSnapshot element = snapshot.get("orderTotalElement");
+
+        Assert.assertEquals(element.getText(), "Rs. 500");
+        Assert.assertTrue(element.isVisible());
+        Assert.assertEquals(element.getAttribute("class"), "grand-total");
+        Assert.assertEquals(element.getMatchedBranch(), 2);
+        Assert.assertEquals(snapshot.count("orderItems"), 2);
+        Assert.assertSame(snapshot.get("orderStatusElement"), ElementSnapshot.ABSENT);
+        Assert.assertFalse(snapshot.isPresent("missingField"));
+        Assert.expectThrows(UnsupportedOperationException.class,
+            () -> element.getAttributes().put("id", "x"));
+    }
+}
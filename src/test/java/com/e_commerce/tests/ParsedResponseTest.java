@@ -0,0 +1,86 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.api.JsonStreamValidator;
+import com.e_commerce.api.ParsedResponse;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+/**
+ * Unit tests for the parse-once response wrapper and the streaming body validator (no browser needed)
+ */
+public class ParsedResponseTest {
+
+    private static final String PRODUCTS = "{\"responseCode\": 200, \"products\": ["
+        + "{\"id\": 1, \"name\": \"Blue Top\", \"price\": \"Rs. 500\", \"brand\": \"Polo\","
+        + " \"category\": {\"usertype\": {\"usertype\": \"Women\"}, \"category\": \"Tops\"}},"
+        + "{\"id\": 2, \"name\": \"Men Tshirt\", \"price\": \"Rs. 400\", \"brand\": \"H&M\","
+        + " \"category\": {\"usertype\": {\"usertype\": \"Men\"}, \"category\": \"Tshirts\"}}]}";
+
+    @Test
+    public void testPathLookups() {
+        ParsedResponse json = new ParsedResponse(PRODUCTS);
+
+        Assert.assertEquals(json.getInt("responseCode"), 200);
+        Assert.assertEquals(json.size("products"), 2);
+        Assert.assertEquals(json.getList("products").size(), 2);
+        Assert.assertEquals(json.getString("products[1].name"), "Men Tshirt");
+        Assert.assertEquals(json.getString("products[0].category.usertype.usertype"), "Women");
+        Assert.assertEquals(json.getString("products[0].id"), "1");
+        // Repeated lookups come from the memo
+        Assert.assertSame(json.get("products[1]"), json.get("products[1]"));
+    }
+
+    @Test
+    public void testMissingPathsAreNull() {
+        ParsedResponse json = new ParsedResponse(PRODUCTS);
+
+        Assert.assertNull(json.getString("message"));
+        Assert.assertNull(json.get("products[5].name"));
+        Assert.assertNull(json.get("responseCode.value"));
+        Assert.assertFalse(json.has("products[0].rating"));
+        Assert.assertEquals(json.size("brands"), 0);
+        try {
+            json.getInt("products[0].rating");
+            Assert.fail("Missing number should be rejected");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("products[0].rating"));
+        }
+    }
+
+    @Test
+    public void testStreamingCheckCountsLargeArray() throws IOException {
+        StringBuilder body = new StringBuilder("{\"responseCode\": 200, \"products\": [");
+        for (int i = 1; i <= 20_000; i++) {
+            body.append(i > 1 ? "," : "").append("{\"id\": ").append(i).append(", \"name\": \"Product ").append(i)
+                .append("\", \"price\": \"Rs. ").append(i).append("\", \"tags\": [\"a\", {\"b\": [1, 2]}]");
+            // Every 5000th product has no brand
+            body.append(i % 5000 == 0 ? "" : ", \"brand\": \"Brand\"").append("}");
+        }
+        body.append("], \"message\": \"ok\"}");
+
+        JsonStreamValidator.ArrayCheck check = JsonStreamValidator.checkArray(
+            new StringReader(body.toString()), "products", "id", "name", "price", "brand");
+
+        Assert.assertTrue(check.isFound());
+        Assert.assertEquals(check.getCount(), 20_000);
+        Assert.assertEquals(check.getScalar("responseCode"), "200");
+        Assert.assertEquals(check.getScalar("message"), "ok");
+        Assert.assertFalse(check.isValid());
+        Assert.assertEquals(check.getProblems().size(), 4);
+        Assert.assertEquals(check.getProblems().get(0), "products[4999] has no brand");
+    }
+
+    @Test
+    public void testStreamingCheckWithoutArray() throws IOException {
+        JsonStreamValidator.ArrayCheck check = JsonStreamValidator.checkArray(
+            new StringReader("{\"responseCode\": 400, \"message\": \"Bad request\"}"), "products", "id");
+
+        Assert.assertFalse(check.isFound());
+        Assert.assertFalse(check.isValid());
+        Assert.assertEquals(check.getCount(), 0);
+        Assert.assertEquals(check.getScalar("responseCode"), "400");
+    }
+}
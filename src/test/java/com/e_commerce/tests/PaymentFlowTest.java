@@ -1,5 +1,6 @@
 package com.e_commerce.tests;
 
+import com.e_commerce.api.CartSeeder;
 import com.e_commerce.core.BaseTest;
 import com.e_commerce.pages.*;
 import org.testng.Assert;
@@ -14,20 +15,9 @@ public class PaymentFlowTest extends BaseTest {
     @Test(description = "Verify successful payment with credit card", priority = 1)
     public void testSuccessfulCreditCardPayment() {
         // Setup: Add product and navigate to payment
-        HomePage home = new HomePage(driver);
-        home.open();
-        
-        ProductsPage products = new ProductsPage(driver);
-        products.openFromNavbar();
-        products.addFirstProductToCart();
-        
-        CartPage cart = new CartPage(driver);
-        cart.openFromModal();
+        new CartSeeder(driver).addFirstProduct().openCheckout();
         
         try {
-            cart.proceedToCheckout();
-            Thread.sleep(2000);
-            
             // Fill address
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
@@ -35,13 +25,13 @@ public class PaymentFlowTest extends BaseTest {
                 "India", "Mumbai", "400001", "9876543210"
             );
             addressPage.clickContinue();
-            Thread.sleep(2000);
+            addressPage.waitForPageSettled(2000);
             
             // Select shipping
             ShippingPage shippingPage = new ShippingPage(driver);
             shippingPage.selectStandardShipping();
             shippingPage.clickContinue();
-            Thread.sleep(2000);
+            shippingPage.waitForPageSettled(2000);
             
             // Process payment
             PaymentPage paymentPage = new PaymentPage(driver);
@@ -63,7 +53,7 @@ public class PaymentFlowTest extends BaseTest {
             paymentPage.waitForPaymentProcessing(10);
             
             // Verify payment success
-            Thread.sleep(2000);
+            paymentPage.waitForPageSettled(2000);
             boolean isSuccess = paymentPage.isPaymentSuccessful();
             
             if (isSuccess) {
@@ -79,32 +69,21 @@ public class PaymentFlowTest extends BaseTest {
     
     @Test(description = "Verify payment with debit card", priority = 2)
     public void testDebitCardPayment() {
-        HomePage home = new HomePage(driver);
-        home.open();
-        
-        ProductsPage products = new ProductsPage(driver);
-        products.openFromNavbar();
-        products.addFirstProductToCart();
-        
-        CartPage cart = new CartPage(driver);
-        cart.openFromModal();
+        new CartSeeder(driver).addFirstProduct().openCheckout();
         
         try {
-            cart.proceedToCheckout();
-            Thread.sleep(2000);
-            
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
                 "Debit", "Test", "456 Avenue",
                 "India", "Delhi", "110001", "9123456789"
             );
             addressPage.clickContinue();
-            Thread.sleep(2000);
+            addressPage.waitForPageSettled(2000);
             
             ShippingPage shippingPage = new ShippingPage(driver);
             shippingPage.selectStandardShipping();
             shippingPage.clickContinue();
-            Thread.sleep(2000);
+            shippingPage.waitForPageSettled(2000);
             
             PaymentPage paymentPage = new PaymentPage(driver);
             paymentPage.selectDebitCard();
@@ -129,32 +108,21 @@ public class PaymentFlowTest extends BaseTest {
     
     @Test(description = "Verify UPI payment flow", priority = 3)
     public void testUPIPayment() {
-        HomePage home = new HomePage(driver);
-        home.open();
-        
-        ProductsPage products = new ProductsPage(driver);
-        products.openFromNavbar();
-        products.addFirstProductToCart();
-        
-        CartPage cart = new CartPage(driver);
-        cart.openFromModal();
+        new CartSeeder(driver).addFirstProduct().openCheckout();
         
         try {
-            cart.proceedToCheckout();
-            Thread.sleep(2000);
-            
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
                 "UPI", "User", "789 Road",
                 "India", "Bangalore", "560001", "9988776655"
             );
             addressPage.clickContinue();
-            Thread.sleep(2000);
+            addressPage.waitForPageSettled(2000);
             
             ShippingPage shippingPage = new ShippingPage(driver);
             shippingPage.selectStandardShipping();
             shippingPage.clickContinue();
-            Thread.sleep(2000);
+            shippingPage.waitForPageSettled(2000);
             
             PaymentPage paymentPage = new PaymentPage(driver);
             paymentPage.selectUPI();
@@ -170,32 +138,21 @@ public class PaymentFlowTest extends BaseTest {
     
     @Test(description = "Verify Cash on Delivery option", priority = 4)
     public void testCashOnDelivery() {
-        HomePage home = new HomePage(driver);
-        home.open();
-        
-        ProductsPage products = new ProductsPage(driver);
-        products.openFromNavbar();
-        products.addFirstProductToCart();
-        
-        CartPage cart = new CartPage(driver);
-        cart.openFromModal();
+        new CartSeeder(driver).addFirstProduct().openCheckout();
         
         try {
-            cart.proceedToCheckout();
-            Thread.sleep(2000);
-            
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
                 "COD", "Test", "111 Boulevard",
                 "India", "Chennai", "600001", "9876543210"
             );
             addressPage.clickContinue();
-            Thread.sleep(2000);
+            addressPage.waitForPageSettled(2000);
             
             ShippingPage shippingPage = new ShippingPage(driver);
             shippingPage.selectStandardShipping();
             shippingPage.clickContinue();
-            Thread.sleep(2000);
+            shippingPage.waitForPageSettled(2000);
             
             PaymentPage paymentPage = new PaymentPage(driver);
             paymentPage.selectCOD();
@@ -210,27 +167,16 @@ public class PaymentFlowTest extends BaseTest {
     
     @Test(description = "Verify payment amount matches order total", priority = 5)
     public void testPaymentAmountValidation() {
-        HomePage home = new HomePage(driver);
-        home.open();
-        
-        ProductsPage products = new ProductsPage(driver);
-        products.openFromNavbar();
-        products.addFirstProductToCart();
-        
-        CartPage cart = new CartPage(driver);
-        cart.openFromModal();
+        new CartSeeder(driver).addFirstProduct().openCheckout();
         
         try {
-            cart.proceedToCheckout();
-            Thread.sleep(2000);
-            
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
                 "Amount", "Test", "222 Circle",
                 "India", "Pune", "411001", "9876543210"
             );
             addressPage.clickContinue();
-            Thread.sleep(2000);
+            addressPage.waitForPageSettled(2000);
             
             ShippingPage shippingPage = new ShippingPage(driver);
             shippingPage.selectStandardShipping();
@@ -239,7 +185,7 @@ public class PaymentFlowTest extends BaseTest {
             String shippingTotal = shippingPage.getOrderTotal();
             
             shippingPage.clickContinue();
-            Thread.sleep(2000);
+            shippingPage.waitForPageSettled(2000);
             
             PaymentPage paymentPage = new PaymentPage(driver);
             
@@ -258,32 +204,21 @@ public class PaymentFlowTest extends BaseTest {
     
     @Test(description = "Verify payment methods are available", priority = 6)
     public void testPaymentMethodsAvailability() {
-        HomePage home = new HomePage(driver);
-        home.open();
-        
-        ProductsPage products = new ProductsPage(driver);
-        products.openFromNavbar();
-        products.addFirstProductToCart();
-        
-        CartPage cart = new CartPage(driver);
-        cart.openFromModal();
+        new CartSeeder(driver).addFirstProduct().openCheckout();
         
         try {
-            cart.proceedToCheckout();
-            Thread.sleep(2000);
-            
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
                 "Methods", "Test", "333 Avenue",
                 "India", "Hyderabad", "500001", "9876543210"
             );
             addressPage.clickContinue();
-            Thread.sleep(2000);
+            addressPage.waitForPageSettled(2000);
             
             ShippingPage shippingPage = new ShippingPage(driver);
             shippingPage.selectStandardShipping();
             shippingPage.clickContinue();
-            Thread.sleep(2000);
+            shippingPage.waitForPageSettled(2000);
             
             PaymentPage paymentPage = new PaymentPage(driver);
             
@@ -1,5 +1,6 @@
 package com.e_commerce.tests;
 
+import com.e_commerce.api.CatalogIndex;
 import com.e_commerce.core.BaseTest;
 import com.e_commerce.pages.HomePage;
 import com.e_commerce.pages.ProductsPage;
@@ -7,6 +8,10 @@ import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public class ProductSearchDataDrivenTest extends BaseTest {
 
     @DataProvider(name = "searchTerms")
@@ -34,5 +39,13 @@ public class ProductSearchDataDrivenTest extends BaseTest {
             Assert.assertTrue(hasResults, "Search for '" + searchTerm + "' should return results");
         }
         // Note: Invalid search handling varies by site - may show empty or "no results" message
+        
+        // Exactly the products the catalog index expects
+        List<Integer> shown = new ArrayList<>(products.getResultIds());
+        List<Integer> expected = new ArrayList<>(CatalogIndex.shared().searchIds(searchTerm));
+        Collections.sort(shown);
+        Collections.sort(expected);
+        Assert.assertEquals(shown, expected,
+            "Search for '" + searchTerm + "' should list the matching catalog products");
     }
 }
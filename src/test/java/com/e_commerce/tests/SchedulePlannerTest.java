@@ -0,0 +1,49 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.core.SchedulePlanner;
+import com.e_commerce.core.SchedulePlanner.Task;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+/**
+ * Unit tests for LPT scheduling of test methods (no browser needed)
+ */
+public class SchedulePlannerTest {
+
+    private static Task task(String id, long ms, String... dependsOn) {
+        return new Task(id, ms, new HashSet<>(Arrays.asList(dependsOn)));
+    }
+
+    @Test
+    public void testLongestMethodsStartFirst() {
+        SchedulePlanner.Plan plan = SchedulePlanner.plan(Arrays.asList(
+            task("short1", 10), task("short2", 10), task("long", 100), task("medium", 50)), 2);
+
+        Assert.assertEquals(plan.getOrder(), Arrays.asList("long", "medium", "short1", "short2"));
+        Assert.assertEquals(plan.getPredictedMakespanMs(), 100);
+    }
+
+    @Test
+    public void testDependencyChainIsWeightedByItsTail() {
+        // head alone is short, but head -> tail is the critical path
+        SchedulePlanner.Plan plan = SchedulePlanner.plan(Arrays.asList(
+            task("solo", 60), task("head", 20), task("tail", 70, "head"), task("filler", 30)), 2);
+
+        Assert.assertEquals(plan.getOrder().get(0), "head");
+        Assert.assertTrue(plan.getOrder().indexOf("tail") > plan.getOrder().indexOf("head"));
+        Assert.assertEquals(plan.getPredictedMakespanMs(), 90);
+    }
+
+    @Test
+    public void testUnknownDependenciesAreIgnored() {
+        SchedulePlanner.Plan plan = SchedulePlanner.plan(
+            Collections.singletonList(task("only", 40, "other.Class.method")), 3);
+
+        Assert.assertEquals(plan.getPredictedMakespanMs(), 40);
+        Assert.assertEquals(plan.getThreadLoadsMs()[0], 40);
+    }
+}
@@ -0,0 +1,71 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.core.BaseTest;
+import com.e_commerce.core.SessionSnapshot;
+import com.e_commerce.core.SessionSnapshotStore;
+import com.e_commerce.pages.HomePage;
+import com.e_commerce.pages.LoginPage;
+import org.openqa.selenium.Cookie;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logged-in sessions through SessionSnapshotStore: the shared loginAs, and restore and
+ * invalidation on a store of their own so the counts do not depend on other tests
+ */
+public class SessionLoginTest extends BaseTest {
+
+    private static SessionSnapshotStore newStore() throws Exception {
+        return new SessionSnapshotStore(Files.createTempDirectory("sessions"), TimeUnit.MINUTES.toMillis(60));
+    }
+
+    @Test(description = "loginAs leaves the browser logged in as the default profile")
+    public void loginAsShowsLoggedInUser() {
+        loginAs("default");
+
+        HomePage home = new HomePage(driver);
+        home.open();
+        Assert.assertTrue(home.isLoaded(), "Home page should be loaded");
+        Assert.assertTrue(new LoginPage(driver).isLoggedIn(), "User should be logged in");
+    }
+
+    @Test(description = "A saved session is restored without another UI login")
+    public void savedSessionIsRestored() throws Exception {
+        SessionSnapshotStore store = newStore();
+        store.login(driver, "default");
+        driver.manage().deleteAllCookies();
+
+        store.login(driver, "default");
+
+        Assert.assertTrue(new LoginPage(driver).isLoggedIn(), "User should be logged in after restore");
+        Assert.assertEquals(store.getLoginCount(), 1, "UI logins");
+        Assert.assertEquals(store.getRestoredCount(), 1, "Restored sessions");
+    }
+
+    @Test(description = "A session the site rejects is dropped and the user logged in again")
+    public void rejectedSessionIsInvalidated() throws Exception {
+        SessionSnapshotStore store = newStore();
+        store.login(driver, "default");
+        SessionSnapshot saved = store.get("default");
+        List<Cookie> rejected = new ArrayList<>();
+        for (Cookie cookie : saved.getCookies()) {
+            rejected.add(new Cookie.Builder(cookie.getName(), "invalid").domain(cookie.getDomain())
+                .path(cookie.getPath()).isHttpOnly(cookie.isHttpOnly()).isSecure(cookie.isSecure()).build());
+        }
+        store.save(new SessionSnapshot("default", saved.getCapturedAt(), rejected,
+            saved.getLocalStorage(), saved.getSessionStorage()));
+        driver.manage().deleteAllCookies();
+
+        store.login(driver, "default");
+
+        Assert.assertTrue(new LoginPage(driver).isLoggedIn(), "User should be logged in again");
+        Assert.assertEquals(store.getInvalidatedCount(), 1, "Invalidated snapshots");
+        Assert.assertEquals(store.getLoginCount(), 2, "UI logins");
+        Assert.assertEquals(store.getRestoredCount(), 0, "Restored sessions");
+    }
+}
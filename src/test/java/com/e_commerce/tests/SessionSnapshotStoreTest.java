@@ -0,0 +1,75 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.core.SessionSnapshot;
+import com.e_commerce.core.SessionSnapshotStore;
+import org.openqa.selenium.Cookie;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Date;
+
+/**
+ * Unit tests for session snapshot persistence and invalidation (no browser needed)
+ */
+public class SessionSnapshotStoreTest {
+
+    private Path directory;
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("sessions");
+    }
+
+    private SessionSnapshot snapshot(long capturedAt, Date cookieExpiry) {
+        Cookie cookie = new Cookie.Builder("sessionid", "abc123")
+            .domain("automationexercise.com").path("/").isHttpOnly(true).expiresOn(cookieExpiry).build();
+        return new SessionSnapshot("buyer", capturedAt, Collections.singletonList(cookie),
+            Collections.singletonMap("theme", "dark"), Collections.singletonMap("tab", "1"));
+    }
+
+    @Test
+    public void testSnapshotSurvivesRestartThroughDisk() {
+        long now = System.currentTimeMillis();
+        new SessionSnapshotStore(directory, 60_000).save(snapshot(now, new Date(now + 3_600_000)));
+
+        SessionSnapshot loaded = new SessionSnapshotStore(directory, 60_000).get("buyer");
+
+        Assert.assertNotNull(loaded);
+        Cookie cookie = loaded.getCookies().get(0);
+        Assert.assertEquals(cookie.getValue(), "abc123");
+        Assert.assertTrue(cookie.isHttpOnly());
+        Assert.assertEquals(cookie.getExpiry().getTime() / 1000, (now + 3_600_000) / 1000);
+        Assert.assertEquals(loaded.getLocalStorage().get("theme"), "dark");
+        Assert.assertEquals(loaded.getSessionStorage().get("tab"), "1");
+    }
+
+    @Test
+    public void testExpiredSnapshotIsDropped() {
+        long now = System.currentTimeMillis();
+        SessionSnapshotStore store = new SessionSnapshotStore(directory, 60_000);
+
+        store.save(snapshot(now - 120_000, null));
+        Assert.assertNull(store.get("buyer"), "Snapshot older than max age");
+        Assert.assertFalse(Files.exists(directory.resolve("buyer.json")));
+
+        store.save(snapshot(now, new Date(now - 1000)));
+        Assert.assertNull(store.get("buyer"), "Snapshot with an expired cookie");
+    }
+
+    @Test
+    public void testInvalidateRemovesMemoryAndDisk() {
+        SessionSnapshotStore store = new SessionSnapshotStore(directory, 60_000);
+        store.save(snapshot(System.currentTimeMillis(), null));
+        Assert.assertTrue(Files.exists(directory.resolve("buyer.json")));
+
+        store.invalidate("buyer");
+
+        Assert.assertNull(store.get("buyer"));
+        Assert.assertFalse(Files.exists(directory.resolve("buyer.json")));
+    }
+}
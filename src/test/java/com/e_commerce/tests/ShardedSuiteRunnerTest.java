@@ -0,0 +1,41 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.core.ShardedSuiteRunner;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for balancing test classes across shards (no browser needed)
+ */
+public class ShardedSuiteRunnerTest {
+
+    @Test
+    public void testLongestClassesAreSpreadFirst() {
+        Map<String, Long> durations = new LinkedHashMap<>();
+        durations.put("Short1", 10L);
+        durations.put("Long", 100L);
+        durations.put("Medium", 60L);
+        durations.put("Short2", 30L);
+
+        List<List<String>> shards = ShardedSuiteRunner.assign(durations, 2);
+
+        Assert.assertEquals(shards.get(0), Arrays.asList("Long"));
+        Assert.assertEquals(shards.get(1), Arrays.asList("Medium", "Short2", "Short1"));
+    }
+
+    @Test
+    public void testEmptyShardsAreDropped() {
+        Map<String, Long> durations = new LinkedHashMap<>();
+        durations.put("OnlyClass", 40L);
+
+        List<List<String>> shards = ShardedSuiteRunner.assign(durations, 3);
+
+        Assert.assertEquals(shards.size(), 1);
+        Assert.assertEquals(shards.get(0), Arrays.asList("OnlyClass"));
+    }
+}
@@ -1,5 +1,6 @@
 package com.e_commerce.tests;
 
+import com.e_commerce.api.CartSeeder;
 import com.e_commerce.core.BaseTest;
 import com.e_commerce.pages.*;
 import com.e_commerce.utils.CsvUtil;
@@ -25,21 +26,10 @@ public class ShippingMethodTest extends BaseTest {
     
     @Test(description = "Verify standard shipping method selection", priority = 1)
     public void testSelectStandardShipping() {
-        // Setup: Add product and navigate to shipping
-        HomePage home = new HomePage(driver);
-        home.open();
-        
-        ProductsPage products = new ProductsPage(driver);
-        products.openFromNavbar();
-        products.addFirstProductToCart();
-        
-        CartPage cart = new CartPage(driver);
-        cart.openFromModal();
+        // Setup: seed the cart over HTTP and start on checkout
+        new CartSeeder(driver).addFirstProduct().openCheckout();
         
         try {
-            cart.proceedToCheckout();
-            Thread.sleep(2000);
-            
             // Fill address
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
@@ -66,20 +56,9 @@ public class ShippingMethodTest extends BaseTest {
     
     @Test(description = "Verify express shipping has higher cost than standard", priority = 2)
     public void testExpressShippingCostHigherThanStandard() {
-        HomePage home = new HomePage(driver);
-        home.open();
-        
-        ProductsPage products = new ProductsPage(driver);
-        products.openFromNavbar();
-        products.addFirstProductToCart();
-        
-        CartPage cart = new CartPage(driver);
-        cart.openFromModal();
+        new CartSeeder(driver).addFirstProduct().openCheckout();
         
         try {
-            cart.proceedToCheckout();
-            Thread.sleep(2000);
-            
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
                 "Test", "User", "456 Avenue",
@@ -113,20 +92,9 @@ public class ShippingMethodTest extends BaseTest {
     
     @Test(description = "Verify shipping cost calculation in order total", priority = 3)
     public void testShippingCostCalculation() {
-        HomePage home = new HomePage(driver);
-        home.open();
-        
-        ProductsPage products = new ProductsPage(driver);
-        products.openFromNavbar();
-        products.addFirstProductToCart();
-        
-        CartPage cart = new CartPage(driver);
-        cart.openFromModal();
+        new CartSeeder(driver).addFirstProduct().openCheckout();
         
         try {
-            cart.proceedToCheckout();
-            Thread.sleep(2000);
-            
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
                 "Test", "User", "789 Road",
@@ -162,30 +130,10 @@ public class ShippingMethodTest extends BaseTest {
     
     @Test(description = "Verify free shipping threshold", priority = 4)
     public void testFreeShippingThreshold() {
-        HomePage home = new HomePage(driver);
-        home.open();
+        // Add the product twice to meet the free shipping threshold
+        new CartSeeder(driver).addFirstProduct().addFirstProduct().openCheckout();
         
-        ProductsPage products = new ProductsPage(driver);
-        products.openFromNavbar();
-        
-        // Add multiple products to meet free shipping threshold
-        products.addFirstProductToCart();
         try {
-            Thread.sleep(1000);
-            driver.navigate().back();
-            Thread.sleep(1000);
-            products.addFirstProductToCart();
-        } catch (Exception e) {
-            // Continue if adding second product fails
-        }
-        
-        CartPage cart = new CartPage(driver);
-        cart.openFromModal();
-        
-        try {
-            cart.proceedToCheckout();
-            Thread.sleep(2000);
-            
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
                 "Test", "User", "111 Boulevard",
@@ -217,20 +165,9 @@ public class ShippingMethodTest extends BaseTest {
     
     @Test(description = "Verify delivery time is displayed for shipping methods", priority = 5)
     public void testDeliveryTimeDisplay() {
-        HomePage home = new HomePage(driver);
-        home.open();
-        
-        ProductsPage products = new ProductsPage(driver);
-        products.openFromNavbar();
-        products.addFirstProductToCart();
-        
-        CartPage cart = new CartPage(driver);
-        cart.openFromModal();
+        new CartSeeder(driver).addFirstProduct().openCheckout();
         
         try {
-            cart.proceedToCheckout();
-            Thread.sleep(2000);
-            
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
                 "Test", "User", "222 Circle",
@@ -264,20 +201,9 @@ public class ShippingMethodTest extends BaseTest {
     @Test(description = "Verify shipping cost changes based on address", priority = 6)
     public void testShippingCostByAddress() {
         // Test domestic address
-        HomePage home = new HomePage(driver);
-        home.open();
-        
-        ProductsPage products = new ProductsPage(driver);
-        products.openFromNavbar();
-        products.addFirstProductToCart();
-        
-        CartPage cart = new CartPage(driver);
-        cart.openFromModal();
+        new CartSeeder(driver).addFirstProduct().openCheckout();
         
         try {
-            cart.proceedToCheckout();
-            Thread.sleep(2000);
-            
             AddressPage addressPage = new AddressPage(driver);
             
             // Try local address
@@ -304,20 +230,9 @@ public class ShippingMethodTest extends BaseTest {
     
     @Test(description = "Verify at least one shipping method must be selected", priority = 7)
     public void testShippingMethodRequired() {
-        HomePage home = new HomePage(driver);
-        home.open();
-        
-        ProductsPage products = new ProductsPage(driver);
-        products.openFromNavbar();
-        products.addFirstProductToCart();
-        
-        CartPage cart = new CartPage(driver);
-        cart.openFromModal();
+        new CartSeeder(driver).addFirstProduct().openCheckout();
         
         try {
-            cart.proceedToCheckout();
-            Thread.sleep(2000);
-            
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
                 "Test", "User", "444 Test Ave",
@@ -345,20 +260,9 @@ public class ShippingMethodTest extends BaseTest {
     
     @Test(description = "Verify available shipping methods count", priority = 8)
     public void testAvailableShippingMethodsCount() {
-        HomePage home = new HomePage(driver);
-        home.open();
-        
-        ProductsPage products = new ProductsPage(driver);
-        products.openFromNavbar();
-        products.addFirstProductToCart();
-        
-        CartPage cart = new CartPage(driver);
-        cart.openFromModal();
+        new CartSeeder(driver).addFirstProduct().openCheckout();
         
         try {
-            cart.proceedToCheckout();
-            Thread.sleep(2000);
-            
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
                 "Test", "User", "555 Test Road",
@@ -383,20 +287,9 @@ public class ShippingMethodTest extends BaseTest {
     
     @Test(description = "Verify back navigation from shipping page preserves address", priority = 9)
     public void testBackNavigationPreservesAddress() {
-        HomePage home = new HomePage(driver);
-        home.open();
-        
-        ProductsPage products = new ProductsPage(driver);
-        products.openFromNavbar();
-        products.addFirstProductToCart();
-        
-        CartPage cart = new CartPage(driver);
-        cart.openFromModal();
+        new CartSeeder(driver).addFirstProduct().openCheckout();
         
         try {
-            cart.proceedToCheckout();
-            Thread.sleep(2000);
-            
             AddressPage addressPage = new AddressPage(driver);
             String expectedCity = "Ahmedabad";
             
@@ -434,20 +327,9 @@ public class ShippingMethodTest extends BaseTest {
     @Test(dataProvider = "shippingTestData", description = "Data-driven shipping method tests", priority = 10)
     public void testShippingWithDataProvider(String testCase, String shippingMethod, 
                                             String minCost, String maxCost, String expectedResult) {
-        HomePage home = new HomePage(driver);
-        home.open();
-        
-        ProductsPage products = new ProductsPage(driver);
-        products.openFromNavbar();
-        products.addFirstProductToCart();
-        
-        CartPage cart = new CartPage(driver);
-        cart.openFromModal();
+        new CartSeeder(driver).addFirstProduct().openCheckout();
         
         try {
-            cart.proceedToCheckout();
-            Thread.sleep(2000);
-            
             AddressPage addressPage = new AddressPage(driver);
             addressPage.fillMinimalAddress(
                 "Test", "User", "Test Address",
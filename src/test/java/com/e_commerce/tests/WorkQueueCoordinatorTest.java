@@ -0,0 +1,160 @@
+package com.e_commerce.tests;
+
+import com.e_commerce.core.WorkQueueCoordinator;
+import com.e_commerce.core.WorkQueueCoordinator.WorkItem;
+import com.e_commerce.utils.CsvUtil;
+import com.e_commerce.utils.DurationHistory;
+import org.testng.Assert;
+import org.testng.annotations.Parameters;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Unit tests for splitting a suite into work-queue items, and a localhost run of the
+ * coordinator with two worker JVMs over the fixture classes below (no browser needed).
+ * The fixtures are not public, so TestNG does not pick them up as nested tests of this class.
+ */
+public class WorkQueueCoordinatorTest {
+
+    /** Three methods linked by dependsOnMethods */
+    static class ChainedFixture {
+        @Test
+        public void first() {
+        }
+
+        @Test(dependsOnMethods = "first")
+        public void second() {
+        }
+
+        @Test(dependsOnMethods = "second")
+        public void third() {
+        }
+    }
+
+    /** Three unrelated methods */
+    static class IndependentFixture {
+        @Test
+        public void one() {
+        }
+
+        @Test
+        public void two() {
+        }
+
+        @Test
+        public void three() {
+        }
+    }
+
+    /**
+     * Fails a test and then kills its worker JVM the first time it runs, passes once the marker exists
+     */
+    static class CrashOnceFixture {
+        @Test(priority = 1)
+        @Parameters("crashMarker")
+        public void failsBeforeCrash(String marker) {
+            Assert.assertTrue(Files.exists(Paths.get(marker)), "Fails on the first attempt");
+        }
+
+        @Test(priority = 2)
+        @Parameters("crashMarker")
+        public void crashesFirstTime(String marker) throws IOException {
+            Path path = Paths.get(marker);
+            if (Files.notExists(path)) {
+                Files.createFile(path);
+                Runtime.getRuntime().halt(1);
+            }
+        }
+    }
+
+    private static XmlTest addTest(XmlSuite suite, String name, XmlSuite.ParallelMode parallel, Class<?>... classes) {
+        XmlTest test = new XmlTest(suite);
+        test.setName(name);
+        test.setParallel(parallel);
+        for (Class<?> type : classes) {
+            test.getXmlClasses().add(new XmlClass(type.getName(), false));
+        }
+        return test;
+    }
+
+    private static DurationHistory emptyHistory() throws Exception {
+        Path dir = Files.createTempDirectory("work-queue");
+        return new DurationHistory(dir.resolve("history.properties"), 0.5);
+    }
+
+    @Test
+    public void testMethodsBlockIsSplitByDependencyChain() throws Exception {
+        XmlSuite suite = new XmlSuite();
+        addTest(suite, "Methods", XmlSuite.ParallelMode.METHODS, ChainedFixture.class, IndependentFixture.class);
+
+        List<WorkItem> items = WorkQueueCoordinator.planWorkItems(suite, emptyHistory(), 1000);
+
+        Assert.assertEquals(items.size(), 4);
+        Assert.assertEquals(items.get(0).getClassName(), ChainedFixture.class.getName());
+        Assert.assertEquals(items.get(0).getMethods(), Arrays.asList("first", "second", "third"));
+        Assert.assertEquals(items.get(0).getEstimateMs(), 3000);
+        for (WorkItem item : items.subList(1, 4)) {
+            Assert.assertEquals(item.getClassName(), IndependentFixture.class.getName());
+            Assert.assertEquals(item.getMethods().size(), 1);
+        }
+    }
+
+    @Test
+    public void testOtherBlocksRunWholeClassesLongestFirst() throws Exception {
+        DurationHistory history = emptyHistory();
+        history.record(IndependentFixture.class.getName() + ".one", 50000);
+
+        XmlSuite suite = new XmlSuite();
+        addTest(suite, "Classes", XmlSuite.ParallelMode.CLASSES, ChainedFixture.class, IndependentFixture.class);
+
+        List<WorkItem> items = WorkQueueCoordinator.planWorkItems(suite, history, 1000);
+
+        Assert.assertEquals(items.size(), 2);
+        Assert.assertEquals(items.get(0).getClassName(), IndependentFixture.class.getName());
+        Assert.assertEquals(items.get(0).getMethods(), Collections.emptyList());
+        Assert.assertEquals(Arrays.asList(items.get(1).getClassName(), items.get(1).getEstimateMs()),
+            Arrays.asList(ChainedFixture.class.getName(), 3000L));
+    }
+
+    @Test(timeOut = 180000)
+    public void testWorkersRunEveryItemOnceAndRetryCrashedItems() throws Exception {
+        Path dir = Files.createTempDirectory("work-queue-run");
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Work queue fixture");
+        addTest(suite, "Distributed", XmlSuite.ParallelMode.NONE, IndependentFixture.class, CrashOnceFixture.class)
+            .setParameters(Collections.singletonMap("crashMarker", dir.resolve("crashed").toString()));
+        Path suiteFile = dir.resolve("suite.xml");
+        Files.write(suiteFile, suite.toXml().getBytes(StandardCharsets.UTF_8));
+
+        DurationHistory history = new DurationHistory(dir.resolve("history.properties"), 0.5);
+        int failed = new WorkQueueCoordinator(suiteFile, dir.resolve("out"), 2, history).run();
+
+        Assert.assertTrue(Files.exists(dir.resolve("crashed")), "A worker crashed on the first attempt");
+        Map<String, Integer> runs = new TreeMap<>();
+        for (Map<String, String> row : new CsvUtil().readCsvAsMapList(
+                dir.resolve("out").resolve("work_queue_results.csv").toString())) {
+            Assert.assertEquals(row.get("Status"), "PASS", row.toString());
+            String method = row.get("Method");
+            runs.merge(method.substring(method.lastIndexOf('.') + 1), 1, Integer::sum);
+        }
+        // The FAIL sent before the crash was dropped with the retried item
+        Map<String, Integer> once = new TreeMap<>();
+        Arrays.asList("one", "two", "three", "failsBeforeCrash", "crashesFirstTime").forEach(m -> once.put(m, 1));
+        Assert.assertEquals(runs, once);
+        Assert.assertEquals(failed, 0);
+        Assert.assertEquals(history.size(), 5);
+    }
+}
@@ -0,0 +1,111 @@
+package com.e_commerce.utils;
+
+import com.e_commerce.core.FrameworkConfig;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Response time of every API test call, one {@link LatencyHistogram} (microseconds) per
+ * endpoint path for the whole run, read by the latency budgets and written to api_latency.csv.
+ */
+public class ApiLatencyTelemetry {
+
+    private static final String REPORT_PATH = FrameworkConfig.reportFile("api_latency.csv");
+    private static final List<String> HEADERS = Arrays.asList(
+        "Endpoint", "Calls", "P50Ms", "P90Ms", "P95Ms", "P99Ms", "MaxMs");
+    private static final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Record one call
+     * @param endpoint Request path, e.g. /api/searchProduct
+     */
+    public static void record(String endpoint, long micros) {
+        histograms.computeIfAbsent(endpoint, e -> new LatencyHistogram()).recordValue(micros);
+    }
+
+    public static long getCount(String endpoint) {
+        LatencyHistogram histogram = histograms.get(endpoint);
+        return histogram == null ? 0 : histogram.getTotalCount();
+    }
+
+    /**
+     * Latency at a percentile (0..100) in milliseconds, 0 if the endpoint was not called
+     */
+    public static double getPercentileMs(String endpoint, double percentile) {
+        LatencyHistogram histogram = histograms.get(endpoint);
+        return histogram == null ? 0 : histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * "calls 14: p50 210.00, p90 480.00, p95 512.00, p99 610.00, max 650.00 ms"
+     */
+    public static String getBreakdown(String endpoint) {
+        List<String> row = toRow(endpoint);
+        return String.format("calls %s: p50 %s, p90 %s, p95 %s, p99 %s, max %s ms",
+            row.get(1), row.get(2), row.get(3), row.get(4), row.get(5), row.get(6));
+    }
+
+    public static boolean isEmpty() {
+        return histograms.isEmpty();
+    }
+
+    public static void reset() {
+        histograms.clear();
+    }
+
+    public static List<String> getHeaders() {
+        return HEADERS;
+    }
+
+    /**
+     * Report rows sorted by endpoint
+     */
+    public static List<List<String>> getRows() {
+        List<List<String>> rows = new ArrayList<>();
+        new TreeMap<>(histograms).keySet().forEach(endpoint -> rows.add(toRow(endpoint)));
+        return rows;
+    }
+
+    /**
+     * Write the latency table to CSV
+     */
+    public static void writeCsv() {
+        if (histograms.isEmpty()) {
+            return;
+        }
+        List<Map<String, String>> data = new ArrayList<>();
+        for (List<String> row : getRows()) {
+            Map<String, String> map = new LinkedHashMap<>();
+            for (int i = 0; i < HEADERS.size(); i++) {
+                map.put(HEADERS.get(i), row.get(i));
+            }
+            data.add(map);
+        }
+        try {
+            new CsvUtil().writeCsv(REPORT_PATH, data, HEADERS);
+            System.out.println("API latency report saved: " + REPORT_PATH);
+        } catch (IOException e) {
+            System.err.println("Failed to write API latency report: " + e.getMessage());
+        }
+    }
+
+    private static List<String> toRow(String endpoint) {
+        LatencyHistogram histogram = histograms.getOrDefault(endpoint, new LatencyHistogram());
+        return Arrays.asList(endpoint, String.valueOf(histogram.getTotalCount()),
+            ms(histogram.getValueAtPercentile(50)), ms(histogram.getValueAtPercentile(90)),
+            ms(histogram.getValueAtPercentile(95)), ms(histogram.getValueAtPercentile(99)),
+            ms(histogram.getMaxValue()));
+    }
+
+    private static String ms(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+}
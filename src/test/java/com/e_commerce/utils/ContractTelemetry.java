@@ -0,0 +1,134 @@
+package com.e_commerce.utils;
+
+import com.e_commerce.core.FrameworkConfig;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cost of the API schema contracts per endpoint path: how long each schema took to compile and
+ * how long each response took to validate (a {@link LatencyHistogram} in nanoseconds), written to
+ * api_contracts.csv.
+ */
+public class ContractTelemetry {
+
+    private static final String REPORT_PATH = FrameworkConfig.reportFile("api_contracts.csv");
+    private static final List<String> HEADERS = Arrays.asList(
+        "Endpoint", "Validations", "Violations", "CompileMs", "MeanUs", "P50Us", "P99Us", "MaxUs");
+    private static final ConcurrentMap<String, Stats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * Record loading and compiling one endpoint's schema
+     * @param endpoint Request path, e.g. /api/productsList
+     */
+    public static void recordCompile(String endpoint, long nanos) {
+        statsFor(endpoint).compileNanos.set(nanos);
+    }
+
+    /**
+     * Record one response checked against its schema
+     */
+    public static void recordValidation(String endpoint, long nanos, boolean valid) {
+        Stats s = statsFor(endpoint);
+        s.validation.recordValue(nanos);
+        if (!valid) {
+            s.violations.incrementAndGet();
+        }
+    }
+
+    public static long getValidations(String endpoint) {
+        Stats s = stats.get(endpoint);
+        return s == null ? 0 : s.validation.getTotalCount();
+    }
+
+    public static long getViolations(String endpoint) {
+        Stats s = stats.get(endpoint);
+        return s == null ? 0 : s.violations.get();
+    }
+
+    /**
+     * "Contract checks: 120 responses, 0 violations, 85.3 us mean validation per response"
+     */
+    public static String getSummary() {
+        long validations = 0;
+        long violations = 0;
+        double totalNanos = 0;
+        for (Stats s : stats.values()) {
+            validations += s.validation.getTotalCount();
+            violations += s.violations.get();
+            totalNanos += s.validation.getMean() * s.validation.getTotalCount();
+        }
+        return String.format("Contract checks: %d responses, %d violations, %.1f us mean validation per response",
+            validations, violations, validations == 0 ? 0 : totalNanos / validations / 1000.0);
+    }
+
+    public static boolean isEmpty() {
+        return stats.isEmpty();
+    }
+
+    public static void reset() {
+        stats.clear();
+    }
+
+    public static List<String> getHeaders() {
+        return HEADERS;
+    }
+
+    /**
+     * Report rows sorted by endpoint
+     */
+    public static List<List<String>> getRows() {
+        List<List<String>> rows = new ArrayList<>();
+        new TreeMap<>(stats).forEach((endpoint, s) -> rows.add(Arrays.asList(endpoint,
+            String.valueOf(s.validation.getTotalCount()), String.valueOf(s.violations.get()),
+            String.format("%.2f", s.compileNanos.get() / 1_000_000.0), us(s.validation.getMean()),
+            us(s.validation.getValueAtPercentile(50)), us(s.validation.getValueAtPercentile(99)),
+            us(s.validation.getMaxValue()))));
+        return rows;
+    }
+
+    /**
+     * Write the contract table to CSV
+     */
+    public static void writeCsv() {
+        if (stats.isEmpty()) {
+            return;
+        }
+        List<Map<String, String>> data = new ArrayList<>();
+        for (List<String> row : getRows()) {
+            Map<String, String> map = new LinkedHashMap<>();
+            for (int i = 0; i < HEADERS.size(); i++) {
+                map.put(HEADERS.get(i), row.get(i));
+            }
+            data.add(map);
+        }
+        try {
+            new CsvUtil().writeCsv(REPORT_PATH, data, HEADERS);
+            System.out.println("API contract report saved: " + REPORT_PATH);
+        } catch (IOException e) {
+            System.err.println("Failed to write API contract report: " + e.getMessage());
+        }
+    }
+
+    private static Stats statsFor(String endpoint) {
+        return stats.computeIfAbsent(endpoint, e -> new Stats());
+    }
+
+    private static String us(double nanos) {
+        return String.format("%.1f", nanos / 1000.0);
+    }
+
+    private static class Stats {
+        final LatencyHistogram validation = new LatencyHistogram();
+        final AtomicLong violations = new AtomicLong();
+        final AtomicLong compileNanos = new AtomicLong();
+    }
+}
@@ -0,0 +1,101 @@
+package com.e_commerce.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-method duration history used to plan parallel runs. Each run's duration is
+ * blended into an exponentially weighted moving average and kept in a properties
+ * file keyed by the method's qualified name.
+ */
+public class DurationHistory {
+
+    private final Path file;
+    private final double alpha;
+    private final Map<String, Long> averages = new ConcurrentHashMap<>();
+
+    public DurationHistory(Path file, double alpha) {
+        this.file = file;
+        this.alpha = Math.min(1.0, Math.max(0.0, alpha));
+        load();
+    }
+
+    public DurationHistory(String file, double alpha) {
+        this(Paths.get(file), alpha);
+    }
+
+    /**
+     * @return average duration in ms, or null if the method has never run
+     */
+    public Long getEstimate(String key) {
+        return averages.get(key);
+    }
+
+    /**
+     * Blend one observed duration into the average
+     */
+    public void record(String key, long durationMs) {
+        averages.merge(key, durationMs, (old, now) -> Math.round(alpha * now + (1 - alpha) * old));
+    }
+
+    /**
+     * Copy of all averages, keyed by qualified method name
+     */
+    public Map<String, Long> getEstimates() {
+        return new TreeMap<>(averages);
+    }
+
+    /**
+     * Replace an average as-is, e.g. when folding in a history updated by another JVM
+     */
+    public void put(String key, long averageMs) {
+        averages.put(key, averageMs);
+    }
+
+    public int size() {
+        return averages.size();
+    }
+
+    public void save() {
+        Properties props = new Properties();
+        new TreeMap<>(averages).forEach((k, v) -> props.setProperty(k, String.valueOf(v)));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (OutputStream os = Files.newOutputStream(file)) {
+                props.store(os, "Method durations in ms (EWMA, alpha=" + alpha + ")");
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to save duration history: " + e.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        Properties props = new Properties();
+        try (InputStream is = Files.newInputStream(file)) {
+            props.load(is);
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable duration history " + file + ": " + e.getMessage());
+            return;
+        }
+        for (String key : props.stringPropertyNames()) {
+            try {
+                averages.put(key, Long.parseLong(props.getProperty(key).trim()));
+            } catch (NumberFormatException e) {
+                // Skip corrupt entry
+            }
+        }
+    }
+}
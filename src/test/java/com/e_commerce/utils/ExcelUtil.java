@@ -277,6 +277,44 @@ public class ExcelUtil {
         }
     }
     
+    /**
+     * Write a simple table to its own sheet in the same workbook
+     * @param sheetName Name of the sheet (replaced if it already exists)
+     * @param headers Column headers
+     * @param rows Row values in header order
+     */
+    public void writeTable(String sheetName, List<String> headers, List<List<String>> rows) {
+        int existing = workbook.getSheetIndex(sheetName);
+        if (existing >= 0) {
+            workbook.removeSheetAt(existing);
+        }
+        Sheet tableSheet = workbook.createSheet(sheetName);
+        
+        CellStyle headerStyle = workbook.createCellStyle();
+        Font headerFont = workbook.createFont();
+        headerFont.setBold(true);
+        headerStyle.setFont(headerFont);
+        
+        Row headerRow = tableSheet.createRow(0);
+        for (int i = 0; i < headers.size(); i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(headers.get(i));
+            cell.setCellStyle(headerStyle);
+        }
+        
+        for (int r = 0; r < rows.size(); r++) {
+            Row row = tableSheet.createRow(r + 1);
+            List<String> values = rows.get(r);
+            for (int i = 0; i < values.size(); i++) {
+                row.createCell(i).setCellValue(values.get(i));
+            }
+        }
+        
+        for (int i = 0; i < headers.size(); i++) {
+            tableSheet.autoSizeColumn(i);
+        }
+    }
+    
     /**
      * Save and close the workbook
      */
@@ -3,7 +3,9 @@ package com.e_commerce.utils;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.aventstack.extentreports.reporter.JsonFormatter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
+import com.e_commerce.core.FrameworkConfig;
 
 import java.io.File;
 import java.text.SimpleDateFormat;
@@ -24,19 +26,15 @@ public class ExtentReportManager {
     public static ExtentReports createInstance() {
         if (extent == null) {
             String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
-            reportPath = "test-output/ExtentReport_" + timestamp + ".html";
-            
-            ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
-            
-            // Configure report
-            sparkReporter.config().setDocumentTitle("E-Commerce Automation Report");
-            sparkReporter.config().setReportName("Test Execution Report");
-            sparkReporter.config().setTheme(Theme.STANDARD);
-            sparkReporter.config().setEncoding("UTF-8");
-            sparkReporter.config().setTimeStampFormat("MMM dd, yyyy HH:mm:ss");
+            reportPath = FrameworkConfig.reportFile("ExtentReport_" + timestamp + ".html");
             
             extent = new ExtentReports();
-            extent.attachReporter(sparkReporter);
+            extent.attachReporter(createSparkReporter(reportPath));
+            
+            // JSON archive, used to merge the reports of sharded runs
+            if (FrameworkConfig.getBoolean("report.extentJson", false)) {
+                extent.attachReporter(new JsonFormatter(getJsonArchivePath()));
+            }
             
             // System information
             extent.setSystemInfo("Application", "E-Commerce Checkout");
@@ -92,6 +90,28 @@ public class ExtentReportManager {
         }
     }
     
+    /**
+     * HTML reporter with the framework's report settings
+     */
+    public static ExtentSparkReporter createSparkReporter(String path) {
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(path);
+        
+        // Configure report
+        sparkReporter.config().setDocumentTitle("E-Commerce Automation Report");
+        sparkReporter.config().setReportName("Test Execution Report");
+        sparkReporter.config().setTheme(Theme.STANDARD);
+        sparkReporter.config().setEncoding("UTF-8");
+        sparkReporter.config().setTimeStampFormat("MMM dd, yyyy HH:mm:ss");
+        return sparkReporter;
+    }
+    
+    /**
+     * Path of the JSON archive written when report.extentJson=true
+     */
+    public static String getJsonArchivePath() {
+        return FrameworkConfig.reportFile("extent.json");
+    }
+    
     /**
      * Get report file path
      */
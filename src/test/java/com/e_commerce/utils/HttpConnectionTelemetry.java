@@ -0,0 +1,138 @@
+package com.e_commerce.utils;
+
+import com.e_commerce.core.FrameworkConfig;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Connection reuse per API endpoint: how many requests went over a pooled keep-alive
+ * connection and how long opening the others took (TCP connect plus TLS handshake).
+ */
+public class HttpConnectionTelemetry {
+
+    private static final String REPORT_PATH = FrameworkConfig.reportFile("http_connections.csv");
+    private static final List<String> HEADERS = Arrays.asList(
+        "Endpoint", "Requests", "Reused", "ReuseRatio", "Handshakes", "AvgHandshakeMs", "MaxHandshakeMs");
+    private static final ConcurrentMap<String, Stats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * Record one request
+     * @param endpoint "METHOD /path"
+     * @param handshakeMs Time to open a new connection, or -1 if a pooled one was reused
+     */
+    public static void record(String endpoint, long handshakeMs) {
+        stats.computeIfAbsent(endpoint, Stats::new).add(handshakeMs);
+    }
+
+    public static boolean isEmpty() {
+        return stats.isEmpty();
+    }
+
+    public static void reset() {
+        stats.clear();
+    }
+
+    public static List<String> getHeaders() {
+        return HEADERS;
+    }
+
+    /**
+     * Report rows sorted by number of new connections, most first
+     */
+    public static List<List<String>> getRows() {
+        List<List<String>> rows = new ArrayList<>();
+        stats.values().stream()
+            .sorted(Comparator.comparingLong(Stats::handshakes).reversed().thenComparing(s -> s.endpoint))
+            .forEach(s -> rows.add(s.toRow()));
+        return rows;
+    }
+
+    /**
+     * Share of all requests that reused a pooled connection, 0..1
+     */
+    public static double getReuseRatio() {
+        long requests = 0;
+        long reused = 0;
+        for (Stats s : stats.values()) {
+            synchronized (s) {
+                requests += s.requests;
+                reused += s.requests - s.handshakes;
+            }
+        }
+        return requests == 0 ? 0 : (double) reused / requests;
+    }
+
+    public static String getSummary() {
+        long requests = stats.values().stream().mapToLong(Stats::requests).sum();
+        long handshakes = stats.values().stream().mapToLong(Stats::handshakes).sum();
+        return String.format("API connections: %d requests, %d new connections, reuse ratio %.0f%%",
+            requests, handshakes, getReuseRatio() * 100);
+    }
+
+    /**
+     * Write the telemetry table to CSV
+     */
+    public static void writeCsv() {
+        if (stats.isEmpty()) {
+            return;
+        }
+        List<Map<String, String>> data = new ArrayList<>();
+        for (List<String> row : getRows()) {
+            Map<String, String> map = new LinkedHashMap<>();
+            for (int i = 0; i < HEADERS.size(); i++) {
+                map.put(HEADERS.get(i), row.get(i));
+            }
+            data.add(map);
+        }
+        try {
+            new CsvUtil().writeCsv(REPORT_PATH, data, HEADERS);
+            System.out.println("HTTP connection telemetry saved: " + REPORT_PATH);
+        } catch (IOException e) {
+            System.err.println("Failed to write HTTP connection telemetry: " + e.getMessage());
+        }
+    }
+
+    private static class Stats {
+        private final String endpoint;
+        private long requests;
+        private long handshakes;
+        private long totalHandshakeMs;
+        private long maxHandshakeMs;
+
+        Stats(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        synchronized void add(long handshakeMs) {
+            requests++;
+            if (handshakeMs >= 0) {
+                handshakes++;
+                totalHandshakeMs += handshakeMs;
+                maxHandshakeMs = Math.max(maxHandshakeMs, handshakeMs);
+            }
+        }
+
+        synchronized long requests() {
+            return requests;
+        }
+
+        synchronized long handshakes() {
+            return handshakes;
+        }
+
+        synchronized List<String> toRow() {
+            return Arrays.asList(endpoint, String.valueOf(requests), String.valueOf(requests - handshakes),
+                String.format("%.2f", requests == 0 ? 0 : (double) (requests - handshakes) / requests),
+                String.valueOf(handshakes), String.valueOf(handshakes == 0 ? 0 : totalHandshakeMs / handshakes),
+                String.valueOf(maxHandshakeMs));
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.e_commerce.utils;
+
+import java.util.Arrays;
+
+/**
+ * Latency histogram with HdrHistogram's bucket layout: a linear run of sub-buckets per power
+ * of two, so every recorded value keeps a fixed number of significant digits at any magnitude
+ * in a few KB, and percentiles are exact to that precision. Values are plain longs; callers
+ * pick the unit (the load runner records microseconds).
+ *
+ * Recording is synchronized. Per-thread histograms merged with {@link #add} afterwards avoid
+ * contention entirely.
+ */
+public class LatencyHistogram {
+
+    /** One hour in microseconds */
+    public static final long DEFAULT_HIGHEST_VALUE = 3_600_000_000L;
+
+    private final long highestTrackableValue;
+    private final int significantDigits;
+    private final int subBucketHalfCountMagnitude;
+    private final int subBucketHalfCount;
+    private final long subBucketMask;
+    private final long[] counts;
+    private long totalCount;
+    private long minValue = Long.MAX_VALUE;
+    private long maxValue;
+    private double sum;
+
+    /**
+     * Up to one hour of microseconds, 2 significant digits
+     */
+    public LatencyHistogram() {
+        this(DEFAULT_HIGHEST_VALUE, 2);
+    }
+
+    /**
+     * @param highestTrackableValue Larger values are recorded as this value
+     * @param significantDigits Decimal digits kept for every value, 1..4
+     */
+    public LatencyHistogram(long highestTrackableValue, int significantDigits) {
+        if (significantDigits < 1 || significantDigits > 4) {
+            throw new IllegalArgumentException("significantDigits must be 1..4: " + significantDigits);
+        }
+        this.highestTrackableValue = Math.max(2, highestTrackableValue);
+        this.significantDigits = significantDigits;
+        // Enough sub-buckets for single unit resolution up to 2 * 10^digits
+        long singleUnitResolution = 2 * (long) Math.pow(10, significantDigits);
+        int subBucketCountMagnitude = 64 - Long.numberOfLeadingZeros(singleUnitResolution - 1);
+        subBucketHalfCountMagnitude = subBucketCountMagnitude - 1;
+        subBucketHalfCount = 1 << subBucketHalfCountMagnitude;
+        subBucketMask = (1L << subBucketCountMagnitude) - 1;
+
+        int bucketCount = 1;
+        long smallestUntrackable = 1L << subBucketCountMagnitude;
+        while (smallestUntrackable <= this.highestTrackableValue && smallestUntrackable > 0) {
+            smallestUntrackable <<= 1;
+            bucketCount++;
+        }
+        counts = new long[(bucketCount + 1) * subBucketHalfCount];
+    }
+
+    public synchronized void recordValue(long value) {
+        recordValue(value, 1);
+    }
+
+    private void recordValue(long value, long count) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative latency: " + value);
+        }
+        long clamped = Math.min(value, highestTrackableValue);
+        counts[index(clamped)] += count;
+        totalCount += count;
+        sum += (double) clamped * count;
+        minValue = Math.min(minValue, clamped);
+        maxValue = Math.max(maxValue, clamped);
+    }
+
+    /**
+     * Add every value recorded in another histogram with the same range and precision
+     */
+    public void add(LatencyHistogram other) {
+        long[] otherCounts;
+        long otherTotal;
+        long otherMin;
+        long otherMax;
+        double otherSum;
+        synchronized (other) {
+            if (other.counts.length != counts.length || other.significantDigits != significantDigits) {
+                throw new IllegalArgumentException("Histograms have different ranges or precision");
+            }
+            otherCounts = other.counts.clone();
+            otherTotal = other.totalCount;
+            otherMin = other.minValue;
+            otherMax = other.maxValue;
+            otherSum = other.sum;
+        }
+        synchronized (this) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += otherCounts[i];
+            }
+            totalCount += otherTotal;
+            sum += otherSum;
+            minValue = Math.min(minValue, otherMin);
+            maxValue = Math.max(maxValue, otherMax);
+        }
+    }
+
+    /**
+     * Smallest recorded value that at least the given percentage of values are at or below,
+     * to the histogram's precision (0 when empty)
+     * @param percentile 0..100
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double requested = Math.min(Math.max(percentile, 0), 100);
+        long countAtPercentile = Math.max(1, (long) Math.ceil(requested / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= countAtPercentile) {
+                return Math.min(highestEquivalentValue(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    public synchronized long getTotalCount() {
+        return totalCount;
+    }
+
+    public synchronized long getMinValue() {
+        return totalCount == 0 ? 0 : minValue;
+    }
+
+    public synchronized long getMaxValue() {
+        return maxValue;
+    }
+
+    public synchronized double getMean() {
+        return totalCount == 0 ? 0 : sum / totalCount;
+    }
+
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum = 0;
+        minValue = Long.MAX_VALUE;
+        maxValue = 0;
+    }
+
+    /**
+     * Bucket = power of two above the first sub-bucket run, sub-bucket = value shifted down into the run
+     */
+    private int index(long value) {
+        int bucket = 63 - Long.numberOfLeadingZeros(value | subBucketMask) - subBucketHalfCountMagnitude;
+        int subBucket = (int) (value >>> bucket);
+        return bucket * subBucketHalfCount + subBucket;
+    }
+
+    private long highestEquivalentValue(int index) {
+        int bucket = index / subBucketHalfCount - 1;
+        long subBucket = index % subBucketHalfCount + subBucketHalfCount;
+        if (bucket < 0) {
+            return subBucket - subBucketHalfCount;
+        }
+        return (subBucket << bucket) + (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,165 @@
+package com.e_commerce.utils;
+
+import com.e_commerce.core.FrameworkConfig;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * What the shared rate limiter did per channel (api, page): how long callers queued for a
+ * permit (a {@link LatencyHistogram} in microseconds), how often the site pushed back, and how
+ * the permitted rate moved. Written to rate_limit.csv.
+ */
+public class RateLimitTelemetry {
+
+    private static final String REPORT_PATH = FrameworkConfig.reportFile("rate_limit.csv");
+    private static final List<String> HEADERS = Arrays.asList(
+        "Channel", "Permits", "Queued", "P50WaitMs", "P99WaitMs", "MaxWaitMs", "TotalWaitSec", "Throttled", "Timeouts");
+    private static final ConcurrentMap<String, Stats> stats = new ConcurrentHashMap<>();
+    private static final AtomicLong slowDowns = new AtomicLong();
+    private static volatile double currentRate;
+    private static volatile double lowestRate;
+
+    /**
+     * Record one permit and the time the caller waited for it
+     * @param channel api or page
+     */
+    public static void recordWait(String channel, long micros) {
+        Stats s = statsFor(channel);
+        s.wait.recordValue(micros);
+        if (micros > 0) {
+            s.queued.incrementAndGet();
+        }
+    }
+
+    /**
+     * Record a 429 or 5xx answer
+     */
+    public static void recordThrottled(String channel) {
+        statsFor(channel).throttled.incrementAndGet();
+    }
+
+    public static void recordTimeout(String channel) {
+        statsFor(channel).timeouts.incrementAndGet();
+    }
+
+    /**
+     * Record the permitted rate after a change
+     * @param slowDown true when the rate was cut
+     */
+    public static synchronized void recordRate(double permitsPerSec, boolean slowDown) {
+        currentRate = permitsPerSec;
+        lowestRate = lowestRate == 0 ? permitsPerSec : Math.min(lowestRate, permitsPerSec);
+        if (slowDown) {
+            slowDowns.incrementAndGet();
+        }
+    }
+
+    public static long getPermits(String channel) {
+        Stats s = stats.get(channel);
+        return s == null ? 0 : s.wait.getTotalCount();
+    }
+
+    public static long getThrottled(String channel) {
+        Stats s = stats.get(channel);
+        return s == null ? 0 : s.throttled.get();
+    }
+
+    public static long getSlowDowns() {
+        return slowDowns.get();
+    }
+
+    /**
+     * "Rate limiter: 340 permits, 41 queued for 12.3 s in total, 3 slow-downs, rate 6.5/s (lowest 4.0/s)"
+     */
+    public static String getSummary() {
+        long permits = 0;
+        long queued = 0;
+        double waitSec = 0;
+        for (Stats s : stats.values()) {
+            permits += s.wait.getTotalCount();
+            queued += s.queued.get();
+            waitSec += totalWaitSec(s);
+        }
+        return String.format("Rate limiter: %d permits, %d queued for %.1f s in total, %d slow-downs, rate %.1f/s (lowest %.1f/s)",
+            permits, queued, waitSec, slowDowns.get(), currentRate, lowestRate);
+    }
+
+    public static boolean isEmpty() {
+        return stats.isEmpty();
+    }
+
+    public static synchronized void reset() {
+        stats.clear();
+        slowDowns.set(0);
+        currentRate = 0;
+        lowestRate = 0;
+    }
+
+    public static List<String> getHeaders() {
+        return HEADERS;
+    }
+
+    /**
+     * Report rows sorted by channel
+     */
+    public static List<List<String>> getRows() {
+        List<List<String>> rows = new ArrayList<>();
+        new TreeMap<>(stats).forEach((channel, s) -> rows.add(Arrays.asList(channel,
+            String.valueOf(s.wait.getTotalCount()), String.valueOf(s.queued.get()),
+            ms(s.wait.getValueAtPercentile(50)), ms(s.wait.getValueAtPercentile(99)), ms(s.wait.getMaxValue()),
+            String.format("%.2f", totalWaitSec(s)), String.valueOf(s.throttled.get()),
+            String.valueOf(s.timeouts.get()))));
+        return rows;
+    }
+
+    /**
+     * Write the rate limiter table to CSV
+     */
+    public static void writeCsv() {
+        if (stats.isEmpty()) {
+            return;
+        }
+        List<Map<String, String>> data = new ArrayList<>();
+        for (List<String> row : getRows()) {
+            Map<String, String> map = new LinkedHashMap<>();
+            for (int i = 0; i < HEADERS.size(); i++) {
+                map.put(HEADERS.get(i), row.get(i));
+            }
+            data.add(map);
+        }
+        try {
+            new CsvUtil().writeCsv(REPORT_PATH, data, HEADERS);
+            System.out.println("Rate limiter report saved: " + REPORT_PATH);
+        } catch (IOException e) {
+            System.err.println("Failed to write rate limiter report: " + e.getMessage());
+        }
+    }
+
+    private static Stats statsFor(String channel) {
+        return stats.computeIfAbsent(channel, c -> new Stats());
+    }
+
+    private static double totalWaitSec(Stats s) {
+        return s.wait.getMean() * s.wait.getTotalCount() / 1_000_000.0;
+    }
+
+    private static String ms(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+
+    private static class Stats {
+        final LatencyHistogram wait = new LatencyHistogram();
+        final AtomicLong queued = new AtomicLong();
+        final AtomicLong throttled = new AtomicLong();
+        final AtomicLong timeouts = new AtomicLong();
+    }
+}
@@ -1,5 +1,6 @@
 package com.e_commerce.utils;
 
+import com.e_commerce.core.LazyDriver;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
@@ -130,9 +131,14 @@ public class ScreenshotUtil {
     /**
      * Get WebDriver from test instance using reflection
      * @param testInstance Test class instance
-     * @return WebDriver instance or null
+     * @return WebDriver instance or null (also null if the test never started a browser)
      */
     public static WebDriver getDriverFromTestInstance(Object testInstance) {
+        WebDriver driver = findDriverField(testInstance);
+        return LazyDriver.isStarted(driver) ? driver : null;
+    }
+    
+    private static WebDriver findDriverField(Object testInstance) {
         try {
             // Try to get driver from BaseTest superclass
             java.lang.reflect.Field field = testInstance.getClass().getSuperclass().getDeclaredField("driver");
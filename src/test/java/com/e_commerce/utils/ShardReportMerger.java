@@ -0,0 +1,201 @@
+package com.e_commerce.utils;
+
+import com.aventstack.extentreports.ExtentReports;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Combines the reports written by the JVMs of a sharded run into one report per format:
+ * testng-results.xml, the Excel execution report and the Extent HTML report
+ * (rebuilt from each shard's Extent JSON archive).
+ */
+public class ShardReportMerger {
+
+    private static final List<String> COUNTS = Arrays.asList("ignored", "total", "passed", "failed", "skipped");
+    private static final List<String> STATUSES = Arrays.asList("PASS", "FAIL", "SKIP");
+
+    /**
+     * Sum the result counts and place every shard's &lt;test&gt; under a single &lt;suite&gt;
+     * @return merged counts (total, passed, failed, skipped, ignored)
+     */
+    public static Map<String, Integer> mergeTestNgResults(List<Path> shardResults, String suiteName, Path out)
+            throws Exception {
+        DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+        Document merged = builder.newDocument();
+        Element root = merged.createElement("testng-results");
+        merged.appendChild(root);
+        root.appendChild(merged.createElement("reporter-output"));
+        Element suite = merged.createElement("suite");
+        suite.setAttribute("name", suiteName);
+        Element groups = merged.createElement("groups");
+        suite.appendChild(groups);
+        root.appendChild(suite);
+
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        COUNTS.forEach(c -> counts.put(c, 0));
+        Map<String, Element> groupsByName = new LinkedHashMap<>();
+        String startedAt = null;
+        String finishedAt = null;
+        long durationMs = 0;
+
+        for (Path file : shardResults) {
+            if (!Files.exists(file)) {
+                continue;
+            }
+            Element shardRoot = builder.parse(file.toFile()).getDocumentElement();
+            for (String count : COUNTS) {
+                counts.merge(count, parseInt(shardRoot.getAttribute(count)), Integer::sum);
+            }
+            for (Element shardSuite : children(shardRoot, "suite")) {
+                // Timestamps share one format, so string order is time order
+                startedAt = min(startedAt, shardSuite.getAttribute("started-at"));
+                finishedAt = max(finishedAt, shardSuite.getAttribute("finished-at"));
+                durationMs = Math.max(durationMs, parseLong(shardSuite.getAttribute("duration-ms")));
+
+                for (Element shardGroups : children(shardSuite, "groups")) {
+                    for (Element group : children(shardGroups, "group")) {
+                        Element target = groupsByName.get(group.getAttribute("name"));
+                        if (target == null) {
+                            target = (Element) merged.importNode(group, true);
+                            groupsByName.put(group.getAttribute("name"), target);
+                            groups.appendChild(target);
+                        } else {
+                            for (Element method : children(group, "method")) {
+                                target.appendChild(merged.importNode(method, true));
+                            }
+                        }
+                    }
+                }
+                for (Element test : children(shardSuite, "test")) {
+                    suite.appendChild(merged.importNode(test, true));
+                }
+            }
+        }
+
+        counts.forEach((k, v) -> root.setAttribute(k, String.valueOf(v)));
+        suite.setAttribute("duration-ms", String.valueOf(durationMs));
+        suite.setAttribute("started-at", startedAt == null ? "" : startedAt);
+        suite.setAttribute("finished-at", finishedAt == null ? "" : finishedAt);
+
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        stripWhitespace(root);
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.transform(new DOMSource(merged), new StreamResult(out.toFile()));
+        System.out.println("Merged TestNG results saved: " + out);
+        return counts;
+    }
+
+    /**
+     * Copy the test case rows of each shard workbook into one report with a fresh summary
+     * @param shardSheets Shard workbook path mapped to the sheet holding its results
+     */
+    public static void mergeExcel(Map<Path, String> shardSheets, String sheetName, String out) throws IOException {
+        // ExcelUtil appends to an existing workbook, start from an empty one
+        Files.deleteIfExists(Paths.get(out));
+        ExcelUtil mergedExcel = new ExcelUtil(out, sheetName);
+        mergedExcel.createTestCaseHeader();
+        for (Map.Entry<Path, String> entry : shardSheets.entrySet()) {
+            if (!Files.exists(entry.getKey())) {
+                continue;
+            }
+            List<Map<String, String>> rows = new ArrayList<>();
+            for (Map<String, String> row : new ExcelUtil(entry.getKey().toString(), entry.getValue()).readTestCases()) {
+                // Summary rows have no status
+                if (STATUSES.contains(row.get("Status"))) {
+                    Map<String, String> testCase = new LinkedHashMap<>();
+                    testCase.put("name", row.get("Test Case Name"));
+                    testCase.put("steps", row.get("Steps"));
+                    testCase.put("expected", row.get("Expected Result"));
+                    testCase.put("actual", row.get("Actual Result"));
+                    testCase.put("status", row.get("Status"));
+                    rows.add(testCase);
+                }
+            }
+            mergedExcel.writeTestCases(rows);
+        }
+        mergedExcel.addTestSummary();
+        mergedExcel.save();
+        System.out.println("Merged Excel report saved: " + out);
+    }
+
+    /**
+     * Rebuild one Extent HTML report from the shards' JSON archives (report.extentJson=true)
+     */
+    public static void mergeExtent(List<Path> jsonArchives, String out) throws Exception {
+        ExtentReports extent = new ExtentReports();
+        extent.attachReporter(ExtentReportManager.createSparkReporter(out));
+        for (Path archive : jsonArchives) {
+            if (Files.exists(archive)) {
+                extent.createDomainFromJsonArchive(archive.toFile());
+            }
+        }
+        extent.flush();
+        System.out.println("Merged Extent report saved: " + new File(out).getAbsolutePath());
+    }
+
+    private static List<Element> children(Element parent, String tag) {
+        List<Element> found = new ArrayList<>();
+        NodeList nodes = parent.getChildNodes();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Node node = nodes.item(i);
+            if (node.getNodeType() == Node.ELEMENT_NODE && tag.equals(node.getNodeName())) {
+                found.add((Element) node);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Drop the shards' indentation so the merged file is indented consistently
+     */
+    private static void stripWhitespace(Node node) {
+        NodeList nodes = node.getChildNodes();
+        for (int i = nodes.getLength() - 1; i >= 0; i--) {
+            Node child = nodes.item(i);
+            if (child.getNodeType() == Node.TEXT_NODE && child.getTextContent().trim().isEmpty()) {
+                node.removeChild(child);
+            } else if (child.getNodeType() == Node.ELEMENT_NODE) {
+                stripWhitespace(child);
+            }
+        }
+    }
+
+    private static String min(String current, String value) {
+        return value.isEmpty() || (current != null && current.compareTo(value) <= 0) ? current : value;
+    }
+
+    private static String max(String current, String value) {
+        return value.isEmpty() || (current != null && current.compareTo(value) >= 0) ? current : value;
+    }
+
+    private static int parseInt(String value) {
+        return value.isEmpty() ? 0 : Integer.parseInt(value);
+    }
+
+    private static long parseLong(String value) {
+        return value.isEmpty() ? 0 : Long.parseLong(value);
+    }
+}
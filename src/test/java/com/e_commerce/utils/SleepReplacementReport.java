@@ -0,0 +1,100 @@
+package com.e_commerce.utils;
+
+import com.e_commerce.core.FrameworkConfig;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Collects how much time condition-based waits saved compared with the
+ * fixed Thread.sleep calls they replaced, per test method.
+ */
+public class SleepReplacementReport {
+
+    private static final String REPORT_PATH = FrameworkConfig.reportFile("sleep_replacement_report.csv");
+    private static final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Record one replaced sleep for the currently running test
+     * @param budgetMs Fixed sleep that used to run here
+     * @param actualMs Time the condition-based wait took
+     * @param settled false if the page was still busy when the budget ran out
+     */
+    public static void record(long budgetMs, long actualMs, boolean settled) {
+        entries.computeIfAbsent(currentTestName(), k -> new Entry()).add(budgetMs, actualMs, settled);
+    }
+
+    public static long getTotalSavedMs() {
+        return entries.values().stream().mapToLong(Entry::savedMs).sum();
+    }
+
+    /**
+     * Print the per-test table and write it to CSV
+     */
+    public static void writeReport() {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<Map<String, String>> rows = new ArrayList<>();
+        System.out.println("\n========== Sleep Replacement Report ==========");
+        entries.entrySet().stream()
+            .sorted((a, b) -> Long.compare(b.getValue().savedMs(), a.getValue().savedMs()))
+            .forEach(e -> {
+                Entry entry = e.getValue();
+                System.out.printf("%-70s waits=%-3d sleep=%6d ms  actual=%6d ms  saved=%6d ms%n",
+                    e.getKey(), entry.count, entry.budgetMs, entry.actualMs, entry.savedMs());
+
+                Map<String, String> row = new LinkedHashMap<>();
+                row.put("Test", e.getKey());
+                row.put("ReplacedSleeps", String.valueOf(entry.count));
+                row.put("SleepBudgetMs", String.valueOf(entry.budgetMs));
+                row.put("ActualWaitMs", String.valueOf(entry.actualMs));
+                row.put("SavedMs", String.valueOf(entry.savedMs()));
+                row.put("Unsettled", String.valueOf(entry.unsettled));
+                rows.add(row);
+            });
+        System.out.println("Total time saved: " + getTotalSavedMs() + " ms");
+        System.out.println("==============================================\n");
+
+        try {
+            new CsvUtil().writeCsv(REPORT_PATH, rows, null);
+        } catch (IOException e) {
+            System.err.println("Failed to write sleep replacement report: " + e.getMessage());
+        }
+    }
+
+    private static String currentTestName() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        if (result == null) {
+            return "(outside test)";
+        }
+        return result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+    }
+
+    private static class Entry {
+        private int count;
+        private int unsettled;
+        private long budgetMs;
+        private long actualMs;
+
+        synchronized void add(long budget, long actual, boolean settled) {
+            count++;
+            budgetMs += budget;
+            actualMs += actual;
+            if (!settled) {
+                unsettled++;
+            }
+        }
+
+        synchronized long savedMs() {
+            return budgetMs - actualMs;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.e_commerce.utils;
+
+import com.e_commerce.core.FrameworkConfig;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Aggregated wait statistics keyed by page class, element field and condition.
+ * Used to find slow or over-polled waits.
+ */
+public class WaitTelemetry {
+
+    private static final String REPORT_PATH = FrameworkConfig.reportFile("wait_telemetry.csv");
+    private static final List<String> HEADERS = Arrays.asList(
+        "Location", "Condition", "Waits", "TotalMs", "AvgMs", "MaxMs", "TotalPolls", "AvgPolls", "Timeouts");
+    private static final ConcurrentMap<String, Stats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * Record one completed (or timed out) wait
+     * @param location "PageClass.fieldName"
+     * @param condition e.g. "visible", "clickable"
+     */
+    public static void record(String location, String condition, long elapsedMs, int polls, boolean timedOut) {
+        stats.computeIfAbsent(location + "|" + condition, k -> new Stats(location, condition))
+            .add(elapsedMs, polls, timedOut);
+    }
+
+    public static boolean isEmpty() {
+        return stats.isEmpty();
+    }
+
+    public static List<String> getHeaders() {
+        return HEADERS;
+    }
+
+    /**
+     * Report rows sorted by total wait time, slowest first
+     */
+    public static List<List<String>> getRows() {
+        List<List<String>> rows = new ArrayList<>();
+        stats.values().stream()
+            .sorted(Comparator.comparingLong(Stats::totalMs).reversed())
+            .forEach(s -> rows.add(s.toRow()));
+        return rows;
+    }
+
+    /**
+     * Write the telemetry table to CSV
+     */
+    public static void writeCsv() {
+        if (stats.isEmpty()) {
+            return;
+        }
+        List<Map<String, String>> data = new ArrayList<>();
+        for (List<String> row : getRows()) {
+            Map<String, String> map = new LinkedHashMap<>();
+            for (int i = 0; i < HEADERS.size(); i++) {
+                map.put(HEADERS.get(i), row.get(i));
+            }
+            data.add(map);
+        }
+        try {
+            new CsvUtil().writeCsv(REPORT_PATH, data, HEADERS);
+            System.out.println("Wait telemetry saved: " + REPORT_PATH);
+        } catch (IOException e) {
+            System.err.println("Failed to write wait telemetry: " + e.getMessage());
+        }
+    }
+
+    private static class Stats {
+        private final String location;
+        private final String condition;
+        private long count;
+        private long totalMs;
+        private long maxMs;
+        private long totalPolls;
+        private long timeouts;
+
+        Stats(String location, String condition) {
+            this.location = location;
+            this.condition = condition;
+        }
+
+        synchronized void add(long elapsedMs, int polls, boolean timedOut) {
+            count++;
+            totalMs += elapsedMs;
+            maxMs = Math.max(maxMs, elapsedMs);
+            totalPolls += polls;
+            if (timedOut) {
+                timeouts++;
+            }
+        }
+
+        synchronized long totalMs() {
+            return totalMs;
+        }
+
+        synchronized List<String> toRow() {
+            return Arrays.asList(
+                location,
+                condition,
+                String.valueOf(count),
+                String.valueOf(totalMs),
+                String.valueOf(count == 0 ? 0 : totalMs / count),
+                String.valueOf(maxMs),
+                String.valueOf(totalPolls),
+                String.format("%.1f", count == 0 ? 0.0 : (double) totalPolls / count),
+                String.valueOf(timeouts));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+// Client behaviour of the storefront pages: add/remove cart items, subscription, search, modals
+(function () {
+    function show(id) {
+        var element = document.getElementById(id);
+        if (element) {
+            element.style.display = 'block';
+        }
+    }
+
+    function hide(id) {
+        var element = document.getElementById(id);
+        if (element) {
+            element.style.display = 'none';
+        }
+    }
+
+    function request(method, url, body) {
+        return fetch(url, {
+            method: method,
+            credentials: 'same-origin',
+            headers: {'X-Requested-With': 'XMLHttpRequest', 'Content-Type': 'application/x-www-form-urlencoded'},
+            body: body
+        });
+    }
+
+    document.addEventListener('click', function (event) {
+        var target = event.target.closest('a, button');
+        if (!target) {
+            return;
+        }
+        if (target.classList.contains('add-to-cart') || target.classList.contains('cart')) {
+            event.preventDefault();
+            var quantity = document.getElementById('quantity');
+            var suffix = target.classList.contains('cart') && quantity ? '?quantity=' + quantity.value : '';
+            request('GET', '/add_to_cart/' + target.getAttribute('data-product-id') + suffix)
+                .then(function () { show('cartModal'); });
+        } else if (target.classList.contains('close-modal')) {
+            hide('cartModal');
+        } else if (target.classList.contains('close-checkout-modal')) {
+            hide('checkoutModal');
+        } else if (target.classList.contains('cart_quantity_delete')) {
+            event.preventDefault();
+            var id = target.getAttribute('data-product-id');
+            request('GET', '/delete_cart/' + id).then(function () {
+                var row = document.getElementById('product-' + id);
+                if (row) {
+                    row.parentNode.removeChild(row);
+                }
+                if (!document.querySelector('#cart_info_table tbody tr')) {
+                    show('empty_cart');
+                }
+            });
+        } else if (target.classList.contains('check_out') && target.hasAttribute('data-logged-in')) {
+            event.preventDefault();
+            if (target.getAttribute('data-logged-in') === 'true') {
+                window.location.href = '/checkout';
+            } else {
+                show('checkoutModal');
+            }
+        } else if (target.id === 'submit_search') {
+            var search = document.getElementById('search_product').value;
+            window.location.href = '/products?search=' + encodeURIComponent(search);
+        }
+    });
+
+    var subscribe = document.getElementById('subscribe-form');
+    if (subscribe) {
+        subscribe.addEventListener('submit', function (event) {
+            event.preventDefault();
+            var email = document.getElementById('susbscribe_email').value;
+            request('POST', '/subscribe/', 'email=' + encodeURIComponent(email))
+                .then(function () { show('success-subscribe'); });
+        });
+    }
+
+    var contact = document.getElementById('contact-us-form');
+    if (contact) {
+        contact.addEventListener('submit', function (event) {
+            if (!window.confirm('Press OK to proceed!')) {
+                event.preventDefault();
+            }
+        });
+    }
+})();